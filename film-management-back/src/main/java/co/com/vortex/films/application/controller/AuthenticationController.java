@@ -1,8 +1,10 @@
 package co.com.vortex.films.application.controller;
 
 import co.com.vortex.films.application.service.IAuthenticationService;
+import co.com.vortex.films.application.service.ITokenService;
 import co.com.vortex.films.domain.dto.authentication.AuthenticationRequest;
 import co.com.vortex.films.domain.dto.authentication.AuthenticationResponse;
+import co.com.vortex.films.domain.dto.authentication.JwksResponse;
 import co.com.vortex.films.domain.dto.user.CreateUserRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,6 +12,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -21,6 +24,7 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Authentication", description = "Endpoints for user authentication and registration")
 public class AuthenticationController {
     private final IAuthenticationService authenticationService;
+    private final ITokenService tokenService;
 
     @Operation(summary = "User Login", description = "Authenticates a user using their credentials and returns a JWT token.")
     @PostMapping("/signIn")
@@ -28,6 +32,12 @@ public class AuthenticationController {
         return new ResponseEntity<>(authenticationService.signIn(authenticationRequest), HttpStatus.OK);
     }
 
+    @Operation(summary = "Signing keys", description = "Publishes the public keys that verify issued JWT tokens as a JSON Web Key Set.")
+    @GetMapping("/jwks")
+    public ResponseEntity<JwksResponse> getJwks() {
+        return new ResponseEntity<>(tokenService.getJwks(), HttpStatus.OK);
+    }
+
     @Operation(summary = "User Registration and Login", description = "Registers a new user and returns a JWT token.")
     @PostMapping("/signUp")
     public ResponseEntity<AuthenticationResponse > signUp(@RequestBody @Valid CreateUserRequest createUserRequest) throws Exception {
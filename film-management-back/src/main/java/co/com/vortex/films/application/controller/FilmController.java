@@ -1,9 +1,20 @@
 package co.com.vortex.films.application.controller;
 
+import co.com.vortex.films.application.service.IFilmImportService;
 import co.com.vortex.films.application.service.IFilmService;
+import co.com.vortex.films.domain.dto.cache.CacheStatsResponse;
 import co.com.vortex.films.domain.dto.film.CreateFilmRequest;
+import co.com.vortex.films.domain.dto.film.FilmImportResponse;
 import co.com.vortex.films.domain.dto.film.UpdateFilmRequest;
+import co.com.vortex.films.domain.dto.pagination.CursorRequest;
+import co.com.vortex.films.domain.dto.pagination.CursorResponse;
 import co.com.vortex.films.domain.dto.film.FilmResponse;
+import co.com.vortex.films.domain.dto.film.FilmSummaryResponse;
+import co.com.vortex.films.domain.mappers.FilmMapper;
+import co.com.vortex.films.domain.projections.CatalogVersion;
+import co.com.vortex.films.domain.projections.EntityVersion;
+import co.com.vortex.films.infrastructure.export.ExportFormat;
+import co.com.vortex.films.infrastructure.storage.SigningEpoch;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,13 +23,19 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.util.List;
 
 @RequiredArgsConstructor
 @RequestMapping("/film")
@@ -27,23 +44,69 @@ import java.io.IOException;
 @SecurityRequirement(name = "bearer-key")
 public class FilmController {
     private final IFilmService filmService;
+    private final IFilmImportService filmImportService;
 
     @Operation(summary = "Get all films", description = "Retrieves a paginated list of all films.")
     @GetMapping()
-    public ResponseEntity<Slice<FilmResponse>> findAll(@PageableDefault Pageable pageable) {
-        return new ResponseEntity<>(filmService.findAll(pageable), HttpStatus.OK);
+    public ResponseEntity<Slice<FilmResponse>> findAll(@PageableDefault Pageable pageable, WebRequest webRequest) {
+        SigningEpoch signingEpoch = filmService.getSigningEpoch();
+        CatalogVersion catalogVersion = filmService.findCatalogVersion();
+        if (webRequest.checkNotModified(catalogVersion.eTag(signingEpoch), catalogVersion.lastModified(signingEpoch))) return null;
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(catalogVersion.eTag(signingEpoch))
+                .lastModified(catalogVersion.lastModified(signingEpoch))
+                .body(filmService.findAll(pageable));
+    }
+
+    @Operation(summary = "Get all films by cursor", description = "Retrieves a keyset-paginated list of all films, continued through an opaque cursor.")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<FilmResponse>> findAll(@Valid CursorRequest cursorRequest) {
+        return new ResponseEntity<>(filmService.findAll(cursorRequest), HttpStatus.OK);
     }
 
     @Operation(summary = "Get all films enabled", description = "Retrieves a paginated list of all enabled films.")
     @GetMapping("/enabled")
-    public ResponseEntity<Slice<FilmResponse>> findAllEnabled(@PageableDefault Pageable pageable) {
-        return new ResponseEntity<>(filmService.findAllEnabled(pageable), HttpStatus.OK);
+    public ResponseEntity<Slice<FilmResponse>> findAllEnabled(@PageableDefault Pageable pageable, WebRequest webRequest) {
+        SigningEpoch signingEpoch = filmService.getSigningEpoch();
+        CatalogVersion catalogVersion = filmService.findEnabledCatalogVersion();
+        if (webRequest.checkNotModified(catalogVersion.eTag(signingEpoch), catalogVersion.lastModified(signingEpoch))) return null;
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(catalogVersion.eTag(signingEpoch))
+                .lastModified(catalogVersion.lastModified(signingEpoch))
+                .body(filmService.findAllEnabled(pageable));
+    }
+
+    @Operation(summary = "Get all films summaries", description = "Retrieves a paginated list of all films without their description.")
+    @GetMapping("/summary")
+    public ResponseEntity<Slice<FilmSummaryResponse>> findAllSummaries(@PageableDefault Pageable pageable) {
+        return new ResponseEntity<>(filmService.findAllSummaries(pageable), HttpStatus.OK);
+    }
+
+    @Operation(summary = "Get all films enabled summaries", description = "Retrieves a paginated list of all enabled films without their description.")
+    @GetMapping("/enabled/summary")
+    public ResponseEntity<Slice<FilmSummaryResponse>> findAllEnabledSummaries(@PageableDefault Pageable pageable) {
+        return new ResponseEntity<>(filmService.findAllEnabledSummaries(pageable), HttpStatus.OK);
     }
 
     @Operation(summary = "Get film by ID", description = "Retrieves a film by their unique ID.")
     @GetMapping("/{id}")
-    public ResponseEntity<FilmResponse> findById(@PathVariable Long id) {
-        return new ResponseEntity<>(filmService.findById(id), HttpStatus.OK);
+    public ResponseEntity<FilmResponse> findById(@PathVariable Long id, WebRequest webRequest) {
+        SigningEpoch signingEpoch = filmService.getSigningEpoch();
+        EntityVersion savedVersion = filmService.findVersionById(id);
+        if (webRequest.checkNotModified(savedVersion.eTag(signingEpoch), savedVersion.lastModified(signingEpoch))) return null;
+
+        FilmResponse film = filmService.findById(id);
+        EntityVersion filmVersion = FilmMapper.toEntityVersion(film);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(filmVersion.eTag(signingEpoch))
+                .lastModified(filmVersion.lastModified(signingEpoch))
+                .body(film);
     }
 
     @Operation(summary = "Get film by title", description = "Retrieves a film by their title.")
@@ -52,6 +115,12 @@ public class FilmController {
         return new ResponseEntity<>(filmService.findByTitle(title, pageable), HttpStatus.OK);
     }
 
+    @Operation(summary = "Search films", description = "Retrieves films ranked by relevance of their title and description, tolerating typos.")
+    @GetMapping("/search")
+    public ResponseEntity<Slice<FilmResponse>> search(@RequestParam String query, @PageableDefault Pageable pageable) {
+        return new ResponseEntity<>(filmService.search(query, pageable), HttpStatus.OK);
+    }
+
     @Operation(summary = "Save film", description = "Saves a new film and uploads its image.")
     @PostMapping(path = "/admin", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<FilmResponse> save(
@@ -62,6 +131,16 @@ public class FilmController {
         return new ResponseEntity<>(filmService.save(createFilmRequest, image, folder), HttpStatus.CREATED);
     }
 
+    @Operation(summary = "Import films", description = "Imports films in bulk from a CSV or JSON manifest and an optional ZIP archive with their images, reporting the rows that failed.")
+    @PostMapping(path = "/admin/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<FilmImportResponse> importFilms(
+            @RequestPart("manifest") MultipartFile manifest,
+            @RequestPart(value = "images", required = false) MultipartFile images,
+            @RequestParam(value = "folder", required = false) String folder
+    ) throws IOException {
+        return new ResponseEntity<>(filmImportService.importFilms(manifest, images, folder), HttpStatus.OK);
+    }
+
     @Operation(summary = "Update film", description = "Updates an existing films information.")
     @PutMapping("/admin")
     public ResponseEntity<FilmResponse> update(@RequestBody @Valid UpdateFilmRequest updateFilmRequest) {
@@ -81,4 +160,19 @@ public class FilmController {
 
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    @Operation(summary = "Get film cache statistics", description = "Retrieves hit, miss and eviction counters of the film catalog cache.")
+    @GetMapping("/admin/cache")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        return new ResponseEntity<>(filmService.getCacheStats(), HttpStatus.OK);
+    }
+
+    @Operation(summary = "Export films", description = "Streams every film as newline-delimited JSON or CSV.")
+    @GetMapping("/admin/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("films." + format.getExtension()).build().toString())
+                .body(outputStream -> filmService.export(format, outputStream));
+    }
 }
@@ -1,8 +1,16 @@
 package co.com.vortex.films.application.controller;
 
+import co.com.vortex.films.application.service.IIdempotencyService;
 import co.com.vortex.films.application.service.IPurchaseService;
+import co.com.vortex.films.domain.dto.pagination.CursorRequest;
+import co.com.vortex.films.domain.dto.pagination.CursorResponse;
 import co.com.vortex.films.domain.dto.purchase.CreatePurchaseRequest;
+import co.com.vortex.films.domain.dto.purchase.PurchaseReferenceResponse;
 import co.com.vortex.films.domain.dto.purchase.PurchaseResponse;
+import co.com.vortex.films.domain.dto.purchase.PurchaseSummaryResponse;
+import co.com.vortex.films.domain.validators.IdempotencyValidator;
+import co.com.vortex.films.infrastructure.export.ExportFormat;
+import co.com.vortex.films.infrastructure.security.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,9 +19,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
 
 @RequiredArgsConstructor
 @RequestMapping("/purchase")
@@ -22,6 +37,7 @@ import org.springframework.web.bind.annotation.*;
 @SecurityRequirement(name = "bearer-key")
 public class PurchaseController {
     private final IPurchaseService purchaseService;
+    private final IIdempotencyService idempotencyService;
 
     @Operation(summary = "Get all purchases", description = "Retrieves a paginated list of all purchases.")
     @GetMapping()
@@ -29,29 +45,80 @@ public class PurchaseController {
         return new ResponseEntity<>(purchaseService.findAll(pageable), HttpStatus.OK);
     }
 
+    @Operation(summary = "Get all purchases by cursor", description = "Retrieves a keyset-paginated list of all purchases, continued through an opaque cursor.")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<PurchaseResponse>> findAll(@Valid CursorRequest cursorRequest) {
+        return new ResponseEntity<>(purchaseService.findAll(cursorRequest), HttpStatus.OK);
+    }
+
+    @Operation(summary = "Get all purchases summaries", description = "Retrieves a paginated list of all purchases without their details.")
+    @GetMapping("/summary")
+    public ResponseEntity<Slice<PurchaseSummaryResponse>> findAllSummaries(@PageableDefault Pageable pageable) {
+        return new ResponseEntity<>(purchaseService.findAllSummaries(pageable), HttpStatus.OK);
+    }
+
     @Operation(summary = "Get all purchases by user", description = "Retrieves a paginated list of all purchases by user.")
     @GetMapping("/user/{userId}")
     public ResponseEntity<Slice<PurchaseResponse>> findByUserId(@PathVariable Long userId, @PageableDefault Pageable pageable) {
         return new ResponseEntity<>(purchaseService.findByUserId(userId, pageable), HttpStatus.OK);
     }
 
-    @Operation(summary = "Get purchase by ID", description = "Retrieves a purchase by their unique ID.")
+    @Operation(summary = "Get all purchases by user and cursor", description = "Retrieves a keyset-paginated list of all purchases by user, continued through an opaque cursor.")
+    @GetMapping("/user/{userId}/cursor")
+    public ResponseEntity<CursorResponse<PurchaseResponse>> findByUserId(@PathVariable Long userId, @Valid CursorRequest cursorRequest) {
+        return new ResponseEntity<>(purchaseService.findByUserId(userId, cursorRequest), HttpStatus.OK);
+    }
+
+    @Operation(summary = "Get all purchases summaries by user", description = "Retrieves a paginated list of all purchases by user without their details.")
+    @GetMapping("/user/{userId}/summary")
+    public ResponseEntity<Slice<PurchaseSummaryResponse>> findSummariesByUserId(@PathVariable Long userId, @PageableDefault Pageable pageable) {
+        return new ResponseEntity<>(purchaseService.findSummariesByUserId(userId, pageable), HttpStatus.OK);
+    }
+
+    @Operation(summary = "Get purchase by ID", description = "Retrieves a purchase by their unique ID. Passing its purchase date limits the lookup to that month's partition.")
     @GetMapping("/{id}")
-    public ResponseEntity<PurchaseResponse> findById(@PathVariable Long id) {
-        return new ResponseEntity<>(purchaseService.findById(id), HttpStatus.OK);
+    public ResponseEntity<PurchaseResponse> findById(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate purchaseDate
+    ) {
+        return new ResponseEntity<>(purchaseService.findById(id, purchaseDate), HttpStatus.OK);
+    }
+
+    @Operation(summary = "Get purchase by reference code", description = "Retrieves the ticket reference of a purchase by its reference code, for validation at the box office.")
+    @GetMapping("/reference/{referenceCode}")
+    public ResponseEntity<PurchaseReferenceResponse> findByReferenceCode(@PathVariable String referenceCode) {
+        return new ResponseEntity<>(purchaseService.findByReferenceCode(referenceCode), HttpStatus.OK);
     }
 
-    @Operation(summary = "Save purchase and purchase details", description = "Saves a new purchase and purchase detail.")
+    @Operation(summary = "Save purchase and purchase details", description = "Saves a new purchase and purchase detail. Retries sent with the same Idempotency-Key replay the original response.")
     @PostMapping()
-    public ResponseEntity<PurchaseResponse> save(@RequestBody @Valid CreatePurchaseRequest createPurchaseRequest) {
-        return new ResponseEntity<>(purchaseService.save(createPurchaseRequest), HttpStatus.CREATED);
+    public ResponseEntity<PurchaseResponse> save(
+            @RequestHeader(value = IdempotencyValidator.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody @Valid CreatePurchaseRequest createPurchaseRequest,
+            @AuthenticationPrincipal AuthenticatedUser authenticatedUser
+    ) {
+        if (idempotencyKey == null) return new ResponseEntity<>(purchaseService.save(createPurchaseRequest), HttpStatus.CREATED);
+
+        return new ResponseEntity<>(idempotencyService.execute(authenticatedUser.id(), idempotencyKey, createPurchaseRequest, PurchaseResponse.class, () -> purchaseService.save(createPurchaseRequest)), HttpStatus.CREATED);
     }
 
-    @Operation(summary = "Delete purchase", description = "Deletes a purchase by their unique ID.")
+    @Operation(summary = "Delete purchase", description = "Deletes a purchase by their unique ID. Passing its purchase date limits the lookup to that month's partition.")
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
-        purchaseService.delete(id);
+    public ResponseEntity<Void> delete(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate purchaseDate
+    ) {
+        purchaseService.delete(id, purchaseDate);
 
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    @Operation(summary = "Export purchases", description = "Streams every purchase line as newline-delimited JSON or CSV.")
+    @GetMapping("/admin/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("purchases." + format.getExtension()).build().toString())
+                .body(outputStream -> purchaseService.export(format, outputStream));
+    }
 }
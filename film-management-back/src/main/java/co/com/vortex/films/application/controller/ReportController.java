@@ -0,0 +1,67 @@
+package co.com.vortex.films.application.controller;
+
+import co.com.vortex.films.application.service.IReportService;
+import co.com.vortex.films.domain.dto.report.DailyRevenueResponse;
+import co.com.vortex.films.domain.dto.report.FilmSalesResponse;
+import co.com.vortex.films.domain.dto.report.GenreSalesResponse;
+import co.com.vortex.films.domain.dto.report.PaymentMethodSalesResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RequiredArgsConstructor
+@RequestMapping("/report/admin")
+@RestController
+@Tag(name = "Report", description = "Endpoints for revenue reporting from the daily sales rollups")
+@SecurityRequirement(name = "bearer-key")
+public class ReportController {
+    private final IReportService reportService;
+
+    @Operation(summary = "Get top films", description = "Retrieves the films with the highest revenue between two dates.")
+    @GetMapping("/top-films")
+    public ResponseEntity<List<FilmSalesResponse>> findTopFilms(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return new ResponseEntity<>(reportService.findTopFilms(from, to, limit), HttpStatus.OK);
+    }
+
+    @Operation(summary = "Get sales by genre", description = "Retrieves tickets and revenue per film genre between two dates.")
+    @GetMapping("/genres")
+    public ResponseEntity<List<GenreSalesResponse>> findGenreSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return new ResponseEntity<>(reportService.findGenreSales(from, to), HttpStatus.OK);
+    }
+
+    @Operation(summary = "Get revenue over time", description = "Retrieves purchases and revenue per day between two dates.")
+    @GetMapping("/revenue")
+    public ResponseEntity<List<DailyRevenueResponse>> findDailyRevenue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return new ResponseEntity<>(reportService.findDailyRevenue(from, to), HttpStatus.OK);
+    }
+
+    @Operation(summary = "Get payment method mix", description = "Retrieves purchases, revenue and share per payment method between two dates.")
+    @GetMapping("/payment-methods")
+    public ResponseEntity<List<PaymentMethodSalesResponse>> findPaymentMethodSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return new ResponseEntity<>(reportService.findPaymentMethodSales(from, to), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,69 @@
+package co.com.vortex.films.application.controller;
+
+import co.com.vortex.films.application.service.IScreeningService;
+import co.com.vortex.films.application.service.ISeatReservationService;
+import co.com.vortex.films.domain.dto.screening.CreateScreeningRequest;
+import co.com.vortex.films.domain.dto.screening.CreateSeatHoldRequest;
+import co.com.vortex.films.domain.dto.screening.ScreeningResponse;
+import co.com.vortex.films.domain.dto.screening.SeatHoldResponse;
+import co.com.vortex.films.infrastructure.security.AuthenticatedUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@RequestMapping("/screening")
+@RestController
+@Tag(name = "Screening", description = "Endpoints for managing screenings and seat holds")
+@SecurityRequirement(name = "bearer-key")
+public class ScreeningController {
+    private final IScreeningService screeningService;
+    private final ISeatReservationService seatReservationService;
+
+    @Operation(summary = "Get screenings by film", description = "Retrieves a paginated list of the screenings of a film in start order.")
+    @GetMapping("/film/{filmId}")
+    public ResponseEntity<Slice<ScreeningResponse>> findByFilmId(@PathVariable Long filmId, @PageableDefault Pageable pageable) {
+        return new ResponseEntity<>(screeningService.findByFilmId(filmId, pageable), HttpStatus.OK);
+    }
+
+    @Operation(summary = "Get screening by ID", description = "Retrieves a screening and its available seats by its unique ID.")
+    @GetMapping("/{id}")
+    public ResponseEntity<ScreeningResponse> findById(@PathVariable Long id) {
+        return new ResponseEntity<>(screeningService.findById(id), HttpStatus.OK);
+    }
+
+    @Operation(summary = "Save screening", description = "Saves a new screening with an empty seat inventory.")
+    @PostMapping("/admin")
+    public ResponseEntity<ScreeningResponse> save(@RequestBody @Valid CreateScreeningRequest createScreeningRequest) {
+        return new ResponseEntity<>(screeningService.save(createScreeningRequest), HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Hold seats", description = "Holds seats of a screening for a limited time so the authenticated user can purchase them.")
+    @PostMapping("/{id}/hold")
+    public ResponseEntity<SeatHoldResponse> hold(
+            @PathVariable Long id,
+            @RequestBody @Valid CreateSeatHoldRequest createSeatHoldRequest,
+            @AuthenticationPrincipal AuthenticatedUser authenticatedUser
+    ) {
+        return new ResponseEntity<>(seatReservationService.hold(id, authenticatedUser.id(), createSeatHoldRequest), HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Release seats", description = "Releases the seats of a hold of the authenticated user before it expires.")
+    @DeleteMapping("/hold/{holdId}")
+    public ResponseEntity<Void> release(@PathVariable UUID holdId, @AuthenticationPrincipal AuthenticatedUser authenticatedUser) {
+        seatReservationService.release(holdId, authenticatedUser.id());
+
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
@@ -1,9 +1,14 @@
 package co.com.vortex.films.application.controller;
 
 import co.com.vortex.films.application.service.IUserService;
+import co.com.vortex.films.domain.dto.pagination.CursorRequest;
+import co.com.vortex.films.domain.dto.pagination.CursorResponse;
 import co.com.vortex.films.domain.dto.user.CreateUserRequest;
 import co.com.vortex.films.domain.dto.user.UpdateUserRequest;
 import co.com.vortex.films.domain.dto.user.UserResponse;
+import co.com.vortex.films.domain.mappers.UserMapper;
+import co.com.vortex.films.domain.projections.EntityVersion;
+import co.com.vortex.films.infrastructure.export.ExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,9 +17,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RequiredArgsConstructor
 @RequestMapping("/user")
@@ -30,6 +40,12 @@ public class UserController {
         return new ResponseEntity<>(userService.findAll(pageable), HttpStatus.OK);
     }
 
+    @Operation(summary = "Get all users by cursor", description = "Retrieves a keyset-paginated list of all users, continued through an opaque cursor.")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<UserResponse>> findAll(@Valid CursorRequest cursorRequest) {
+        return new ResponseEntity<>(userService.findAll(cursorRequest), HttpStatus.OK);
+    }
+
     @Operation(summary = "Get all users enabled", description = "Retrieves a paginated list of all enabled users.")
     @GetMapping("/enabled")
     public ResponseEntity<Slice<UserResponse>> findAllEnabled(@PageableDefault Pageable pageable) {
@@ -38,14 +54,34 @@ public class UserController {
 
     @Operation(summary = "Get user by ID", description = "Retrieves a user by their unique ID.")
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponse> findById(@PathVariable Long id) {
-        return new ResponseEntity<>(userService.findById(id), HttpStatus.OK);
+    public ResponseEntity<UserResponse> findById(@PathVariable Long id, WebRequest webRequest) {
+        EntityVersion savedVersion = userService.findVersionById(id);
+        if (webRequest.checkNotModified(savedVersion.eTag(), savedVersion.lastModified())) return null;
+
+        UserResponse user = userService.findById(id);
+        EntityVersion userVersion = UserMapper.toEntityVersion(user);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(userVersion.eTag())
+                .lastModified(userVersion.lastModified())
+                .body(user);
     }
 
     @Operation(summary = "Get user by email", description = "Retrieves a user by their email address.")
     @GetMapping("/email/{email}")
-    public ResponseEntity<UserResponse> findByEmail(@PathVariable String email) {
-        return new ResponseEntity<>(userService.findByEmail(email), HttpStatus.OK);
+    public ResponseEntity<UserResponse> findByEmail(@PathVariable String email, WebRequest webRequest) {
+        EntityVersion savedVersion = userService.findVersionByEmail(email);
+        if (webRequest.checkNotModified(savedVersion.eTag(), savedVersion.lastModified())) return null;
+
+        UserResponse user = userService.findByEmail(email);
+        EntityVersion userVersion = UserMapper.toEntityVersion(user);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(userVersion.eTag())
+                .lastModified(userVersion.lastModified())
+                .body(user);
     }
 
     @Operation(summary = "User registration", description = "Registers a new user in the system.")
@@ -73,4 +109,13 @@ public class UserController {
 
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    @Operation(summary = "Export users", description = "Streams every user as newline-delimited JSON or CSV.")
+    @GetMapping("/admin/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("users." + format.getExtension()).build().toString())
+                .body(outputStream -> userService.export(format, outputStream));
+    }
 }
@@ -0,0 +1,38 @@
+package co.com.vortex.films.application.repository;
+
+import co.com.vortex.films.domain.models.EmailOutbox;
+import co.com.vortex.films.domain.models.EmailOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+    @Query(value = """
+            SELECT e.* FROM email_outbox e
+            WHERE e.status = 0 AND e.next_attempt_at <= :now
+            ORDER BY e.next_attempt_at
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<EmailOutbox> findDueForUpdate(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query("""
+            UPDATE EmailOutbox e
+            SET e.status = :status, e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError, e.sentAt = :sentAt
+            WHERE e.id = :id
+            """)
+    int updateDelivery(
+            @Param("id") Long id,
+            @Param("status") EmailOutboxStatus status,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("lastError") String lastError,
+            @Param("sentAt") LocalDateTime sentAt
+    );
+}
@@ -0,0 +1,61 @@
+package co.com.vortex.films.application.repository;
+
+import co.com.vortex.films.domain.models.FilmDailySales;
+import co.com.vortex.films.domain.models.FilmDailySalesId;
+import co.com.vortex.films.domain.projections.FilmSales;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface FilmDailySalesRepository extends JpaRepository<FilmDailySales, FilmDailySalesId> {
+    @Query("""
+            SELECT new co.com.vortex.films.domain.projections.FilmSales(s.filmId, f.title, SUM(s.tickets), SUM(s.revenue))
+            FROM FilmDailySales s
+            JOIN Film f ON f.id = s.filmId
+            WHERE s.salesDate BETWEEN :from AND :to
+            GROUP BY s.filmId, f.title
+            ORDER BY SUM(s.revenue) DESC, s.filmId
+            """)
+    List<FilmSales> findTopFilms(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO film_daily_sales (film_id, sales_date, tickets, revenue)
+            VALUES (:filmId, :salesDate, :tickets, :revenue)
+            ON CONFLICT (film_id, sales_date) DO UPDATE
+            SET tickets = film_daily_sales.tickets + EXCLUDED.tickets, revenue = film_daily_sales.revenue + EXCLUDED.revenue
+            """, nativeQuery = true)
+    int addSales(@Param("filmId") Long filmId, @Param("salesDate") LocalDate salesDate, @Param("tickets") long tickets, @Param("revenue") long revenue);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO film_daily_sales (film_id, sales_date, tickets, revenue)
+            SELECT d.film_id, CAST(p.purchase_date AS DATE), SUM(d.quantity), SUM(d.quantity * d.unit_price)
+            FROM purchases p
+            JOIN purchase_details d ON d.purchase_id = p.id AND d.purchase_date = p.purchase_date
+            WHERE p.purchase_date >= :from AND d.purchase_date >= :from
+            GROUP BY d.film_id, CAST(p.purchase_date AS DATE)
+            ON CONFLICT (film_id, sales_date) DO UPDATE
+            SET tickets = EXCLUDED.tickets, revenue = EXCLUDED.revenue
+            WHERE film_daily_sales.tickets <> EXCLUDED.tickets OR film_daily_sales.revenue <> EXCLUDED.revenue
+            """, nativeQuery = true)
+    int reconcileFrom(@Param("from") LocalDate from);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM film_daily_sales s
+            WHERE s.sales_date >= :from AND NOT EXISTS (
+                SELECT 1 FROM purchases p
+                JOIN purchase_details d ON d.purchase_id = p.id AND d.purchase_date = p.purchase_date
+                WHERE d.film_id = s.film_id AND p.purchase_date >= s.sales_date AND p.purchase_date < s.sales_date + 1
+            )
+            """, nativeQuery = true)
+    int deleteStaleFrom(@Param("from") LocalDate from);
+}
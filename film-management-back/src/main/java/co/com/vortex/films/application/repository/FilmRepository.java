@@ -1,13 +1,114 @@
 package co.com.vortex.films.application.repository;
 
 import co.com.vortex.films.domain.models.Film;
+import co.com.vortex.films.domain.projections.CatalogVersion;
+import co.com.vortex.films.domain.projections.EntityVersion;
+import co.com.vortex.films.domain.projections.FilmSummary;
+import co.com.vortex.films.domain.projections.PendingImageVariants;
+import co.com.vortex.films.infrastructure.export.DataExporter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface FilmRepository extends JpaRepository<Film, Long> {
+public interface FilmRepository extends KeysetRepository<Film, Long> {
     Slice<Film> findAllByEnabledTrue(Pageable pageable);
-    Slice<Film> findByTitleContainingIgnoreCase(String title, Pageable pageable);
+
+    @Query("""
+            SELECT new co.com.vortex.films.domain.projections.FilmSummary(
+                f.id, f.title, f.imageKey, f.thumbnailKey, f.cardKey, f.genre, f.classification, f.duration, f.ticketPrice, f.enabled
+            )
+            FROM Film f
+            """)
+    Slice<FilmSummary> findAllSummaries(Pageable pageable);
+
+    @Query("""
+            SELECT new co.com.vortex.films.domain.projections.FilmSummary(
+                f.id, f.title, f.imageKey, f.thumbnailKey, f.cardKey, f.genre, f.classification, f.duration, f.ticketPrice, f.enabled
+            )
+            FROM Film f
+            WHERE f.enabled = TRUE
+            """)
+    Slice<FilmSummary> findAllEnabledSummaries(Pageable pageable);
+
+    @Query("""
+            SELECT new co.com.vortex.films.domain.projections.CatalogVersion(
+                COUNT(f), COALESCE(MAX(f.id), 0), COALESCE(SUM(f.version), 0), MAX(f.updatedAt)
+            )
+            FROM Film f
+            """)
+    CatalogVersion findCatalogVersion();
+
+    @Query("""
+            SELECT new co.com.vortex.films.domain.projections.CatalogVersion(
+                COUNT(f), COALESCE(MAX(f.id), 0), COALESCE(SUM(f.version), 0), MAX(f.updatedAt)
+            )
+            FROM Film f
+            WHERE f.enabled = TRUE
+            """)
+    CatalogVersion findEnabledCatalogVersion();
+
+    @Query("SELECT new co.com.vortex.films.domain.projections.EntityVersion(f.id, f.version, f.updatedAt) FROM Film f WHERE f.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + DataExporter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT f FROM Film f ORDER BY f.id")
+    Stream<Film> streamAll();
+
+    @Modifying
+    @Query("""
+            UPDATE Film f
+            SET f.thumbnailKey = :thumbnailKey, f.cardKey = :cardKey, f.fullKey = :fullKey,
+                f.version = f.version + 1, f.updatedAt = :updatedAt
+            WHERE f.id = :id
+            """)
+    int updateImageVariants(
+            @Param("id") Long id,
+            @Param("thumbnailKey") String thumbnailKey,
+            @Param("cardKey") String cardKey,
+            @Param("fullKey") String fullKey,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Modifying
+    @Query(value = "UPDATE films SET variants_pending = :pending WHERE id = :id", nativeQuery = true)
+    int updateVariantsPending(@Param("id") Long id, @Param("pending") boolean pending);
+
+    @Query("SELECT new co.com.vortex.films.domain.projections.PendingImageVariants(f.id, f.imageKey) FROM Film f WHERE f.variantsPending = TRUE ORDER BY f.id")
+    List<PendingImageVariants> findPendingImageVariants(Limit limit);
+
+    // Each branch keeps only its best matches before the combined ranking, so a broad query never sorts the whole catalog.
+    @Query(value = """
+            WITH candidates AS (
+                (SELECT f.id FROM films f
+                 WHERE f.search_vector @@ websearch_to_tsquery('simple', :query)
+                 ORDER BY ts_rank_cd(f.search_vector, websearch_to_tsquery('simple', :query)) DESC, f.id
+                 LIMIT :maxCandidates)
+                UNION
+                (SELECT f.id FROM films f
+                 WHERE lower(:query) <% lower(f.title)
+                 ORDER BY word_similarity(lower(:query), lower(f.title)) DESC, f.id
+                 LIMIT :maxCandidates)
+            )
+            SELECT f.* FROM films f
+            JOIN candidates c ON c.id = f.id
+            ORDER BY ts_rank_cd(f.search_vector, websearch_to_tsquery('simple', :query))
+                   + word_similarity(lower(:query), lower(f.title)) DESC, f.id
+            """, nativeQuery = true)
+    Slice<Film> search(@Param("query") String query, @Param("maxCandidates") int maxCandidates, Pageable pageable);
 }
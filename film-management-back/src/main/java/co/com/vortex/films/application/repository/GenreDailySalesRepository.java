@@ -0,0 +1,59 @@
+package co.com.vortex.films.application.repository;
+
+import co.com.vortex.films.domain.models.GenreDailySales;
+import co.com.vortex.films.domain.models.GenreDailySalesId;
+import co.com.vortex.films.domain.projections.GenreSales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface GenreDailySalesRepository extends JpaRepository<GenreDailySales, GenreDailySalesId> {
+    @Query("""
+            SELECT new co.com.vortex.films.domain.projections.GenreSales(s.genre, SUM(s.tickets), SUM(s.revenue))
+            FROM GenreDailySales s
+            WHERE s.salesDate BETWEEN :from AND :to
+            GROUP BY s.genre
+            ORDER BY SUM(s.revenue) DESC
+            """)
+    List<GenreSales> findGenreSales(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO genre_daily_sales (genre, sales_date, tickets, revenue)
+            VALUES (:genre, :salesDate, :tickets, :revenue)
+            ON CONFLICT (genre, sales_date) DO UPDATE
+            SET tickets = genre_daily_sales.tickets + EXCLUDED.tickets, revenue = genre_daily_sales.revenue + EXCLUDED.revenue
+            """, nativeQuery = true)
+    int addSales(@Param("genre") int genre, @Param("salesDate") LocalDate salesDate, @Param("tickets") long tickets, @Param("revenue") long revenue);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO genre_daily_sales (genre, sales_date, tickets, revenue)
+            SELECT d.genre, CAST(p.purchase_date AS DATE), SUM(d.quantity), SUM(d.quantity * d.unit_price)
+            FROM purchases p
+            JOIN purchase_details d ON d.purchase_id = p.id AND d.purchase_date = p.purchase_date
+            WHERE p.purchase_date >= :from AND d.purchase_date >= :from
+            GROUP BY d.genre, CAST(p.purchase_date AS DATE)
+            ON CONFLICT (genre, sales_date) DO UPDATE
+            SET tickets = EXCLUDED.tickets, revenue = EXCLUDED.revenue
+            WHERE genre_daily_sales.tickets <> EXCLUDED.tickets OR genre_daily_sales.revenue <> EXCLUDED.revenue
+            """, nativeQuery = true)
+    int reconcileFrom(@Param("from") LocalDate from);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM genre_daily_sales s
+            WHERE s.sales_date >= :from AND NOT EXISTS (
+                SELECT 1 FROM purchases p
+                JOIN purchase_details d ON d.purchase_id = p.id AND d.purchase_date = p.purchase_date
+                WHERE d.genre = s.genre AND p.purchase_date >= s.sales_date AND p.purchase_date < s.sales_date + 1
+            )
+            """, nativeQuery = true)
+    int deleteStaleFrom(@Param("from") LocalDate from);
+}
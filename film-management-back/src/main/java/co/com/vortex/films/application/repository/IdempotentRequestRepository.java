@@ -0,0 +1,42 @@
+package co.com.vortex.films.application.repository;
+
+import co.com.vortex.films.domain.models.IdempotentRequest;
+import co.com.vortex.films.domain.models.IdempotentRequestId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotentRequestRepository extends JpaRepository<IdempotentRequest, IdempotentRequestId> {
+    Optional<IdempotentRequest> findByUserIdAndIdempotencyKeyAndExpiresAtAfter(Long userId, String idempotencyKey, LocalDateTime now);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO idempotent_requests (user_id, idempotency_key, request_hash, created_at, expires_at)
+            VALUES (:userId, :idempotencyKey, :requestHash, :createdAt, :expiresAt)
+            """, nativeQuery = true)
+    int insert(
+            @Param("userId") Long userId,
+            @Param("idempotencyKey") String idempotencyKey,
+            @Param("requestHash") String requestHash,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("expiresAt") LocalDateTime expiresAt
+    );
+
+    @Modifying
+    @Query("UPDATE IdempotentRequest i SET i.response = :response WHERE i.userId = :userId AND i.idempotencyKey = :idempotencyKey")
+    int updateResponse(@Param("userId") Long userId, @Param("idempotencyKey") String idempotencyKey, @Param("response") String response);
+
+    @Modifying
+    @Query("DELETE FROM IdempotentRequest i WHERE i.userId = :userId AND i.idempotencyKey = :idempotencyKey AND i.expiresAt <= :now")
+    int deleteExpired(@Param("userId") Long userId, @Param("idempotencyKey") String idempotencyKey, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM IdempotentRequest i WHERE i.expiresAt <= :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,13 @@
+package co.com.vortex.films.application.repository;
+
+import co.com.vortex.films.infrastructure.pagination.KeysetCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.List;
+import java.util.Map;
+
+@NoRepositoryBean
+public interface KeysetRepository<T, ID> extends JpaRepository<T, ID> {
+    List<T> findAllByKeyset(KeysetCursor cursor, int limit, Map<String, Object> filters);
+}
@@ -0,0 +1,67 @@
+package co.com.vortex.films.application.repository;
+
+import co.com.vortex.films.domain.models.PaymentMethodDailySales;
+import co.com.vortex.films.domain.models.PaymentMethodDailySalesId;
+import co.com.vortex.films.domain.projections.DailyRevenue;
+import co.com.vortex.films.domain.projections.PaymentMethodSales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PaymentMethodDailySalesRepository extends JpaRepository<PaymentMethodDailySales, PaymentMethodDailySalesId> {
+    @Query("""
+            SELECT new co.com.vortex.films.domain.projections.DailyRevenue(s.salesDate, SUM(s.purchases), SUM(s.revenue))
+            FROM PaymentMethodDailySales s
+            WHERE s.salesDate BETWEEN :from AND :to
+            GROUP BY s.salesDate
+            ORDER BY s.salesDate
+            """)
+    List<DailyRevenue> findDailyRevenue(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT new co.com.vortex.films.domain.projections.PaymentMethodSales(s.paymentMethod, SUM(s.purchases), SUM(s.revenue))
+            FROM PaymentMethodDailySales s
+            WHERE s.salesDate BETWEEN :from AND :to
+            GROUP BY s.paymentMethod
+            ORDER BY SUM(s.revenue) DESC
+            """)
+    List<PaymentMethodSales> findPaymentMethodSales(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO payment_method_daily_sales (payment_method, sales_date, purchases, revenue)
+            VALUES (:paymentMethod, :salesDate, :purchases, :revenue)
+            ON CONFLICT (payment_method, sales_date) DO UPDATE
+            SET purchases = payment_method_daily_sales.purchases + EXCLUDED.purchases, revenue = payment_method_daily_sales.revenue + EXCLUDED.revenue
+            """, nativeQuery = true)
+    int addSales(@Param("paymentMethod") int paymentMethod, @Param("salesDate") LocalDate salesDate, @Param("purchases") long purchases, @Param("revenue") long revenue);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO payment_method_daily_sales (payment_method, sales_date, purchases, revenue)
+            SELECT p.payment_method, CAST(p.purchase_date AS DATE), COUNT(*), SUM(p.total_amount)
+            FROM purchases p
+            WHERE p.purchase_date >= :from
+            GROUP BY p.payment_method, CAST(p.purchase_date AS DATE)
+            ON CONFLICT (payment_method, sales_date) DO UPDATE
+            SET purchases = EXCLUDED.purchases, revenue = EXCLUDED.revenue
+            WHERE payment_method_daily_sales.purchases <> EXCLUDED.purchases OR payment_method_daily_sales.revenue <> EXCLUDED.revenue
+            """, nativeQuery = true)
+    int reconcileFrom(@Param("from") LocalDate from);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM payment_method_daily_sales s
+            WHERE s.sales_date >= :from AND NOT EXISTS (
+                SELECT 1 FROM purchases p
+                WHERE p.payment_method = s.payment_method AND p.purchase_date >= s.sales_date AND p.purchase_date < s.sales_date + 1
+            )
+            """, nativeQuery = true)
+    int deleteStaleFrom(@Param("from") LocalDate from);
+}
@@ -1,9 +1,20 @@
 package co.com.vortex.films.application.repository;
 
 import co.com.vortex.films.domain.models.PurchaseDetail;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface PurchaseDetailRepository extends JpaRepository<PurchaseDetail, Long> {
+    @Override
+    @EntityGraph(attributePaths = "film")
+    Page<PurchaseDetail> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "film")
+    Optional<PurchaseDetail> findWithFilmById(Long id);
 }
@@ -0,0 +1,21 @@
+package co.com.vortex.films.application.repository;
+
+import co.com.vortex.films.domain.models.PurchaseReferenceCode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface PurchaseReferenceCodeRepository extends JpaRepository<PurchaseReferenceCode, String> {
+    // A plain insert, unlike save, fails on a code that is already taken instead of merging over it.
+    @Modifying
+    @Query(value = """
+            INSERT INTO purchase_reference_codes (reference_code, purchase_id, purchase_date)
+            VALUES (:referenceCode, :purchaseId, :purchaseDate)
+            """, nativeQuery = true)
+    int register(@Param("referenceCode") String referenceCode, @Param("purchaseId") Long purchaseId, @Param("purchaseDate") LocalDateTime purchaseDate);
+}
@@ -1,12 +1,99 @@
 package co.com.vortex.films.application.repository;
 
 import co.com.vortex.films.domain.models.Purchase;
+import co.com.vortex.films.domain.projections.PurchaseExportRow;
+import co.com.vortex.films.domain.projections.PurchaseKey;
+import co.com.vortex.films.domain.projections.PurchaseReference;
+import co.com.vortex.films.domain.projections.PurchaseSummary;
+import co.com.vortex.films.infrastructure.export.DataExporter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface PurchaseRepository extends JpaRepository<Purchase, Long> {
-    Slice<Purchase> findByUserId(Long id, Pageable pageable);
+public interface PurchaseRepository extends KeysetRepository<Purchase, Long> {
+    @Query(
+            value = "SELECT new co.com.vortex.films.domain.projections.PurchaseKey(p.id, p.purchaseDate) FROM Purchase p",
+            countQuery = "SELECT COUNT(p) FROM Purchase p"
+    )
+    Page<PurchaseKey> findAllKeys(Pageable pageable);
+
+    @Query("SELECT new co.com.vortex.films.domain.projections.PurchaseKey(p.id, p.purchaseDate) FROM Purchase p WHERE p.user.id = :userId")
+    Slice<PurchaseKey> findKeysByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"details", "details.film"})
+    List<Purchase> findWithDetailsByIdInAndPurchaseDateBetween(Collection<Long> ids, LocalDateTime from, LocalDateTime to);
+
+    @EntityGraph(attributePaths = {"details", "details.film"})
+    Optional<Purchase> findWithDetailsById(Long id);
+
+    @EntityGraph(attributePaths = {"details", "details.film"})
+    Optional<Purchase> findWithDetailsByIdAndPurchaseDateBetween(Long id, LocalDateTime from, LocalDateTime to);
+
+    Optional<Purchase> findByIdAndPurchaseDate(Long id, LocalDateTime purchaseDate);
+
+    @Query("""
+            SELECT new co.com.vortex.films.domain.projections.PurchaseReference(
+                p.referenceCode, p.id, p.user.id, p.purchaseDate, p.paymentStatus
+            )
+            FROM Purchase p
+            WHERE p.referenceCode = :referenceCode AND p.purchaseDate BETWEEN :from AND :to
+            """)
+    Optional<PurchaseReference> findReference(@Param("referenceCode") String referenceCode, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("""
+            SELECT new co.com.vortex.films.domain.projections.PurchaseSummary(
+                p.id, p.user.id, p.purchaseDate, p.totalAmount, p.paymentStatus, p.paymentMethod
+            )
+            FROM Purchase p
+            """)
+    Slice<PurchaseSummary> findAllSummaries(Pageable pageable);
+
+    @Query("""
+            SELECT new co.com.vortex.films.domain.projections.PurchaseSummary(
+                p.id, p.user.id, p.purchaseDate, p.totalAmount, p.paymentStatus, p.paymentMethod
+            )
+            FROM Purchase p
+            WHERE p.user.id = :userId
+            """)
+    Slice<PurchaseSummary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + DataExporter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new co.com.vortex.films.domain.projections.PurchaseExportRow(
+                p.id, p.user.id, p.purchaseDate, p.totalAmount, p.paymentStatus, p.paymentMethod,
+                d.id, f.id, f.title, d.quantity
+            )
+            FROM Purchase p
+            JOIN p.details d
+            JOIN d.film f
+            ORDER BY p.id, d.id
+            """)
+    Stream<PurchaseExportRow> streamAllExportRows();
+
+    @Query(value = "SELECT create_purchase_partitions(:fromMonth, :months)", nativeQuery = true)
+    int createPartitions(@Param("fromMonth") LocalDate fromMonth, @Param("months") int months);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM purchases_default) OR EXISTS (SELECT 1 FROM purchase_details_default)", nativeQuery = true)
+    boolean existsInDefaultPartitions();
+
+    @Query(value = "SELECT archive_purchase_partitions(:beforeMonth, CAST(NULLIF(:tablespace, '') AS TEXT))", nativeQuery = true)
+    int archivePartitions(@Param("beforeMonth") LocalDate beforeMonth, @Param("tablespace") String tablespace);
 }
@@ -0,0 +1,41 @@
+package co.com.vortex.films.application.repository;
+
+import co.com.vortex.films.domain.models.ReferenceCodeNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ReferenceCodeNodeRepository extends JpaRepository<ReferenceCodeNode, Integer> {
+    // Lease times come from the database clock, so instances with skewed clocks still agree on when a lease expires.
+    @Query(value = """
+            INSERT INTO reference_code_nodes (node_id, owner, leased_until)
+            SELECT n.node_id, :owner, LOCALTIMESTAMP + :ttlSeconds * INTERVAL '1 second'
+            FROM generate_series(0, 1023) AS n(node_id)
+            LEFT JOIN reference_code_nodes r ON r.node_id = n.node_id
+            WHERE r.node_id IS NULL OR r.leased_until <= LOCALTIMESTAMP
+            ORDER BY n.node_id
+            LIMIT 1
+            ON CONFLICT (node_id) DO UPDATE
+                SET owner = EXCLUDED.owner, leased_until = EXCLUDED.leased_until
+                WHERE reference_code_nodes.leased_until <= LOCALTIMESTAMP
+            RETURNING CAST(node_id AS INTEGER)
+            """, nativeQuery = true)
+    Optional<Integer> claim(@Param("owner") String owner, @Param("ttlSeconds") long ttlSeconds);
+
+    @Modifying
+    @Query(value = """
+            UPDATE reference_code_nodes
+            SET leased_until = LOCALTIMESTAMP + :ttlSeconds * INTERVAL '1 second'
+            WHERE node_id = :nodeId AND owner = :owner AND leased_until > LOCALTIMESTAMP
+            """, nativeQuery = true)
+    int renew(@Param("nodeId") int nodeId, @Param("owner") String owner, @Param("ttlSeconds") long ttlSeconds);
+
+    @Modifying
+    @Query(value = "DELETE FROM reference_code_nodes WHERE node_id = :nodeId AND owner = :owner", nativeQuery = true)
+    int release(@Param("nodeId") int nodeId, @Param("owner") String owner);
+}
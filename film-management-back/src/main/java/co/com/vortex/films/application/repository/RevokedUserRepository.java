@@ -0,0 +1,16 @@
+package co.com.vortex.films.application.repository;
+
+import co.com.vortex.films.domain.models.RevokedUser;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedUserRepository extends JpaRepository<RevokedUser, Long> {
+    @Query("SELECT r.userId FROM RevokedUser r WHERE r.revokedAt >= :since")
+    List<Long> findUserIdsRevokedSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,12 @@
+package co.com.vortex.films.application.repository;
+
+import co.com.vortex.films.domain.models.Screening;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScreeningRepository extends JpaRepository<Screening, Long> {
+    Slice<Screening> findByFilmIdOrderByStartsAt(Long filmId, Pageable pageable);
+}
@@ -0,0 +1,22 @@
+package co.com.vortex.films.application.repository;
+
+import co.com.vortex.films.domain.models.ScreeningSeatHold;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface ScreeningSeatHoldRepository extends JpaRepository<ScreeningSeatHold, UUID> {
+    @Modifying
+    @Query("DELETE FROM ScreeningSeatHold h WHERE h.id = :id AND h.userId = :userId")
+    int deleteByIdAndUserId(@Param("id") UUID id, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM ScreeningSeatHold h WHERE h.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
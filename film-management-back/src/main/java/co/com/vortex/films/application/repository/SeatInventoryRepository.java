@@ -0,0 +1,36 @@
+package co.com.vortex.films.application.repository;
+
+import co.com.vortex.films.domain.models.SeatInventory;
+import co.com.vortex.films.domain.projections.SeatInventoryState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SeatInventoryRepository extends JpaRepository<SeatInventory, Long> {
+    @Query("""
+            SELECT new co.com.vortex.films.domain.projections.SeatInventoryState(s.soldSeats, s.version)
+            FROM SeatInventory s
+            WHERE s.screeningId = :screeningId
+            """)
+    Optional<SeatInventoryState> findState(@Param("screeningId") Long screeningId);
+
+    @Query(value = "SELECT s.sold_seats FROM seat_inventories s WHERE s.screening_id = :screeningId FOR UPDATE", nativeQuery = true)
+    Optional<byte[]> findSoldSeatsForUpdate(@Param("screeningId") Long screeningId);
+
+    @Modifying
+    @Query("""
+            UPDATE SeatInventory s
+            SET s.soldSeats = :soldSeats, s.soldCount = :soldCount, s.version = s.version + 1
+            WHERE s.screeningId = :screeningId
+            """)
+    int updateSoldSeats(
+            @Param("screeningId") Long screeningId,
+            @Param("soldSeats") byte[] soldSeats,
+            @Param("soldCount") int soldCount
+    );
+}
@@ -1,14 +1,76 @@
 package co.com.vortex.films.application.repository;
 
 import co.com.vortex.films.domain.models.User;
+import co.com.vortex.films.domain.projections.EntityVersion;
+import co.com.vortex.films.domain.projections.UserSecurityStamp;
+import co.com.vortex.films.domain.projections.UserSummary;
+import co.com.vortex.films.infrastructure.export.DataExporter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends KeysetRepository<User, Long> {
     Slice<User> findAllByEnabledTrue(Pageable pageable);
+
+    @Query("""
+            SELECT new co.com.vortex.films.domain.projections.UserSummary(
+                u.id, u.name, u.lastName, u.phone, u.email, u.role, u.enabled, u.version, u.updatedAt
+            )
+            FROM User u
+            """)
+    Slice<UserSummary> findAllSummaries(Pageable pageable);
+
+    @Query("""
+            SELECT new co.com.vortex.films.domain.projections.UserSummary(
+                u.id, u.name, u.lastName, u.phone, u.email, u.role, u.enabled, u.version, u.updatedAt
+            )
+            FROM User u
+            WHERE u.enabled = TRUE
+            """)
+    Slice<UserSummary> findAllEnabledSummaries(Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + DataExporter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new co.com.vortex.films.domain.projections.UserSummary(
+                u.id, u.name, u.lastName, u.phone, u.email, u.role, u.enabled, u.version, u.updatedAt
+            )
+            FROM User u
+            ORDER BY u.id
+            """)
+    Stream<UserSummary> streamAllSummaries();
+
+    @Query("SELECT new co.com.vortex.films.domain.projections.EntityVersion(u.id, u.version, u.updatedAt) FROM User u WHERE u.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new co.com.vortex.films.domain.projections.EntityVersion(u.id, u.version, u.updatedAt) FROM User u WHERE u.email = :email")
+    Optional<EntityVersion> findVersionByEmail(@Param("email") String email);
+
+    @Query("""
+            SELECT new co.com.vortex.films.domain.projections.UserSecurityStamp(u.id, u.securityStamp)
+            FROM User u
+            WHERE u.updatedAt >= :since AND u.securityStamp > 0
+            """)
+    List<UserSecurityStamp> findSecurityStampsUpdatedSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+
     boolean existsByPhone(String phone);
     boolean existsByEmail(String email);
     User findByEmail(String email);
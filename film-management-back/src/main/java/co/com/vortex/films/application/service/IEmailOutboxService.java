@@ -0,0 +1,10 @@
+package co.com.vortex.films.application.service;
+
+import co.com.vortex.films.domain.dto.mail.MailBody;
+import co.com.vortex.films.domain.models.MailTemplate;
+
+public interface IEmailOutboxService {
+    void enqueue(MailBody mailBody);
+    void enqueue(String to, String subject, MailTemplate template, Object model);
+    void dispatchPending();
+}
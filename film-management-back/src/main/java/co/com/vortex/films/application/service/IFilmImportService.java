@@ -0,0 +1,10 @@
+package co.com.vortex.films.application.service;
+
+import co.com.vortex.films.domain.dto.film.FilmImportResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+public interface IFilmImportService {
+    FilmImportResponse importFilms(MultipartFile manifest, MultipartFile images, String folder) throws IOException;
+}
@@ -1,21 +1,41 @@
 package co.com.vortex.films.application.service;
 
+import co.com.vortex.films.domain.dto.cache.CacheStatsResponse;
 import co.com.vortex.films.domain.dto.film.CreateFilmRequest;
 import co.com.vortex.films.domain.dto.film.UpdateFilmRequest;
+import co.com.vortex.films.domain.dto.pagination.CursorRequest;
+import co.com.vortex.films.domain.dto.pagination.CursorResponse;
 import co.com.vortex.films.domain.dto.film.FilmResponse;
+import co.com.vortex.films.domain.dto.film.FilmSummaryResponse;
+import co.com.vortex.films.domain.projections.CatalogVersion;
+import co.com.vortex.films.domain.projections.EntityVersion;
+import co.com.vortex.films.infrastructure.storage.SigningEpoch;
+import co.com.vortex.films.infrastructure.export.ExportFormat;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
 
 public interface IFilmService {
     Slice<FilmResponse> findAll(Pageable pageable);
+    CursorResponse<FilmResponse> findAll(CursorRequest cursorRequest);
     Slice<FilmResponse> findAllEnabled(Pageable pageable);
+    Slice<FilmSummaryResponse> findAllSummaries(Pageable pageable);
+    Slice<FilmSummaryResponse> findAllEnabledSummaries(Pageable pageable);
     FilmResponse findById(Long id);
+    EntityVersion findVersionById(Long id);
+    CatalogVersion findCatalogVersion();
+    CatalogVersion findEnabledCatalogVersion();
+    SigningEpoch getSigningEpoch();
     Slice<FilmResponse> findByTitle(String title, Pageable pageable);
+    Slice<FilmResponse> search(String query, Pageable pageable);
     FilmResponse save(CreateFilmRequest createFilmRequest, MultipartFile image, String folder) throws IOException;
     FilmResponse update(UpdateFilmRequest updateFilmRequest);
     FilmResponse updateStatus(Long id);
     void delete(Long id);
+    void export(ExportFormat format, OutputStream outputStream) throws IOException;
+    List<CacheStatsResponse> getCacheStats();
 }
@@ -0,0 +1,8 @@
+package co.com.vortex.films.application.service;
+
+import java.util.function.Supplier;
+
+public interface IIdempotencyService {
+    <T> T execute(Long userId, String idempotencyKey, Object request, Class<T> responseType, Supplier<T> action);
+    void purgeExpired();
+}
@@ -0,0 +1,8 @@
+package co.com.vortex.films.application.service;
+
+import java.nio.file.Path;
+
+public interface IImageVariantService {
+    void generateVariants(Long filmId, Path source, String folderName);
+    void retryPendingVariants();
+}
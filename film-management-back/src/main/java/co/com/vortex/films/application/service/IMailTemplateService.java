@@ -0,0 +1,9 @@
+package co.com.vortex.films.application.service;
+
+import co.com.vortex.films.domain.models.MailTemplate;
+
+public interface IMailTemplateService {
+    String render(MailTemplate template, Object model);
+    String render(MailTemplate template, String serializedModel);
+    String serialize(Object model);
+}
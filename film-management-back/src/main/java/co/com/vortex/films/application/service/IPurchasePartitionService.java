@@ -0,0 +1,5 @@
+package co.com.vortex.films.application.service;
+
+public interface IPurchasePartitionService {
+    void maintain();
+}
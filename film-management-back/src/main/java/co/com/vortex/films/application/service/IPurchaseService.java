@@ -1,14 +1,29 @@
 package co.com.vortex.films.application.service;
 
+import co.com.vortex.films.domain.dto.pagination.CursorRequest;
+import co.com.vortex.films.domain.dto.pagination.CursorResponse;
 import co.com.vortex.films.domain.dto.purchase.CreatePurchaseRequest;
+import co.com.vortex.films.domain.dto.purchase.PurchaseReferenceResponse;
 import co.com.vortex.films.domain.dto.purchase.PurchaseResponse;
+import co.com.vortex.films.domain.dto.purchase.PurchaseSummaryResponse;
+import co.com.vortex.films.infrastructure.export.ExportFormat;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
 public interface IPurchaseService {
     Slice<PurchaseResponse> findAll(Pageable pageable);
+    CursorResponse<PurchaseResponse> findAll(CursorRequest cursorRequest);
+    Slice<PurchaseSummaryResponse> findAllSummaries(Pageable pageable);
     Slice<PurchaseResponse> findByUserId(Long userId, Pageable pageable);
-    PurchaseResponse findById(Long id);
+    CursorResponse<PurchaseResponse> findByUserId(Long userId, CursorRequest cursorRequest);
+    Slice<PurchaseSummaryResponse> findSummariesByUserId(Long userId, Pageable pageable);
+    PurchaseResponse findById(Long id, LocalDate purchaseDate);
+    PurchaseReferenceResponse findByReferenceCode(String referenceCode);
     PurchaseResponse save(CreatePurchaseRequest createPurchaseRequest);
-    void delete(Long id);
+    void delete(Long id, LocalDate purchaseDate);
+    void export(ExportFormat format, OutputStream outputStream) throws IOException;
 }
@@ -0,0 +1,16 @@
+package co.com.vortex.films.application.service;
+
+import co.com.vortex.films.domain.dto.report.DailyRevenueResponse;
+import co.com.vortex.films.domain.dto.report.FilmSalesResponse;
+import co.com.vortex.films.domain.dto.report.GenreSalesResponse;
+import co.com.vortex.films.domain.dto.report.PaymentMethodSalesResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IReportService {
+    List<FilmSalesResponse> findTopFilms(LocalDate from, LocalDate to, int limit);
+    List<GenreSalesResponse> findGenreSales(LocalDate from, LocalDate to);
+    List<DailyRevenueResponse> findDailyRevenue(LocalDate from, LocalDate to);
+    List<PaymentMethodSalesResponse> findPaymentMethodSales(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,11 @@
+package co.com.vortex.films.application.service;
+
+import co.com.vortex.films.domain.models.Purchase;
+import co.com.vortex.films.domain.models.PurchaseDetail;
+
+public interface ISalesRollupService {
+    void record(Purchase purchase);
+    void revert(Purchase purchase);
+    void revert(PurchaseDetail purchaseDetail);
+    void reconcile();
+}
@@ -0,0 +1,12 @@
+package co.com.vortex.films.application.service;
+
+import co.com.vortex.films.domain.dto.screening.CreateScreeningRequest;
+import co.com.vortex.films.domain.dto.screening.ScreeningResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface IScreeningService {
+    Slice<ScreeningResponse> findByFilmId(Long filmId, Pageable pageable);
+    ScreeningResponse findById(Long id);
+    ScreeningResponse save(CreateScreeningRequest createScreeningRequest);
+}
@@ -0,0 +1,17 @@
+package co.com.vortex.films.application.service;
+
+import co.com.vortex.films.domain.dto.screening.CreateSeatHoldRequest;
+import co.com.vortex.films.domain.dto.screening.SeatHoldResponse;
+import co.com.vortex.films.infrastructure.reservation.ConfirmedSeats;
+
+import java.util.BitSet;
+import java.util.UUID;
+
+public interface ISeatReservationService {
+    int getAvailableSeats(Long screeningId);
+    SeatHoldResponse hold(Long screeningId, Long userId, CreateSeatHoldRequest createSeatHoldRequest);
+    void release(UUID holdId, Long userId);
+    ConfirmedSeats confirm(UUID holdId, Long userId, Long filmId, int quantity);
+    void releaseSold(Long screeningId, BitSet seats);
+    void releaseExpiredHolds();
+}
@@ -0,0 +1,14 @@
+package co.com.vortex.films.application.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+public interface IStorageService {
+    String uploadFile(MultipartFile file, String folderName) throws IOException;
+    String uploadFile(MultipartFile file) throws IOException;
+    String uploadFile(InputStream inputStream, String originalFileName, String contentType, String folderName) throws IOException;
+    void downloadFile(String objectKey, Path target) throws IOException;
+}
@@ -1,10 +1,12 @@
 package co.com.vortex.films.application.service;
 
+import co.com.vortex.films.domain.dto.authentication.JwksResponse;
 import co.com.vortex.films.domain.models.User;
+import co.com.vortex.films.infrastructure.security.IssuedToken;
+import co.com.vortex.films.infrastructure.security.VerifiedToken;
 
 public interface ITokenService {
-    String generateToken(User user) throws Exception;
-    String getSubject(String token) throws Exception;
-    String getType(String token) throws Exception;
-    Long getExpirationTime(String token) throws Exception;
+    IssuedToken generateToken(User user) throws Exception;
+    VerifiedToken verify(String token);
+    JwksResponse getJwks();
 }
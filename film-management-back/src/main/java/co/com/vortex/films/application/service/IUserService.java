@@ -1,18 +1,29 @@
 package co.com.vortex.films.application.service;
 
+import co.com.vortex.films.domain.dto.pagination.CursorRequest;
+import co.com.vortex.films.domain.dto.pagination.CursorResponse;
 import co.com.vortex.films.domain.dto.user.CreateUserRequest;
 import co.com.vortex.films.domain.dto.user.UpdateUserRequest;
 import co.com.vortex.films.domain.dto.user.UserResponse;
+import co.com.vortex.films.domain.projections.EntityVersion;
+import co.com.vortex.films.infrastructure.export.ExportFormat;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 public interface IUserService {
     Slice<UserResponse> findAll(Pageable pageable);
+    CursorResponse<UserResponse> findAll(CursorRequest cursorRequest);
     Slice<UserResponse> findAllEnabled(Pageable pageable);
     UserResponse findById(Long id);
     UserResponse findByEmail(String email);
+    EntityVersion findVersionById(Long id);
+    EntityVersion findVersionByEmail(String email);
     UserResponse save(CreateUserRequest createUserRequest);
     UserResponse update(UpdateUserRequest updateUserRequest);
     UserResponse updateStatus(Long id);
     void delete(Long id);
+    void export(ExportFormat format, OutputStream outputStream) throws IOException;
 }
@@ -12,62 +12,62 @@ import co.com.vortex.films.domain.models.User;
 import co.com.vortex.films.domain.validators.AuthenticationValidator;
 import co.com.vortex.films.domain.validators.UserValidator;
 import co.com.vortex.films.infrastructure.exceptions.ConflictException;
+import co.com.vortex.films.infrastructure.exceptions.TooManyRequestsException;
 import co.com.vortex.films.infrastructure.exceptions.UnauthorizedException;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import co.com.vortex.films.infrastructure.security.LoginRateLimiter;
+import co.com.vortex.films.infrastructure.security.PasswordHasher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
 
-@RequiredArgsConstructor
 @Service
 public class AuthenticationService implements IAuthenticationService {
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
-    private final CustomUserDetailsService customUserDetailsService;
-    private final AuthenticationManager authenticationManager;
+    private final PasswordHasher passwordHasher;
+    private final LoginRateLimiter loginRateLimiter;
     private final ITokenService tokenService;
+    private final TransactionTemplate transactionTemplate;
+    private final String unknownUserPassword;
+
+    public AuthenticationService(UserRepository userRepository, PasswordHasher passwordHasher, LoginRateLimiter loginRateLimiter, ITokenService tokenService, TransactionTemplate transactionTemplate) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.loginRateLimiter = loginRateLimiter;
+        this.tokenService = tokenService;
+        this.transactionTemplate = transactionTemplate;
+        this.unknownUserPassword = passwordHasher.encode(UUID.randomUUID().toString());
+    }
 
     @Override
-    @Transactional
     public AuthenticationResponse signIn(AuthenticationRequest authenticationRequest) throws Exception {
-        if (!userRepository.existsByEmail(authenticationRequest.getEmail())) throw new UnauthorizedException(AuthenticationValidator.INCORRECT_CREDENTIALS);
+        if (!loginRateLimiter.tryAcquireAccount(authenticationRequest.getEmail())) throw new TooManyRequestsException(AuthenticationValidator.TOO_MANY_ATTEMPTS);
 
+        // The lookup and the rehash each run in their own short transaction, so no connection is held while BCrypt runs.
         User user = userRepository.findByEmail(authenticationRequest.getEmail());
+
+        // Unknown emails still pay for one BCrypt check, so response times don't reveal which accounts exist.
+        boolean matches = passwordHasher.matches(authenticationRequest.getPassword(), user != null ? user.getPassword() : unknownUserPassword);
+        if (user == null || !matches) throw new UnauthorizedException(AuthenticationValidator.INCORRECT_CREDENTIALS);
         if (!user.isEnabled()) throw new UnauthorizedException(AuthenticationValidator.USER_NOT_ENABLED);
 
-        String token = createJwtToken(authenticationRequest);
+        // Hashes made with a lower cost than configured are replaced while the raw password is at hand.
+        if (passwordHasher.upgradeEncoding(user.getPassword())) {
+            String password = passwordHasher.encode(authenticationRequest.getPassword());
+            transactionTemplate.executeWithoutResult(status -> userRepository.updatePassword(user.getId(), password));
+        }
 
-        return AuthenticationMapper.toAuthenticationResponse(token, user, tokenService.getType(token), tokenService.getExpirationTime(token));
+        return AuthenticationMapper.toAuthenticationResponse(tokenService.generateToken(user), user);
     }
 
     @Override
-    @Transactional
     public AuthenticationResponse signUp(CreateUserRequest createUserRequest) throws Exception {
         if (userRepository.existsByPhone(createUserRequest.getPhone())) throw new ConflictException(String.format(UserValidator.PHONE_ALREADY_EXISTS, createUserRequest.getPhone()));
         if (userRepository.existsByEmail(createUserRequest.getEmail())) throw new ConflictException(String.format(UserValidator.EMAIL_ALREADY_EXISTS, createUserRequest.getEmail()));
 
-        User user = UserMapper.toUser(createUserRequest, bCryptPasswordEncoder.encode(createUserRequest.getPassword()));
+        User user = UserMapper.toUser(createUserRequest, passwordHasher.encode(createUserRequest.getPassword()));
         User savedUser = userRepository.save(user);
 
-        return signIn(AuthenticationRequest.builder().email(savedUser.getEmail()).password(createUserRequest.getPassword()).build());
-    }
-
-    private String createJwtToken(AuthenticationRequest authenticationRequest) {
-        try {
-            Authentication authToken = new UsernamePasswordAuthenticationToken(
-                    authenticationRequest.getEmail(),
-                    authenticationRequest.getPassword()
-            );
-
-            Authentication authenticatedUser = authenticationManager.authenticate(authToken);
-            User user = (User) customUserDetailsService.loadUserByUsername(authenticatedUser.getName());
-
-            return tokenService.generateToken(user);
-        } catch (Exception e) {
-            throw new UnauthorizedException(AuthenticationValidator.INCORRECT_CREDENTIALS);
-        }
+        return AuthenticationMapper.toAuthenticationResponse(tokenService.generateToken(savedUser), savedUser);
     }
 }
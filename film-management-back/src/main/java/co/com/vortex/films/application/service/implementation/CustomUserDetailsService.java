@@ -1,6 +1,7 @@
 package co.com.vortex.films.application.service.implementation;
 
 import co.com.vortex.films.application.repository.UserRepository;
+import co.com.vortex.films.domain.models.User;
 import co.com.vortex.films.domain.validators.UserValidator;
 import co.com.vortex.films.infrastructure.exceptions.NotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -15,8 +16,9 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String email) {
-        if (!userRepository.existsByEmail(email)) throw new NotFoundException(String.format(UserValidator.USER_NOT_FOUND_BY_EMAIL, email));
+        User user = userRepository.findByEmail(email);
+        if (user == null) throw new NotFoundException(String.format(UserValidator.USER_NOT_FOUND_BY_EMAIL, email));
 
-        return userRepository.findByEmail(email);
+        return user;
     }
 }
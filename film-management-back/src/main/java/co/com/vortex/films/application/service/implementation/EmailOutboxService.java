@@ -0,0 +1,177 @@
+package co.com.vortex.films.application.service.implementation;
+
+import co.com.vortex.films.application.repository.EmailOutboxRepository;
+import co.com.vortex.films.application.service.IEmailOutboxService;
+import co.com.vortex.films.application.service.IMailService;
+import co.com.vortex.films.application.service.IMailTemplateService;
+import co.com.vortex.films.domain.dto.mail.MailBody;
+import co.com.vortex.films.domain.mappers.EmailOutboxMapper;
+import co.com.vortex.films.domain.models.EmailOutbox;
+import co.com.vortex.films.domain.models.EmailOutboxStatus;
+import co.com.vortex.films.domain.models.MailTemplate;
+import co.com.vortex.films.infrastructure.concurrency.ThreadFactories;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+@Slf4j
+public class EmailOutboxService implements IEmailOutboxService {
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final IMailService mailService;
+    private final IMailTemplateService mailTemplateService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final Semaphore drainSlots;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+
+    public EmailOutboxService(
+            EmailOutboxRepository emailOutboxRepository,
+            IMailService mailService,
+            IMailTemplateService mailTemplateService,
+            TransactionTemplate transactionTemplate,
+            @Value("${mail.outbox.workers}") int workers,
+            @Value("${mail.outbox.batch-size}") int batchSize,
+            @Value("${mail.outbox.max-attempts}") int maxAttempts,
+            @Value("${mail.outbox.lease}") Duration lease,
+            @Value("${mail.outbox.backoff}") Duration backoff,
+            @Value("${mail.outbox.max-backoff}") Duration maxBackoff,
+            @Value("${spring.threads.virtual.enabled}") boolean virtualThreads
+    ) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mailService = mailService;
+        this.mailTemplateService = mailTemplateService;
+        this.transactionTemplate = transactionTemplate;
+        // SMTP delivery holds monitors inside Jakarta Mail, so workers stay a small fixed count even on virtual threads to cap pinned carriers.
+        this.executor = Executors.newFixedThreadPool(workers, ThreadFactories.of("email-outbox-", virtualThreads));
+        this.drainSlots = new Semaphore(workers);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(MailBody mailBody) {
+        emailOutboxRepository.save(EmailOutboxMapper.toEmailOutbox(mailBody));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String to, String subject, MailTemplate template, Object model) {
+        emailOutboxRepository.save(EmailOutboxMapper.toEmailOutbox(to, subject, template, mailTemplateService.serialize(model)));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval}")
+    public void dispatchPending() {
+        // Drains are handed off without waiting, so a slow SMTP server never holds the shared scheduler thread; busy workers keep their slot until their drain ends.
+        while (drainSlots.tryAcquire()) {
+            try {
+                executor.execute(this::drainAndRelease);
+            } catch (RejectedExecutionException e) {
+                drainSlots.release();
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void drainAndRelease() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.error("Could not drain the email outbox", e);
+        } finally {
+            drainSlots.release();
+        }
+    }
+
+    private void drain() {
+        List<EmailOutbox> batch;
+
+        do {
+            batch = claimBatch();
+            batch.forEach(this::deliver);
+        } while (batch.size() == batchSize && !Thread.currentThread().isInterrupted());
+    }
+
+    private List<EmailOutbox> claimBatch() {
+        // Claimed rows are leased by pushing their next attempt forward, so SMTP runs without holding row locks.
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailOutbox> emails = emailOutboxRepository.findDueForUpdate(now, batchSize);
+
+            emails.forEach(email -> {
+                email.setAttempts(email.getAttempts() + 1);
+                email.setNextAttemptAt(now.plus(lease));
+            });
+
+            return emails;
+        });
+    }
+
+    private void deliver(EmailOutbox email) {
+        try {
+            String body = email.getTemplate() != null
+                    ? mailTemplateService.render(email.getTemplate(), email.getModel())
+                    : email.getBody();
+
+            mailService.sendMail(EmailOutboxMapper.toMailBody(email, body));
+
+            updateDelivery(email, EmailOutboxStatus.SENT, email.getNextAttemptAt(), null, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            boolean exhausted = email.getAttempts() >= maxAttempts;
+            if (exhausted) log.warn("Email {} moved to dead letter after {} attempts", email.getId(), email.getAttempts(), e);
+
+            updateDelivery(email, exhausted ? EmailOutboxStatus.DEAD : EmailOutboxStatus.PENDING, LocalDateTime.now().plus(backoffFor(email.getAttempts())), errorOf(e), null);
+        }
+    }
+
+    private void updateDelivery(EmailOutbox email, EmailOutboxStatus status, LocalDateTime nextAttemptAt, String lastError, LocalDateTime sentAt) {
+        transactionTemplate.executeWithoutResult(transactionStatus ->
+                emailOutboxRepository.updateDelivery(email.getId(), status, nextAttemptAt, lastError, sentAt));
+    }
+
+    private Duration backoffFor(int attempts) {
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts - 1, MAX_BACKOFF_SHIFT));
+        if (delay.compareTo(maxBackoff) > 0) delay = maxBackoff;
+
+        long jitteredMillis = (long) (delay.toMillis() * ThreadLocalRandom.current().nextDouble(0.8, 1.2));
+
+        return Duration.ofMillis(jitteredMillis);
+    }
+
+    private String errorOf(RuntimeException e) {
+        String message = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,213 @@
+package co.com.vortex.films.application.service.implementation;
+
+import co.com.vortex.films.application.repository.FilmRepository;
+import co.com.vortex.films.application.service.IFilmImportService;
+import co.com.vortex.films.application.service.IStorageService;
+import co.com.vortex.films.domain.dto.film.CreateFilmRequest;
+import co.com.vortex.films.domain.dto.film.FilmImportErrorResponse;
+import co.com.vortex.films.domain.dto.film.FilmImportResponse;
+import co.com.vortex.films.domain.mappers.FilmMapper;
+import co.com.vortex.films.domain.models.Film;
+import co.com.vortex.films.domain.validators.FilmValidator;
+import co.com.vortex.films.infrastructure.cache.FilmCache;
+import co.com.vortex.films.infrastructure.cache.FilmScope;
+import co.com.vortex.films.infrastructure.exceptions.BadRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.net.URLConnection;
+import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+@RequiredArgsConstructor
+@Service
+public class FilmImportService implements IFilmImportService {
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+    private static final String CSV_EXTENSION = ".csv";
+    private static final String IMAGE_PROPERTY = "image";
+    private static final String ROW_PROPERTY = "row";
+    private static final String FILM_PROPERTY = "film";
+
+    private final FilmRepository filmRepository;
+    private final IStorageService storageService;
+    private final FilmCache filmCache;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @Override
+    public FilmImportResponse importFilms(MultipartFile manifest, MultipartFile images, String folder) throws IOException {
+        List<Map<String, Object>> rows = readManifest(manifest);
+        List<FilmImportErrorResponse> errors = new ArrayList<>();
+        List<ImportRow> validRows = new ArrayList<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow importRow = validateRow(i + 1, rows.get(i), errors);
+            if (importRow != null) validRows.add(importRow);
+        }
+
+        Map<String, String> imageKeys = uploadImages(validRows, images, folder);
+        List<ImportRow> readyRows = new ArrayList<>();
+
+        for (ImportRow importRow : validRows) {
+            if (imageKeys.containsKey(importRow.image())) readyRows.add(importRow);
+            else errors.add(toError(importRow.row(), importRow.request().getTitle(), Map.of(IMAGE_PROPERTY, String.format(FilmValidator.IMAGE_NOT_FOUND, importRow.image()))));
+        }
+
+        int importedRows = 0;
+        for (int from = 0; from < readyRows.size(); from += batchSize) {
+            List<ImportRow> batch = readyRows.subList(from, Math.min(from + batchSize, readyRows.size()));
+            importedRows += saveBatch(batch, imageKeys, errors);
+        }
+
+        errors.sort(Comparator.comparingInt(FilmImportErrorResponse::getRow));
+
+        return FilmImportResponse.builder()
+                .totalRows(rows.size())
+                .importedRows(importedRows)
+                .failedRows(errors.size())
+                .errors(errors)
+                .build();
+    }
+
+    private List<Map<String, Object>> readManifest(MultipartFile manifest) throws IOException {
+        String fileName = manifest.getOriginalFilename();
+        boolean isCsv = fileName != null && fileName.toLowerCase().endsWith(CSV_EXTENSION);
+
+        ObjectReader reader = isCsv
+                ? CSV_MAPPER.readerFor(Map.class).with(CsvSchema.emptySchema().withHeader())
+                : objectMapper.readerFor(Map.class);
+
+        try (InputStream inputStream = manifest.getInputStream()) {
+            return reader.<Map<String, Object>>readValues(inputStream).readAll();
+        } catch (IOException | RuntimeException e) {
+            throw new BadRequestException(FilmValidator.MANIFEST_NOT_VALID);
+        }
+    }
+
+    private ImportRow validateRow(int row, Map<String, Object> values, List<FilmImportErrorResponse> errors) {
+        Object image = values.remove(IMAGE_PROPERTY);
+        CreateFilmRequest createFilmRequest;
+
+        try {
+            createFilmRequest = objectMapper.convertValue(values, CreateFilmRequest.class);
+        } catch (IllegalArgumentException e) {
+            errors.add(toError(row, Objects.toString(values.get("title"), null), Map.of(ROW_PROPERTY, FilmValidator.ROW_NOT_READABLE)));
+            return null;
+        }
+
+        Map<String, String> details = new HashMap<>();
+        for (ConstraintViolation<CreateFilmRequest> violation : validator.validate(createFilmRequest)) {
+            details.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        if (image == null || !StringUtils.hasText(image.toString())) details.put(IMAGE_PROPERTY, FilmValidator.IMAGE_NOT_BLANK);
+
+        if (!details.isEmpty()) {
+            errors.add(toError(row, createFilmRequest.getTitle(), details));
+            return null;
+        }
+
+        return new ImportRow(row, createFilmRequest, image.toString().trim());
+    }
+
+    private Map<String, String> uploadImages(List<ImportRow> rows, MultipartFile images, String folder) throws IOException {
+        Map<String, String> imageKeys = new HashMap<>();
+        Set<String> pendingImages = new HashSet<>();
+
+        for (ImportRow importRow : rows) {
+            if (isRemoteImage(importRow.image())) imageKeys.put(importRow.image(), importRow.image());
+            else pendingImages.add(importRow.image());
+        }
+
+        if (pendingImages.isEmpty() || images == null || images.isEmpty()) return imageKeys;
+
+        try (ZipInputStream zipInputStream = new ZipInputStream(images.getInputStream())) {
+            ZipEntry entry;
+
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                if (entry.isDirectory() || !pendingImages.remove(entry.getName())) continue;
+
+                PushbackInputStream content = new PushbackInputStream(StreamUtils.nonClosing(zipInputStream), 1);
+                int firstByte = content.read();
+                if (firstByte == -1) continue;
+                content.unread(firstByte);
+
+                String contentType = URLConnection.guessContentTypeFromName(entry.getName());
+                String imageKey = storageService.uploadFile(content, entry.getName(), contentType, folder);
+
+                imageKeys.put(entry.getName(), imageKey);
+            }
+        }
+
+        return imageKeys;
+    }
+
+    private int saveBatch(List<ImportRow> batch, Map<String, String> imageKeys, List<FilmImportErrorResponse> errors) {
+        if (trySave(batch, imageKeys)) return batch.size();
+        if (batch.size() == 1) {
+            ImportRow importRow = batch.get(0);
+            errors.add(toError(importRow.row(), importRow.request().getTitle(), Map.of(FILM_PROPERTY, FilmValidator.ROW_NOT_SAVED)));
+
+            return 0;
+        }
+
+        int savedRows = 0;
+        for (ImportRow importRow : batch) savedRows += saveBatch(List.of(importRow), imageKeys, errors);
+
+        return savedRows;
+    }
+
+    private boolean trySave(List<ImportRow> batch, Map<String, String> imageKeys) {
+        List<Film> films = batch.stream()
+                .map(importRow -> FilmMapper.toFilm(importRow.request(), imageKeys.get(importRow.image())))
+                .toList();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                filmRepository.saveAll(films);
+
+                filmCache.evictScope(FilmScope.ALL);
+                filmCache.evictScope(FilmScope.ENABLED);
+            });
+
+            return true;
+        } catch (DataAccessException | TransactionException e) {
+            return false;
+        }
+    }
+
+    private boolean isRemoteImage(String image) {
+        return image.startsWith("https://") || image.startsWith("http://");
+    }
+
+    private FilmImportErrorResponse toError(int row, String title, Map<String, String> details) {
+        return FilmImportErrorResponse.builder()
+                .row(row)
+                .title(title)
+                .details(details)
+                .build();
+    }
+
+    private record ImportRow(int row, CreateFilmRequest request, String image) {
+    }
+}
@@ -2,66 +2,172 @@ package co.com.vortex.films.application.service.implementation;
 
 import co.com.vortex.films.application.repository.FilmRepository;
 import co.com.vortex.films.application.service.IFilmService;
-import co.com.vortex.films.application.service.IFirebaseStorageService;
+import co.com.vortex.films.application.service.IImageVariantService;
+import co.com.vortex.films.application.service.IStorageService;
+import co.com.vortex.films.domain.dto.cache.CacheStatsResponse;
 import co.com.vortex.films.domain.dto.film.CreateFilmRequest;
 import co.com.vortex.films.domain.dto.film.FilmResponse;
+import co.com.vortex.films.domain.dto.film.FilmSummaryResponse;
 import co.com.vortex.films.domain.dto.film.UpdateFilmRequest;
+import co.com.vortex.films.domain.dto.pagination.CursorRequest;
+import co.com.vortex.films.domain.dto.pagination.CursorResponse;
 import co.com.vortex.films.domain.mappers.FilmMapper;
 import co.com.vortex.films.domain.models.Film;
+import co.com.vortex.films.domain.projections.CatalogVersion;
+import co.com.vortex.films.domain.projections.EntityVersion;
 import co.com.vortex.films.domain.validators.FilmValidator;
+import co.com.vortex.films.domain.validators.FirebaseValidator;
+import co.com.vortex.films.infrastructure.cache.FilmCache;
+import co.com.vortex.films.infrastructure.cache.FilmScope;
+import co.com.vortex.films.infrastructure.cache.SignedUrlCache;
+import co.com.vortex.films.infrastructure.exceptions.FirebaseException;
 import co.com.vortex.films.infrastructure.exceptions.NotFoundException;
+import co.com.vortex.films.infrastructure.export.DataExporter;
+import co.com.vortex.films.infrastructure.export.ExportFormat;
+import co.com.vortex.films.infrastructure.pagination.KeysetCursor;
+import co.com.vortex.films.infrastructure.storage.SigningEpoch;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.URL;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Service
 public class FilmService implements IFilmService {
+    private static final Map<String, Class<?>> CURSOR_PROPERTIES = Map.of("id", Long.class, "title", String.class);
+    private static final String TEMPORARY_IMAGE_PREFIX = "film-image-";
+    private static final int MAX_SEARCH_CANDIDATES = 1000;
+
     private final FilmRepository filmRepository;
-    private final IFirebaseStorageService firebaseStorageService;
+    private final IStorageService storageService;
+    private final FilmCache filmCache;
+    private final DataExporter dataExporter;
+    private final IImageVariantService imageVariantService;
+    private final SignedUrlCache signedUrlCache;
 
     @Override
-    @Transactional(readOnly = true)
     public Slice<FilmResponse> findAll(Pageable pageable) {
-        return FilmMapper.toFilmResponseSlice(filmRepository.findAll(pageable));
+        return filmCache.getPage(FilmScope.ALL, pageable, () -> FilmMapper.toFilmResponseSlice(filmRepository.findAll(pageable))).map(this::signUrls);
     }
 
     @Override
     @Transactional(readOnly = true)
+    public CursorResponse<FilmResponse> findAll(CursorRequest cursorRequest) {
+        KeysetCursor cursor = KeysetCursor.of(cursorRequest, CURSOR_PROPERTIES);
+
+        return cursor.toCursorResponse(filmRepository.findAllByKeyset(cursor, cursorRequest.getSize() + 1, Map.of()), cursorRequest.getSize(), film -> signUrls(FilmMapper.toFilmResponse(film)));
+    }
+
+    @Override
     public Slice<FilmResponse> findAllEnabled(Pageable pageable) {
-        return FilmMapper.toFilmResponseSlice(filmRepository.findAllByEnabledTrue(pageable));
+        return filmCache.getPage(FilmScope.ENABLED, pageable, () -> FilmMapper.toFilmResponseSlice(filmRepository.findAllByEnabledTrue(pageable))).map(this::signUrls);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<FilmSummaryResponse> findAllSummaries(Pageable pageable) {
+        return FilmMapper.toFilmSummaryResponseSlice(filmRepository.findAllSummaries(pageable)).map(this::signUrls);
     }
 
     @Override
     @Transactional(readOnly = true)
+    public Slice<FilmSummaryResponse> findAllEnabledSummaries(Pageable pageable) {
+        return FilmMapper.toFilmSummaryResponseSlice(filmRepository.findAllEnabledSummaries(pageable)).map(this::signUrls);
+    }
+
+    @Override
     public FilmResponse findById(Long id) {
-        if (!filmRepository.existsById(id)) throw new NotFoundException(String.format(FilmValidator.FILM_NOT_FOUND, id));
+        FilmResponse film = filmCache.getFilm(id, filmId -> filmRepository.findById(filmId)
+                .map(FilmMapper::toFilmResponse)
+                .orElseThrow(() -> new NotFoundException(String.format(FilmValidator.FILM_NOT_FOUND, filmId))));
 
-        return FilmMapper.toFilmResponse(filmRepository.getReferenceById(id));
+        return signUrls(film);
+    }
+
+    @Override
+    public EntityVersion findVersionById(Long id) {
+        FilmResponse film = filmCache.getFilmIfPresent(id);
+        if (film != null) return FilmMapper.toEntityVersion(film);
+
+        return filmRepository.findVersionById(id).orElseThrow(() -> new NotFoundException(String.format(FilmValidator.FILM_NOT_FOUND, id)));
+    }
+
+    @Override
+    public CatalogVersion findCatalogVersion() {
+        return filmCache.getCatalogVersion(FilmScope.ALL, filmRepository::findCatalogVersion);
+    }
+
+    @Override
+    public CatalogVersion findEnabledCatalogVersion() {
+        return filmCache.getCatalogVersion(FilmScope.ENABLED, filmRepository::findEnabledCatalogVersion);
+    }
+
+    @Override
+    public SigningEpoch getSigningEpoch() {
+        return signedUrlCache.getSigningEpoch();
     }
 
     @Override
     @Transactional(readOnly = true)
     public Slice<FilmResponse> findByTitle(String title, Pageable pageable) {
-        Slice<Film> films = filmRepository.findByTitleContainingIgnoreCase(title, pageable);
+        Slice<FilmResponse> films = search(title, pageable);
 
         if (films.isEmpty()) throw new NotFoundException(String.format(FilmValidator.FILM_NOT_FOUND_BY_TITLE, title));
 
-        return FilmMapper.toFilmResponseSlice(films);
+        return films;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<FilmResponse> search(String query, Pageable pageable) {
+        Pageable rankedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+
+        if (!StringUtils.hasText(query)) return new SliceImpl<>(List.of(), rankedPageable, false);
+
+        return FilmMapper.toFilmResponseSlice(filmRepository.search(query.trim(), MAX_SEARCH_CANDIDATES, rankedPageable)).map(this::signUrls);
     }
 
     @Override
-    @Transactional
     public FilmResponse save(CreateFilmRequest createFilmRequest, MultipartFile image, String folder) throws IOException {
-        URL imageUrl = firebaseStorageService.uploadFile(image, folder);
+        if (image.isEmpty()) throw new FirebaseException(FirebaseValidator.FIREBASE_EMPTY_FILE);
+
+        Path source = Files.createTempFile(TEMPORARY_IMAGE_PREFIX, null);
+        Film savedFilm;
 
-        return FilmMapper.toFilmResponse(filmRepository.save(FilmMapper.toFilm(createFilmRequest, imageUrl.toString())));
+        try {
+            image.transferTo(source);
+
+            String imageKey;
+            try (InputStream inputStream = Files.newInputStream(source)) {
+                imageKey = storageService.uploadFile(inputStream, image.getOriginalFilename(), image.getContentType(), folder);
+            }
+
+            savedFilm = filmRepository.save(FilmMapper.toFilm(createFilmRequest, imageKey));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(source);
+            throw e;
+        }
+
+        imageVariantService.generateVariants(savedFilm.getId(), source, folder);
+
+        filmCache.evictScope(FilmScope.ALL);
+        filmCache.evictScope(FilmScope.ENABLED);
+
+        return signUrls(FilmMapper.toFilmResponse(savedFilm));
     }
 
     @Override
@@ -70,8 +176,11 @@ public class FilmService implements IFilmService {
         if (!filmRepository.existsById(updateFilmRequest.getId())) throw new NotFoundException(String.format(FilmValidator.FILM_NOT_FOUND, updateFilmRequest.getId()));
 
         Film savedFilm = filmRepository.getReferenceById(updateFilmRequest.getId());
+        Film updatedFilm = filmRepository.saveAndFlush(FilmMapper.toFilm(updateFilmRequest, savedFilm));
+
+        filmCache.evictFilm(updatedFilm.getId());
 
-        return FilmMapper.toFilmResponse(filmRepository.save(FilmMapper.toFilm(updateFilmRequest, savedFilm.getImageUrl(), savedFilm.isEnabled())));
+        return signUrls(FilmMapper.toFilmResponse(updatedFilm));
     }
 
     @Override
@@ -81,15 +190,45 @@ public class FilmService implements IFilmService {
 
         Film film = filmRepository.getReferenceById(id);
         film.setEnabled(!film.isEnabled());
+        Film updatedFilm = filmRepository.saveAndFlush(film);
+
+        filmCache.evictFilm(id);
+        filmCache.evictScope(FilmScope.ENABLED);
 
-        return FilmMapper.toFilmResponse(filmRepository.save(film));
+        return signUrls(FilmMapper.toFilmResponse(updatedFilm));
     }
 
     @Override
     @Transactional
     public void delete(Long id) {
-        if (!filmRepository.existsById(id)) throw new NotFoundException(String.format(FilmValidator.FILM_NOT_FOUND, id));
+        Film film = filmRepository.findById(id).orElseThrow(() -> new NotFoundException(String.format(FilmValidator.FILM_NOT_FOUND, id)));
+
+        filmRepository.delete(film);
+
+        filmCache.evictFilm(id);
+        filmCache.evictScope(FilmScope.ALL);
+        if (film.isEnabled()) filmCache.evictScope(FilmScope.ENABLED);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void export(ExportFormat format, OutputStream outputStream) throws IOException {
+        dataExporter.export(filmRepository.streamAll(), film -> signUrls(FilmMapper.toFilmResponse(film)), FilmResponse.class, format, outputStream);
+    }
+
+    @Override
+    public List<CacheStatsResponse> getCacheStats() {
+        List<CacheStatsResponse> stats = new ArrayList<>(filmCache.getStats());
+        stats.add(signedUrlCache.getStats());
+
+        return stats;
+    }
+
+    private FilmResponse signUrls(FilmResponse filmResponse) {
+        return FilmMapper.toSignedFilmResponse(filmResponse, signedUrlCache::resolve);
+    }
 
-        filmRepository.deleteById(id);
+    private FilmSummaryResponse signUrls(FilmSummaryResponse filmSummaryResponse) {
+        return FilmMapper.toSignedFilmSummaryResponse(filmSummaryResponse, signedUrlCache::resolve);
     }
 }
@@ -1,37 +1,49 @@
 package co.com.vortex.films.application.service.implementation;
 
-import co.com.vortex.films.application.service.IFirebaseStorageService;
+import co.com.vortex.films.application.service.IStorageService;
 import co.com.vortex.films.domain.validators.FirebaseValidator;
 import co.com.vortex.films.infrastructure.exceptions.FirebaseException;
-import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import com.google.firebase.cloud.StorageClient;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.URL;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
+@ConditionalOnProperty(name = "storage.provider", havingValue = "firebase", matchIfMissing = true)
 @RequiredArgsConstructor
 @Service
-public class FirebaseStorageService implements IFirebaseStorageService {
+public class FirebaseStorageService implements IStorageService {
     @Value("${firebase.storage.bucket-name}")
     private String bucketName;
 
     @Override
-    public URL uploadFile(MultipartFile file, String folderName) throws IOException {
+    public String uploadFile(MultipartFile file, String folderName) throws IOException {
         if (file.isEmpty()) throw new FirebaseException(FirebaseValidator.FIREBASE_EMPTY_FILE);
 
+        try (InputStream inputStream = file.getInputStream()) {
+            return uploadFile(inputStream, file.getOriginalFilename(), file.getContentType(), folderName);
+        }
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file) throws IOException {
+        return uploadFile(file, null);
+    }
+
+    @Override
+    public String uploadFile(InputStream inputStream, String originalFileName, String contentType, String folderName) throws IOException {
         Storage storage = StorageClient.getInstance().bucket().getStorage();
 
-        String originalFileName = file.getOriginalFilename();
         String extension = "";
         if (originalFileName != null && originalFileName.contains(".")) extension = originalFileName.substring(originalFileName.lastIndexOf("."));
         String uniqueFileName = UUID.randomUUID().toString() + extension;
@@ -42,17 +54,16 @@ public class FirebaseStorageService implements IFirebaseStorageService {
 
         BlobId blobId = BlobId.of(bucketName, objectName);
         BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
-                .setContentType(file.getContentType())
+                .setContentType(contentType)
                 .build();
 
-        Blob blob = storage.create(blobInfo, file.getBytes());
-        int durationInDays = 7;
+        storage.createFrom(blobInfo, inputStream);
 
-        return blob.signUrl(durationInDays, TimeUnit.DAYS, Storage.SignUrlOption.withV4Signature());
+        return objectName;
     }
 
     @Override
-    public URL uploadFile(MultipartFile file) throws IOException {
-        return uploadFile(file, null);
+    public void downloadFile(String objectKey, Path target) {
+        StorageClient.getInstance().bucket().getStorage().downloadTo(BlobId.of(bucketName, objectKey), target);
     }
 }
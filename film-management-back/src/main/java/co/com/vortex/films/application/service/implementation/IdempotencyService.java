@@ -0,0 +1,149 @@
+package co.com.vortex.films.application.service.implementation;
+
+import co.com.vortex.films.application.repository.IdempotentRequestRepository;
+import co.com.vortex.films.application.service.IIdempotencyService;
+import co.com.vortex.films.domain.mappers.IdempotentRequestMapper;
+import co.com.vortex.films.domain.models.IdempotentRequest;
+import co.com.vortex.films.domain.models.IdempotentRequestId;
+import co.com.vortex.films.domain.validators.IdempotencyValidator;
+import co.com.vortex.films.infrastructure.cache.DeadlineExpiry;
+import co.com.vortex.films.infrastructure.exceptions.BadRequestException;
+import co.com.vortex.films.infrastructure.exceptions.ConflictException;
+import co.com.vortex.films.infrastructure.security.Sha256;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+@Service
+public class IdempotencyService implements IIdempotencyService {
+    private final IdempotentRequestRepository idempotentRequestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final AsyncCache<IdempotentRequestId, IdempotentRequest> requests;
+    private final Duration ttl;
+
+    public IdempotencyService(
+            IdempotentRequestRepository idempotentRequestRepository,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            @Value("${idempotency.maximum-weight}") DataSize maximumWeight,
+            @Value("${idempotency.ttl}") Duration ttl
+    ) {
+        this.idempotentRequestRepository = idempotentRequestRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+
+        // In-flight futures never expire, so concurrent duplicates wait on the first request instead of running again.
+        // Entries hold whole response bodies, so the cache is bounded by their size rather than by how many there are.
+        this.requests = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.toBytes())
+                .weigher((IdempotentRequestId key, IdempotentRequest request) -> key.getIdempotencyKey().length() + request.getRequestHash().length() + request.getResponse().length())
+                .expireAfter(new DeadlineExpiry<IdempotentRequestId, IdempotentRequest>(request -> request.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant()))
+                .buildAsync();
+    }
+
+    @Override
+    public <T> T execute(Long userId, String idempotencyKey, Object request, Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > IdempotencyValidator.IDEMPOTENCY_KEY_MAX_LENGTH) {
+            throw new BadRequestException(IdempotencyValidator.KEY_NOT_VALID);
+        }
+
+        String requestHash = hash(request);
+        CompletableFuture<IdempotentRequest> pending = new CompletableFuture<>();
+        CompletableFuture<IdempotentRequest> existing = requests.asMap().putIfAbsent(new IdempotentRequestId(userId, idempotencyKey), pending);
+
+        if (existing != null) return replay(await(existing), requestHash, responseType);
+
+        try {
+            IdempotentRequest stored = idempotentRequestRepository.findByUserIdAndIdempotencyKeyAndExpiresAtAfter(userId, idempotencyKey, LocalDateTime.now())
+                    .orElseGet(() -> store(userId, idempotencyKey, requestHash, action));
+
+            pending.complete(stored);
+
+            return replay(stored, requestHash, responseType);
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval}")
+    @Transactional
+    public void purgeExpired() {
+        idempotentRequestRepository.deleteAllExpired(LocalDateTime.now());
+    }
+
+    private IdempotentRequest store(Long userId, String idempotencyKey, String requestHash, Supplier<?> action) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(ttl);
+
+        try {
+            // The key row is inserted before the action, so a duplicate on another instance blocks on it until this commits.
+            return transactionTemplate.execute(status -> {
+                idempotentRequestRepository.deleteExpired(userId, idempotencyKey, now);
+                idempotentRequestRepository.insert(userId, idempotencyKey, requestHash, now, expiresAt);
+
+                String response = serialize(idempotencyKey, action.get());
+                idempotentRequestRepository.updateResponse(userId, idempotencyKey, response);
+
+                return IdempotentRequestMapper.toIdempotentRequest(userId, idempotencyKey, requestHash, response, now, expiresAt);
+            });
+        } catch (DataIntegrityViolationException e) {
+            return idempotentRequestRepository.findByUserIdAndIdempotencyKeyAndExpiresAtAfter(userId, idempotencyKey, LocalDateTime.now())
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private <T> T replay(IdempotentRequest stored, String requestHash, Class<T> responseType) {
+        if (!stored.getRequestHash().equals(requestHash)) throw new ConflictException(String.format(IdempotencyValidator.KEY_REUSED, stored.getIdempotencyKey()));
+
+        try {
+            return objectMapper.readValue(stored.getResponse(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(String.format(IdempotencyValidator.RESPONSE_NOT_READABLE, stored.getIdempotencyKey()), e);
+        }
+    }
+
+    private IdempotentRequest await(CompletableFuture<IdempotentRequest> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+
+            throw e;
+        }
+    }
+
+    private String serialize(String idempotencyKey, Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(String.format(IdempotencyValidator.RESPONSE_NOT_READABLE, idempotencyKey), e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            return Sha256.hex(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package co.com.vortex.films.application.service.implementation;
+
+import co.com.vortex.films.application.repository.FilmRepository;
+import co.com.vortex.films.application.service.IImageVariantService;
+import co.com.vortex.films.application.service.IStorageService;
+import co.com.vortex.films.domain.models.ImageVariant;
+import co.com.vortex.films.domain.projections.PendingImageVariants;
+import co.com.vortex.films.domain.validators.FirebaseValidator;
+import co.com.vortex.films.infrastructure.cache.FilmCache;
+import co.com.vortex.films.infrastructure.concurrency.ThreadFactories;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Slf4j
+public class ImageVariantService implements IImageVariantService {
+    private static final String VARIANT_FORMAT = "jpg";
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+    private static final String TEMPORARY_IMAGE_PREFIX = "film-image-";
+
+    private final FilmRepository filmRepository;
+    private final IStorageService storageService;
+    private final FilmCache filmCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final Set<Long> queuedFilms = ConcurrentHashMap.newKeySet();
+
+    public ImageVariantService(
+            FilmRepository filmRepository,
+            IStorageService storageService,
+            FilmCache filmCache,
+            TransactionTemplate transactionTemplate,
+            @Value("${image.variants.threads}") int threads,
+            @Value("${image.variants.queue-capacity}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled}") boolean virtualThreads
+    ) {
+        this.filmRepository = filmRepository;
+        this.storageService = storageService;
+        this.filmCache = filmCache;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                ThreadFactories.of("image-variant-", virtualThreads),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public void generateVariants(Long filmId, Path source, String folderName) {
+        if (submit(filmId, source, folderName)) return;
+
+        log.warn("Image variant queue is full, variants for film {} will be retried from the stored original", filmId);
+        transactionTemplate.executeWithoutResult(status -> filmRepository.updateVariantsPending(filmId, true));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${image.variants.retry-interval}")
+    public void retryPendingVariants() {
+        int capacity = executor.getQueue().remainingCapacity();
+        if (capacity == 0) return;
+
+        for (PendingImageVariants pending : filmRepository.findPendingImageVariants(Limit.of(capacity))) {
+            if (queuedFilms.contains(pending.id())) continue;
+
+            try {
+                Path source = Files.createTempFile(TEMPORARY_IMAGE_PREFIX, null);
+                storageService.downloadFile(pending.imageKey(), source);
+
+                if (!submit(pending.id(), source, pending.folderName())) return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Original image of film {} could not be downloaded to retry its variants", pending.id(), e);
+            }
+        }
+    }
+
+    private boolean submit(Long filmId, Path source, String folderName) {
+        queuedFilms.add(filmId);
+
+        try {
+            executor.execute(() -> generate(filmId, source, folderName));
+            return true;
+        } catch (RejectedExecutionException e) {
+            queuedFilms.remove(filmId);
+            deleteQuietly(source);
+            return false;
+        }
+    }
+
+    private void generate(Long filmId, Path source, String folderName) {
+        try {
+            Map<ImageVariant, String> variantKeys = new EnumMap<>(ImageVariant.class);
+
+            for (ImageVariant variant : ImageVariant.values()) {
+                variantKeys.put(variant, uploadVariant(source, variant, folderName));
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                filmRepository.updateImageVariants(
+                        filmId,
+                        variantKeys.get(ImageVariant.THUMBNAIL),
+                        variantKeys.get(ImageVariant.CARD),
+                        variantKeys.get(ImageVariant.FULL),
+                        LocalDateTime.now()
+                );
+
+                filmRepository.updateVariantsPending(filmId, false);
+                filmCache.evictFilm(filmId);
+            });
+        } catch (IOException | RuntimeException e) {
+            log.warn("Image variants for film {} could not be generated", filmId, e);
+        } finally {
+            queuedFilms.remove(filmId);
+            deleteQuietly(source);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private String uploadVariant(Path source, ImageVariant variant, String folderName) throws IOException {
+        BufferedImage resized = resize(read(source, variant.getWidth()), variant.getWidth());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(resized, VARIANT_FORMAT, outputStream);
+
+        String fileName = variant.name().toLowerCase() + "." + VARIANT_FORMAT;
+        try (InputStream inputStream = new ByteArrayInputStream(outputStream.toByteArray())) {
+            return storageService.uploadFile(inputStream, fileName, VARIANT_CONTENT_TYPE, folderName);
+        }
+    }
+
+    private BufferedImage read(Path source, int targetWidth) throws IOException {
+        try (ImageInputStream inputStream = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(inputStream);
+            if (!readers.hasNext()) throw new IOException(FirebaseValidator.FIREBASE_UNSUPPORTED_IMAGE);
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(inputStream, true, true);
+
+                int subsampling = Math.max(1, reader.getWidth(0) / targetWidth);
+                ImageReadParam readParam = reader.getDefaultReadParam();
+                readParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                return reader.read(0, readParam);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage resize(BufferedImage image, int targetWidth) {
+        int width = Math.min(targetWidth, image.getWidth());
+        int height = Math.max(1, Math.round((float) image.getHeight() * width / image.getWidth()));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return resized;
+    }
+
+    private void deleteQuietly(Path source) {
+        try {
+            Files.deleteIfExists(source);
+        } catch (IOException e) {
+            log.warn("Temporary image {} could not be deleted", source, e);
+        }
+    }
+}
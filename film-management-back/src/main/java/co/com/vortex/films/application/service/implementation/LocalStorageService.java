@@ -0,0 +1,130 @@
+package co.com.vortex.films.application.service.implementation;
+
+import co.com.vortex.films.application.service.IStorageService;
+import co.com.vortex.films.domain.validators.FirebaseValidator;
+import co.com.vortex.films.domain.validators.StorageValidator;
+import co.com.vortex.films.infrastructure.exceptions.BadRequestException;
+import co.com.vortex.films.infrastructure.exceptions.FirebaseException;
+import co.com.vortex.films.infrastructure.exceptions.NotFoundException;
+import co.com.vortex.films.infrastructure.exceptions.UnauthorizedException;
+import co.com.vortex.films.infrastructure.security.Sha256;
+import co.com.vortex.films.infrastructure.storage.LocalUrlSigner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+@ConditionalOnProperty(name = "storage.provider", havingValue = "local")
+@Service
+public class LocalStorageService implements IStorageService {
+    private static final String TEMPORARY_FILE_PREFIX = ".upload-";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern EXTENSION_PATTERN = Pattern.compile("\\.[A-Za-z0-9]{1,10}");
+
+    private final Path root;
+    private final LocalUrlSigner localUrlSigner;
+
+    public LocalStorageService(@Value("${storage.local.root}") String root, LocalUrlSigner localUrlSigner) throws IOException {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.localUrlSigner = localUrlSigner;
+
+        Files.createDirectories(this.root);
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file, String folderName) throws IOException {
+        if (file.isEmpty()) throw new FirebaseException(FirebaseValidator.FIREBASE_EMPTY_FILE);
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return uploadFile(inputStream, file.getOriginalFilename(), file.getContentType(), folderName);
+        }
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file) throws IOException {
+        return uploadFile(file, null);
+    }
+
+    @Override
+    public String uploadFile(InputStream inputStream, String originalFileName, String contentType, String folderName) throws IOException {
+        Path temporaryFile = Files.createTempFile(root, TEMPORARY_FILE_PREFIX, null);
+
+        try {
+            String hash = write(inputStream, temporaryFile);
+            String fileName = hash + extensionOf(originalFileName);
+            String objectKey = StringUtils.hasText(folderName) ? folderName + "/" + fileName : fileName;
+
+            Path target = toPath(objectKey);
+            Files.createDirectories(target.getParent());
+            Files.move(temporaryFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            return objectKey;
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    @Override
+    public void downloadFile(String objectKey, Path target) throws IOException {
+        Files.copy(toPath(objectKey), target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public Path findFile(String objectKey, long expires, String signature) {
+        if (!localUrlSigner.verify(objectKey, expires, signature)) throw new UnauthorizedException(StorageValidator.MEDIA_SIGNATURE_NOT_VALID);
+
+        Path file = toPath(objectKey);
+        if (!Files.isRegularFile(file)) throw new NotFoundException(String.format(StorageValidator.MEDIA_NOT_FOUND, objectKey));
+
+        return file;
+    }
+
+    private String write(InputStream inputStream, Path temporaryFile) throws IOException {
+        MessageDigest digest = Sha256.newDigest();
+        ReadableByteChannel source = Channels.newChannel(inputStream);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        try (FileChannel target = FileChannel.open(temporaryFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer.duplicate());
+
+                while (buffer.hasRemaining()) target.write(buffer);
+                buffer.clear();
+            }
+
+            target.force(false);
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private Path toPath(String objectKey) {
+        Path path = root.resolve(objectKey).normalize();
+        if (!path.startsWith(root) || path.equals(root)) throw new BadRequestException(String.format(StorageValidator.OBJECT_KEY_NOT_VALID, objectKey));
+
+        return path;
+    }
+
+    private String extensionOf(String originalFileName) {
+        if (originalFileName == null || !originalFileName.contains(".")) return "";
+
+        String extension = originalFileName.substring(originalFileName.lastIndexOf("."));
+
+        return EXTENSION_PATTERN.matcher(extension).matches() ? extension.toLowerCase() : "";
+    }
+}
@@ -0,0 +1,45 @@
+package co.com.vortex.films.application.service.implementation;
+
+import co.com.vortex.films.application.service.IMailTemplateService;
+import co.com.vortex.films.domain.models.MailTemplate;
+import co.com.vortex.films.domain.validators.MailValidator;
+import co.com.vortex.films.infrastructure.exceptions.MailException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+@RequiredArgsConstructor
+@Service
+public class MailTemplateService implements IMailTemplateService {
+    private final ITemplateEngine templateEngine;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String render(MailTemplate template, Object model) {
+        Context context = new Context();
+        context.setVariable(template.getVariableName(), model);
+
+        return templateEngine.process(template.getTemplateName(), context);
+    }
+
+    @Override
+    public String render(MailTemplate template, String serializedModel) {
+        try {
+            return render(template, objectMapper.readValue(serializedModel, template.getModelType()));
+        } catch (JsonProcessingException e) {
+            throw new MailException(String.format(MailValidator.EMAIL_MODEL_NOT_READABLE, template));
+        }
+    }
+
+    @Override
+    public String serialize(Object model) {
+        try {
+            return objectMapper.writeValueAsString(model);
+        } catch (JsonProcessingException e) {
+            throw new MailException(String.format(MailValidator.EMAIL_MODEL_NOT_READABLE, model.getClass().getSimpleName()));
+        }
+    }
+}
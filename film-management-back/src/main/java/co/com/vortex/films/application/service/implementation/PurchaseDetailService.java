@@ -2,10 +2,16 @@ package co.com.vortex.films.application.service.implementation;
 
 import co.com.vortex.films.application.repository.FilmRepository;
 import co.com.vortex.films.application.repository.PurchaseDetailRepository;
+import co.com.vortex.films.application.repository.PurchaseRepository;
 import co.com.vortex.films.application.service.IPurchaseDetailService;
+import co.com.vortex.films.application.service.ISalesRollupService;
+import co.com.vortex.films.application.service.ISeatReservationService;
 import co.com.vortex.films.domain.dto.purchasedetail.PurchaseDetailResponse;
 import co.com.vortex.films.domain.mappers.PurchaseDetailMapper;
+import co.com.vortex.films.domain.models.Purchase;
+import co.com.vortex.films.domain.models.PurchaseDetail;
 import co.com.vortex.films.domain.validators.PurchaseDetailValidator;
+import co.com.vortex.films.infrastructure.cache.SignedUrlCache;
 import co.com.vortex.films.infrastructure.exceptions.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -13,30 +19,49 @@ import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.BitSet;
+
 @RequiredArgsConstructor
 @Service
 public class PurchaseDetailService implements IPurchaseDetailService {
     private final PurchaseDetailRepository purchaseDetailRepository;
+    private final PurchaseRepository purchaseRepository;
+    private final ISalesRollupService salesRollupService;
+    private final ISeatReservationService seatReservationService;
+    private final SignedUrlCache signedUrlCache;
 
     @Override
     @Transactional(readOnly = true)
     public Slice<PurchaseDetailResponse> findAll(Pageable pageable) {
-        return PurchaseDetailMapper.toPurchaseDetailResponseSlice(purchaseDetailRepository.findAll(pageable));
+        return PurchaseDetailMapper.toPurchaseDetailResponseSlice(purchaseDetailRepository.findAll(pageable), signedUrlCache::resolve);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PurchaseDetailResponse findById(Long id) {
-        if (!purchaseDetailRepository.existsById(id)) throw new NotFoundException(String.format(PurchaseDetailValidator.PURCHASE_DETAIL_NOT_FOUND, id));
+        PurchaseDetail purchaseDetail = purchaseDetailRepository.findWithFilmById(id)
+                .orElseThrow(() -> new NotFoundException(String.format(PurchaseDetailValidator.PURCHASE_DETAIL_NOT_FOUND, id)));
 
-        return PurchaseDetailMapper.toPurchaseDetailResponse(purchaseDetailRepository.getReferenceById(id));
+        return PurchaseDetailMapper.toPurchaseDetailResponse(purchaseDetail, signedUrlCache::resolve);
     }
 
     @Override
     @Transactional
     public void delete(Long id) {
-        if (!purchaseDetailRepository.existsById(id)) throw new NotFoundException(String.format(PurchaseDetailValidator.PURCHASE_DETAIL_NOT_FOUND, id));
+        PurchaseDetail purchaseDetail = purchaseDetailRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException(String.format(PurchaseDetailValidator.PURCHASE_DETAIL_NOT_FOUND, id)));
+
+        // Looked up with the line's partition key, so only the partition of its purchase is probed.
+        Purchase purchase = purchaseRepository.findByIdAndPurchaseDate(purchaseDetail.getPurchase().getId(), purchaseDetail.getPurchaseDate())
+                .orElseThrow(() -> new NotFoundException(String.format(PurchaseDetailValidator.PURCHASE_DETAIL_NOT_FOUND, id)));
+
+        salesRollupService.revert(purchaseDetail);
+        if (purchaseDetail.getScreening() != null && purchaseDetail.getSeats() != null) {
+            seatReservationService.releaseSold(purchaseDetail.getScreening().getId(), BitSet.valueOf(purchaseDetail.getSeats()));
+        }
 
-        purchaseDetailRepository.deleteById(id);
+        purchase.setTotalAmount(purchase.getTotalAmount() - purchaseDetail.getQuantity() * purchaseDetail.getUnitPrice());
+        purchase.removeDetail(purchaseDetail);
+        purchaseDetailRepository.delete(purchaseDetail);
     }
 }
@@ -0,0 +1,48 @@
+package co.com.vortex.films.application.service.implementation;
+
+import co.com.vortex.films.application.repository.PurchaseRepository;
+import co.com.vortex.films.application.service.IPurchasePartitionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Service
+@Slf4j
+public class PurchasePartitionService implements IPurchasePartitionService {
+    private final PurchaseRepository purchaseRepository;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final String archiveTablespace;
+
+    public PurchasePartitionService(
+            PurchaseRepository purchaseRepository,
+            @Value("${partitioning.purchases.premake-months}") int premakeMonths,
+            @Value("${partitioning.purchases.retention-months}") int retentionMonths,
+            @Value("${partitioning.purchases.archive-tablespace}") String archiveTablespace
+    ) {
+        this.purchaseRepository = purchaseRepository;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        this.archiveTablespace = archiveTablespace;
+    }
+
+    @Override
+    @Scheduled(cron = "${partitioning.purchases.maintenance-cron}")
+    @Transactional
+    public void maintain() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+
+        // Months ahead are created before any purchase can land in them; rows that still reached the default partitions are moved out as their month is created.
+        int created = purchaseRepository.createPartitions(currentMonth, premakeMonths + 1);
+        int archived = retentionMonths > 0 ? purchaseRepository.archivePartitions(currentMonth.minusMonths(retentionMonths), archiveTablespace) : 0;
+
+        if (created > 0 || archived > 0) log.info("Purchase partitions maintained, {} created and {} months archived", created, archived);
+
+        // Whatever is left dates outside the maintained months, is never archived, and is scanned by every query that cannot prune the default partition.
+        if (purchaseRepository.existsInDefaultPartitions()) log.error("Purchases outside the partitioned months are stored in the default partitions, create their months with create_purchase_partitions to move them");
+    }
+}
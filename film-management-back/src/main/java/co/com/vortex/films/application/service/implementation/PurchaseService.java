@@ -1,138 +1,245 @@
 package co.com.vortex.films.application.service.implementation;
 
 import co.com.vortex.films.application.repository.FilmRepository;
+import co.com.vortex.films.application.repository.PurchaseReferenceCodeRepository;
 import co.com.vortex.films.application.repository.PurchaseRepository;
 import co.com.vortex.films.application.repository.UserRepository;
-import co.com.vortex.films.application.service.IMailService;
+import co.com.vortex.films.application.service.IEmailOutboxService;
 import co.com.vortex.films.application.service.IPurchaseService;
-import co.com.vortex.films.domain.dto.mail.MailBody;
+import co.com.vortex.films.application.service.ISalesRollupService;
+import co.com.vortex.films.application.service.ISeatReservationService;
+import co.com.vortex.films.domain.dto.mail.TicketMail;
+import co.com.vortex.films.domain.dto.pagination.CursorRequest;
+import co.com.vortex.films.domain.dto.pagination.CursorResponse;
 import co.com.vortex.films.domain.dto.purchase.CreatePurchaseRequest;
+import co.com.vortex.films.domain.dto.purchase.PurchaseExportResponse;
+import co.com.vortex.films.domain.dto.purchase.PurchaseReferenceResponse;
 import co.com.vortex.films.domain.dto.purchase.PurchaseResponse;
+import co.com.vortex.films.domain.dto.purchase.PurchaseSummaryResponse;
 import co.com.vortex.films.domain.dto.purchasedetail.CreatePurchaseDetailRequest;
+import co.com.vortex.films.domain.mappers.MailMapper;
 import co.com.vortex.films.domain.mappers.PurchaseDetailMapper;
 import co.com.vortex.films.domain.mappers.PurchaseMapper;
 import co.com.vortex.films.domain.models.*;
+import co.com.vortex.films.domain.projections.PurchaseKey;
+import co.com.vortex.films.domain.projections.PurchaseSummary;
 import co.com.vortex.films.domain.validators.FilmValidator;
 import co.com.vortex.films.domain.validators.MailValidator;
 import co.com.vortex.films.domain.validators.PurchaseValidator;
 import co.com.vortex.films.domain.validators.UserValidator;
+import co.com.vortex.films.infrastructure.cache.SignedUrlCache;
 import co.com.vortex.films.infrastructure.exceptions.NotFoundException;
+import co.com.vortex.films.infrastructure.export.DataExporter;
+import co.com.vortex.films.infrastructure.export.ExportFormat;
+import co.com.vortex.films.infrastructure.pagination.KeysetCursor;
+import co.com.vortex.films.infrastructure.reference.ReferenceCodeGenerator;
+import co.com.vortex.films.infrastructure.reservation.ConfirmedSeats;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class PurchaseService implements IPurchaseService {
-    private static final String REFERENCE_CODE_PREFIX = "FM-";
-    private static final int REFERENCE_CODE_MIN = 10000;
-    private static final int REFERENCE_CODE_MAX = 99999;
+    private static final Duration REFERENCE_CODE_SKEW = Duration.ofDays(1);
+    private static final Map<String, Class<?>> CURSOR_PROPERTIES = Map.of("id", Long.class, "purchaseDate", LocalDateTime.class);
 
     private final PurchaseRepository purchaseRepository;
+    private final PurchaseReferenceCodeRepository purchaseReferenceCodeRepository;
     private final UserRepository userRepository;
     private final FilmRepository filmRepository;
-    private final IMailService mailService;
-    private final SpringTemplateEngine springTemplateEngine;
+    private final IEmailOutboxService emailOutboxService;
+    private final ISeatReservationService seatReservationService;
+    private final ISalesRollupService salesRollupService;
+    private final DataExporter dataExporter;
+    private final SignedUrlCache signedUrlCache;
+    private final ReferenceCodeGenerator referenceCodeGenerator;
 
     @Override
     @Transactional(readOnly = true)
     public Slice<PurchaseResponse> findAll(Pageable pageable) {
-        return PurchaseMapper.toPurchaseResponseSlice(purchaseRepository.findAll(pageable));
+        return toPurchaseResponseSlice(purchaseRepository.findAllKeys(pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<PurchaseResponse> findAll(CursorRequest cursorRequest) {
+        KeysetCursor cursor = KeysetCursor.of(cursorRequest, CURSOR_PROPERTIES);
+
+        return cursor.toCursorResponse(fetchDetails(purchaseRepository.findAllByKeyset(cursor, cursorRequest.getSize() + 1, Map.of())), cursorRequest.getSize(), purchase -> PurchaseMapper.toPurchaseResponse(purchase, signedUrlCache::resolve));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<PurchaseSummaryResponse> findAllSummaries(Pageable pageable) {
+        return PurchaseMapper.toPurchaseSummaryResponseSlice(purchaseRepository.findAllSummaries(pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Slice<PurchaseResponse> findByUserId(Long userId, Pageable pageable) {
-        Slice<Purchase> purchases = purchaseRepository.findByUserId(userId, pageable);
+        Slice<PurchaseKey> purchaseKeys = purchaseRepository.findKeysByUserId(userId, pageable);
+
+        if (purchaseKeys.isEmpty()) throw new NotFoundException(String.format(PurchaseValidator.PURCHASE_NOT_FOUND_BY_USER, userId));
+
+        return toPurchaseResponseSlice(purchaseKeys);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<PurchaseResponse> findByUserId(Long userId, CursorRequest cursorRequest) {
+        KeysetCursor cursor = KeysetCursor.of(cursorRequest, CURSOR_PROPERTIES);
+
+        return cursor.toCursorResponse(fetchDetails(purchaseRepository.findAllByKeyset(cursor, cursorRequest.getSize() + 1, Map.of("user.id", userId))), cursorRequest.getSize(), purchase -> PurchaseMapper.toPurchaseResponse(purchase, signedUrlCache::resolve));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<PurchaseSummaryResponse> findSummariesByUserId(Long userId, Pageable pageable) {
+        Slice<PurchaseSummary> purchases = purchaseRepository.findSummariesByUserId(userId, pageable);
 
         if (purchases.isEmpty()) throw new NotFoundException(String.format(PurchaseValidator.PURCHASE_NOT_FOUND_BY_USER, userId));
 
-        return PurchaseMapper.toPurchaseResponseSlice(purchases);
+        return PurchaseMapper.toPurchaseSummaryResponseSlice(purchases);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PurchaseResponse findById(Long id, LocalDate purchaseDate) {
+        Purchase purchase = findWithDetails(id, purchaseDate)
+                .orElseThrow(() -> new NotFoundException(String.format(PurchaseValidator.PURCHASE_NOT_FOUND, id)));
+
+        return PurchaseMapper.toPurchaseResponse(purchase, signedUrlCache::resolve);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public PurchaseResponse findById(Long id) {
-        if (!purchaseRepository.existsById(id)) throw new NotFoundException(String.format(PurchaseValidator.PURCHASE_NOT_FOUND, id));
+    public PurchaseReferenceResponse findByReferenceCode(String referenceCode) {
+        // The code carries its issue time, which bounds the purchase date so the lookup only probes the partitions around it.
+        LocalDateTime issuedAt = referenceCodeGenerator.issuedAt(referenceCode);
 
-        return PurchaseMapper.toPurchaseResponse(purchaseRepository.getReferenceById(id));
+        return purchaseRepository.findReference(referenceCode, issuedAt.minus(REFERENCE_CODE_SKEW), issuedAt.plus(REFERENCE_CODE_SKEW))
+                .map(PurchaseMapper::toPurchaseReferenceResponse)
+                .orElseThrow(() -> new NotFoundException(String.format(PurchaseValidator.PURCHASE_NOT_FOUND_BY_REFERENCE_CODE, referenceCode)));
     }
 
     @Override
     @Transactional
     public PurchaseResponse save(CreatePurchaseRequest createPurchaseRequest) {
-        if (!userRepository.existsById(createPurchaseRequest.getUserId())) throw new NotFoundException(String.format(UserValidator.USER_NOT_FOUND, createPurchaseRequest.getUserId()));
-
-        User user = userRepository.getReferenceById(createPurchaseRequest.getUserId());
-        Purchase purchase = PurchaseMapper.toPurchase(createPurchaseRequest, user);
+        User user = userRepository.findById(createPurchaseRequest.getUserId())
+                .orElseThrow(() -> new NotFoundException(String.format(UserValidator.USER_NOT_FOUND, createPurchaseRequest.getUserId())));
+        Purchase purchase = PurchaseMapper.toPurchase(createPurchaseRequest, user, referenceCodeGenerator.next());
 
         processPurchaseDetails(purchase, createPurchaseRequest.getDetails());
         calculateTotalAmount(purchase);
-        sendConfirmationEmail(purchase);
 
-        return PurchaseMapper.toPurchaseResponse(purchaseRepository.save(purchase));
+        Purchase savedPurchase = purchaseRepository.save(purchase);
+        // The partitioned purchases table can only enforce uniqueness per month, so the code is also claimed in the unpartitioned registry.
+        purchaseReferenceCodeRepository.register(savedPurchase.getReferenceCode(), savedPurchase.getId(), savedPurchase.getPurchaseDate());
+        salesRollupService.record(savedPurchase);
+        enqueueConfirmationEmail(savedPurchase);
+
+        return PurchaseMapper.toPurchaseResponse(savedPurchase, signedUrlCache::resolve);
     }
 
     @Override
     @Transactional
-    public void delete(Long id) {
-        if (!purchaseRepository.existsById(id)) throw new NotFoundException(String.format(PurchaseValidator.PURCHASE_NOT_FOUND, id));
+    public void delete(Long id, LocalDate purchaseDate) {
+        Purchase purchase = findWithDetails(id, purchaseDate)
+                .orElseThrow(() -> new NotFoundException(String.format(PurchaseValidator.PURCHASE_NOT_FOUND, id)));
 
-        purchaseRepository.deleteById(id);
+        salesRollupService.revert(purchase);
+        purchase.getDetails().forEach(this::releaseSeats);
+        purchaseRepository.delete(purchase);
     }
 
-    private void processPurchaseDetails(Purchase purchase, List<CreatePurchaseDetailRequest> detailRequests) {
-        detailRequests.forEach(detailRequest -> {
-            if (!filmRepository.existsById(detailRequest.getFilmId())) throw new NotFoundException(String.format(FilmValidator.FILM_NOT_FOUND, detailRequest.getFilmId()));
-            Film film = filmRepository.getReferenceById(detailRequest.getFilmId());
+    @Override
+    @Transactional(readOnly = true)
+    public void export(ExportFormat format, OutputStream outputStream) throws IOException {
+        dataExporter.export(purchaseRepository.streamAllExportRows(), PurchaseMapper::toPurchaseExportResponse, PurchaseExportResponse.class, format, outputStream);
+    }
 
-            PurchaseDetail detail = PurchaseDetailMapper.toPurchaseDetail(detailRequest, film);
+    private Optional<Purchase> findWithDetails(Long id, LocalDate purchaseDate) {
+        // Without the purchase day every monthly partition has to be probed for the ID.
+        if (purchaseDate == null) return purchaseRepository.findWithDetailsById(id);
 
-            purchase.addDetail(detail);
-        });
+        return purchaseRepository.findWithDetailsByIdAndPurchaseDateBetween(id, purchaseDate.atStartOfDay(), purchaseDate.atTime(LocalTime.MAX));
     }
 
-    private void calculateTotalAmount(Purchase purchase) {
-        int totalAmount = purchase.getDetails().stream()
-                .mapToInt(detail -> detail.getFilm().getTicketPrice() * detail.getQuantity())
-                .sum();
+    private Slice<PurchaseResponse> toPurchaseResponseSlice(Slice<PurchaseKey> purchaseKeys) {
+        // Paging runs over bare keys so the collection fetch below never forces Hibernate to paginate in memory.
+        Map<Long, Purchase> purchases = findWithDetails(purchaseKeys.getContent(), PurchaseKey::id, PurchaseKey::purchaseDate).stream()
+                .collect(Collectors.toMap(Purchase::getId, Function.identity()));
 
-        purchase.setTotalAmount(totalAmount);
+        return purchaseKeys.map(purchaseKey -> PurchaseMapper.toPurchaseResponse(purchases.get(purchaseKey.id()), signedUrlCache::resolve));
     }
 
-    private void sendConfirmationEmail(Purchase purchase) {
-        Context context = createEmailContext(purchase);
-        String htmlContent = springTemplateEngine.process("email-ticket-template", context);
+    private List<Purchase> fetchDetails(List<Purchase> purchases) {
+        // The keyset rows are already managed, so this fetch only initializes their details and films in one query.
+        findWithDetails(purchases, Purchase::getId, Purchase::getPurchaseDate);
+
+        return purchases;
+    }
 
-        MailBody mailBody = MailBody.builder()
-                .to(purchase.getUser().getEmail())
-                .subject(MailValidator.EMAIL_TITLE)
-                .body(htmlContent)
-                .isHtml(true)
-                .build();
+    private <T> List<Purchase> findWithDetails(List<T> rows, Function<T, Long> id, Function<T, LocalDateTime> purchaseDate) {
+        if (rows.isEmpty()) return List.of();
 
-        mailService.sendMail(mailBody);
+        // The date bounds of the page let Postgres prune the fetch to the partitions the page actually spans.
+        List<LocalDateTime> purchaseDates = rows.stream().map(purchaseDate).sorted().toList();
+
+        return purchaseRepository.findWithDetailsByIdInAndPurchaseDateBetween(rows.stream().map(id).toList(), purchaseDates.get(0), purchaseDates.get(purchaseDates.size() - 1));
     }
 
-    private Context createEmailContext(Purchase purchase) {
-        Context context = new Context();
-        context.setVariable("purchase", purchase);
-        context.setVariable("details", purchase.getDetails());
-        context.setVariable("user", purchase.getUser());
-        context.setVariable("referenceCode", generateReferenceCode());
+    private void processPurchaseDetails(Purchase purchase, List<CreatePurchaseDetailRequest> detailRequests) {
+        Set<Long> filmIds = detailRequests.stream().map(CreatePurchaseDetailRequest::getFilmId).collect(Collectors.toCollection(TreeSet::new));
+        Map<Long, Film> films = filmRepository.findAllById(filmIds).stream().collect(Collectors.toMap(Film::getId, Function.identity()));
+
+        filmIds.removeAll(films.keySet());
+        if (!filmIds.isEmpty()) throw new NotFoundException(String.format(FilmValidator.FILMS_NOT_FOUND, filmIds));
 
-        return context;
+        detailRequests.forEach(detailRequest -> {
+            ConfirmedSeats confirmedSeats = detailRequest.getHoldId() != null
+                    ? seatReservationService.confirm(detailRequest.getHoldId(), purchase.getUser().getId(), detailRequest.getFilmId(), detailRequest.getQuantity())
+                    : null;
+
+            purchase.addDetail(PurchaseDetailMapper.toPurchaseDetail(detailRequest, films.get(detailRequest.getFilmId()), confirmedSeats));
+        });
+    }
+
+    private void releaseSeats(PurchaseDetail purchaseDetail) {
+        if (purchaseDetail.getScreening() == null || purchaseDetail.getSeats() == null) return;
+
+        seatReservationService.releaseSold(purchaseDetail.getScreening().getId(), BitSet.valueOf(purchaseDetail.getSeats()));
+    }
+
+    private void calculateTotalAmount(Purchase purchase) {
+        int totalAmount = purchase.getDetails().stream()
+                .mapToInt(detail -> detail.getUnitPrice() * detail.getQuantity())
+                .sum();
+
+        purchase.setTotalAmount(totalAmount);
     }
 
-    private String generateReferenceCode() {
-        int randomCode = (int)(Math.random() * (REFERENCE_CODE_MAX - REFERENCE_CODE_MIN + 1)) + REFERENCE_CODE_MIN;
+    private void enqueueConfirmationEmail(Purchase purchase) {
+        TicketMail ticketMail = MailMapper.toTicketMail(purchase);
 
-        return REFERENCE_CODE_PREFIX + randomCode;
+        emailOutboxService.enqueue(purchase.getUser().getEmail(), MailValidator.EMAIL_TITLE, MailTemplate.TICKET, ticketMail);
     }
 }
@@ -0,0 +1,78 @@
+package co.com.vortex.films.application.service.implementation;
+
+import co.com.vortex.films.application.repository.FilmDailySalesRepository;
+import co.com.vortex.films.application.repository.GenreDailySalesRepository;
+import co.com.vortex.films.application.repository.PaymentMethodDailySalesRepository;
+import co.com.vortex.films.application.service.IReportService;
+import co.com.vortex.films.domain.dto.report.DailyRevenueResponse;
+import co.com.vortex.films.domain.dto.report.FilmSalesResponse;
+import co.com.vortex.films.domain.dto.report.GenreSalesResponse;
+import co.com.vortex.films.domain.dto.report.PaymentMethodSalesResponse;
+import co.com.vortex.films.domain.mappers.ReportMapper;
+import co.com.vortex.films.domain.projections.PaymentMethodSales;
+import co.com.vortex.films.domain.validators.ReportValidator;
+import co.com.vortex.films.infrastructure.exceptions.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Service
+public class ReportService implements IReportService {
+    private final FilmDailySalesRepository filmDailySalesRepository;
+    private final GenreDailySalesRepository genreDailySalesRepository;
+    private final PaymentMethodDailySalesRepository paymentMethodDailySalesRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FilmSalesResponse> findTopFilms(LocalDate from, LocalDate to, int limit) {
+        validateRange(from, to);
+        if (limit < 1 || limit > ReportValidator.MAX_LIMIT) throw new BadRequestException(ReportValidator.LIMIT_NOT_VALID);
+
+        return filmDailySalesRepository.findTopFilms(from, to, PageRequest.of(0, limit)).stream()
+                .map(ReportMapper::toFilmSalesResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GenreSalesResponse> findGenreSales(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        return genreDailySalesRepository.findGenreSales(from, to).stream()
+                .map(ReportMapper::toGenreSalesResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailyRevenueResponse> findDailyRevenue(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        return paymentMethodDailySalesRepository.findDailyRevenue(from, to).stream()
+                .map(ReportMapper::toDailyRevenueResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PaymentMethodSalesResponse> findPaymentMethodSales(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        List<PaymentMethodSales> paymentMethodSales = paymentMethodDailySalesRepository.findPaymentMethodSales(from, to);
+        long totalPurchases = paymentMethodSales.stream().mapToLong(PaymentMethodSales::purchases).sum();
+
+        return paymentMethodSales.stream()
+                .map(sales -> ReportMapper.toPaymentMethodSalesResponse(sales, totalPurchases))
+                .toList();
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= ReportValidator.MAX_RANGE_DAYS) throw new BadRequestException(ReportValidator.RANGE_NOT_VALID);
+    }
+}
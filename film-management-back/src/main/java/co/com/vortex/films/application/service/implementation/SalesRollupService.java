@@ -0,0 +1,108 @@
+package co.com.vortex.films.application.service.implementation;
+
+import co.com.vortex.films.application.repository.FilmDailySalesRepository;
+import co.com.vortex.films.application.repository.GenreDailySalesRepository;
+import co.com.vortex.films.application.repository.PaymentMethodDailySalesRepository;
+import co.com.vortex.films.application.service.ISalesRollupService;
+import co.com.vortex.films.domain.models.FilmGenre;
+import co.com.vortex.films.domain.models.Purchase;
+import co.com.vortex.films.domain.models.PurchaseDetail;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@Slf4j
+public class SalesRollupService implements ISalesRollupService {
+    private final FilmDailySalesRepository filmDailySalesRepository;
+    private final GenreDailySalesRepository genreDailySalesRepository;
+    private final PaymentMethodDailySalesRepository paymentMethodDailySalesRepository;
+    private final int reconcileDays;
+
+    public SalesRollupService(
+            FilmDailySalesRepository filmDailySalesRepository,
+            GenreDailySalesRepository genreDailySalesRepository,
+            PaymentMethodDailySalesRepository paymentMethodDailySalesRepository,
+            @Value("${reporting.reconcile-days}") int reconcileDays
+    ) {
+        this.filmDailySalesRepository = filmDailySalesRepository;
+        this.genreDailySalesRepository = genreDailySalesRepository;
+        this.paymentMethodDailySalesRepository = paymentMethodDailySalesRepository;
+        this.reconcileDays = reconcileDays;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Purchase purchase) {
+        apply(purchase, 1);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void revert(Purchase purchase) {
+        apply(purchase, -1);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void revert(PurchaseDetail purchaseDetail) {
+        Purchase purchase = purchaseDetail.getPurchase();
+        LocalDate salesDate = purchase.getPurchaseDate().toLocalDate();
+
+        // The purchase itself remains, so its payment method only loses the revenue of this line.
+        applyDetails(salesDate, List.of(purchaseDetail), -1);
+        paymentMethodDailySalesRepository.addSales(purchase.getPaymentMethod().ordinal(), salesDate, 0, -(long) purchaseDetail.getQuantity() * purchaseDetail.getUnitPrice());
+    }
+
+    @Override
+    @Scheduled(cron = "${reporting.reconcile-cron}")
+    @Transactional
+    public void reconcile() {
+        LocalDate from = LocalDate.now().minusDays(reconcileDays);
+
+        int corrected = filmDailySalesRepository.reconcileFrom(from) + filmDailySalesRepository.deleteStaleFrom(from)
+                + genreDailySalesRepository.reconcileFrom(from) + genreDailySalesRepository.deleteStaleFrom(from)
+                + paymentMethodDailySalesRepository.reconcileFrom(from) + paymentMethodDailySalesRepository.deleteStaleFrom(from);
+
+        if (corrected > 0) log.warn("Sales rollups since {} corrected {} drifted rows", from, corrected);
+    }
+
+    private void apply(Purchase purchase, int sign) {
+        LocalDate salesDate = purchase.getPurchaseDate().toLocalDate();
+
+        applyDetails(salesDate, purchase.getDetails(), sign);
+        paymentMethodDailySalesRepository.addSales(purchase.getPaymentMethod().ordinal(), salesDate, sign, (long) sign * purchase.getTotalAmount());
+    }
+
+    private void applyDetails(LocalDate salesDate, List<PurchaseDetail> details, int sign) {
+        Map<Long, SalesTotals> films = new TreeMap<>();
+        Map<FilmGenre, SalesTotals> genres = new EnumMap<>(FilmGenre.class);
+
+        // Lines carry the genre they were sold under, so a later genre change cannot move a revert to another bucket.
+        for (PurchaseDetail detail : details) {
+            SalesTotals totals = new SalesTotals(detail.getQuantity(), (long) detail.getQuantity() * detail.getUnitPrice());
+
+            films.merge(detail.getFilm().getId(), totals, SalesTotals::plus);
+            genres.merge(detail.getGenre(), totals, SalesTotals::plus);
+        }
+
+        // Rows are always upserted in key order, so concurrent purchases lock shared rollup rows in the same order.
+        films.forEach((filmId, totals) -> filmDailySalesRepository.addSales(filmId, salesDate, sign * totals.tickets(), sign * totals.revenue()));
+        genres.forEach((genre, totals) -> genreDailySalesRepository.addSales(genre.ordinal(), salesDate, sign * totals.tickets(), sign * totals.revenue()));
+    }
+
+    private record SalesTotals(long tickets, long revenue) {
+        SalesTotals plus(SalesTotals other) {
+            return new SalesTotals(tickets + other.tickets, revenue + other.revenue);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package co.com.vortex.films.application.service.implementation;
+
+import co.com.vortex.films.application.repository.FilmRepository;
+import co.com.vortex.films.application.repository.ScreeningRepository;
+import co.com.vortex.films.application.repository.SeatInventoryRepository;
+import co.com.vortex.films.application.service.IScreeningService;
+import co.com.vortex.films.application.service.ISeatReservationService;
+import co.com.vortex.films.domain.dto.screening.CreateScreeningRequest;
+import co.com.vortex.films.domain.dto.screening.ScreeningResponse;
+import co.com.vortex.films.domain.mappers.ScreeningMapper;
+import co.com.vortex.films.domain.models.Film;
+import co.com.vortex.films.domain.models.Screening;
+import co.com.vortex.films.domain.validators.FilmValidator;
+import co.com.vortex.films.domain.validators.ScreeningValidator;
+import co.com.vortex.films.infrastructure.exceptions.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Service
+public class ScreeningService implements IScreeningService {
+    private final ScreeningRepository screeningRepository;
+    private final SeatInventoryRepository seatInventoryRepository;
+    private final FilmRepository filmRepository;
+    private final ISeatReservationService seatReservationService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ScreeningResponse> findByFilmId(Long filmId, Pageable pageable) {
+        return screeningRepository.findByFilmIdOrderByStartsAt(filmId, pageable)
+                .map(screening -> ScreeningMapper.toScreeningResponse(screening, seatReservationService.getAvailableSeats(screening.getId())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ScreeningResponse findById(Long id) {
+        Screening screening = screeningRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException(String.format(ScreeningValidator.SCREENING_NOT_FOUND, id)));
+
+        return ScreeningMapper.toScreeningResponse(screening, seatReservationService.getAvailableSeats(id));
+    }
+
+    @Override
+    @Transactional
+    public ScreeningResponse save(CreateScreeningRequest createScreeningRequest) {
+        Film film = filmRepository.findById(createScreeningRequest.getFilmId())
+                .orElseThrow(() -> new NotFoundException(String.format(FilmValidator.FILM_NOT_FOUND, createScreeningRequest.getFilmId())));
+
+        Screening savedScreening = screeningRepository.save(ScreeningMapper.toScreening(createScreeningRequest, film));
+        seatInventoryRepository.save(ScreeningMapper.toSeatInventory(savedScreening));
+
+        return ScreeningMapper.toScreeningResponse(savedScreening, savedScreening.getCapacity());
+    }
+}
@@ -0,0 +1,228 @@
+package co.com.vortex.films.application.service.implementation;
+
+import co.com.vortex.films.application.repository.ScreeningRepository;
+import co.com.vortex.films.application.repository.ScreeningSeatHoldRepository;
+import co.com.vortex.films.application.repository.SeatInventoryRepository;
+import co.com.vortex.films.application.service.ISeatReservationService;
+import co.com.vortex.films.domain.dto.screening.CreateSeatHoldRequest;
+import co.com.vortex.films.domain.dto.screening.SeatHoldResponse;
+import co.com.vortex.films.domain.mappers.ScreeningMapper;
+import co.com.vortex.films.domain.models.Screening;
+import co.com.vortex.films.domain.models.ScreeningSeatHold;
+import co.com.vortex.films.domain.validators.ScreeningValidator;
+import co.com.vortex.films.infrastructure.exceptions.BadRequestException;
+import co.com.vortex.films.infrastructure.exceptions.ConflictException;
+import co.com.vortex.films.infrastructure.exceptions.NotFoundException;
+import co.com.vortex.films.infrastructure.reservation.ConfirmedSeats;
+import co.com.vortex.films.infrastructure.reservation.SeatBitmap;
+import co.com.vortex.films.infrastructure.reservation.SeatHold;
+import co.com.vortex.films.infrastructure.reservation.SeatHoldStatus;
+import co.com.vortex.films.infrastructure.transaction.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Service
+public class SeatReservationService implements ISeatReservationService {
+    private final ScreeningRepository screeningRepository;
+    private final SeatInventoryRepository seatInventoryRepository;
+    private final ScreeningSeatHoldRepository screeningSeatHoldRepository;
+    private final Map<Long, ScreeningSeats> screenings = new ConcurrentHashMap<>();
+    private final Map<UUID, SeatHold> holds = new ConcurrentHashMap<>();
+    private final Duration holdTtl;
+
+    public SeatReservationService(
+            ScreeningRepository screeningRepository,
+            SeatInventoryRepository seatInventoryRepository,
+            ScreeningSeatHoldRepository screeningSeatHoldRepository,
+            @Value("${reservation.hold-ttl}") Duration holdTtl
+    ) {
+        this.screeningRepository = screeningRepository;
+        this.seatInventoryRepository = seatInventoryRepository;
+        this.screeningSeatHoldRepository = screeningSeatHoldRepository;
+        this.holdTtl = holdTtl;
+    }
+
+    @Override
+    public int getAvailableSeats(Long screeningId) {
+        return seatsOf(screeningId).seatBitmap().getAvailable();
+    }
+
+    @Override
+    public SeatHoldResponse hold(Long screeningId, Long userId, CreateSeatHoldRequest createSeatHoldRequest) {
+        ScreeningSeats screeningSeats = seatsOf(screeningId);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (!screeningSeats.startsAt().isAfter(now)) throw new BadRequestException(String.format(ScreeningValidator.SCREENING_STARTED, screeningId));
+
+        BitSet seats = screeningSeats.seatBitmap().claim(createSeatHoldRequest.getQuantity());
+        if (seats == null) throw new ConflictException(String.format(ScreeningValidator.SEATS_NOT_AVAILABLE, screeningId, createSeatHoldRequest.getQuantity()));
+
+        SeatHold seatHold = new SeatHold(screeningId, userId, screeningSeats.filmId(), screeningSeats.seatBitmap(), seats, now.plus(holdTtl));
+
+        // The hold is stored with its owner so a purchase or release routed to another instance can still find it.
+        try {
+            screeningSeatHoldRepository.save(ScreeningMapper.toScreeningSeatHold(seatHold));
+        } catch (RuntimeException e) {
+            screeningSeats.seatBitmap().release(seats);
+            throw e;
+        }
+
+        holds.put(seatHold.getId(), seatHold);
+
+        return ScreeningMapper.toSeatHoldResponse(seatHold);
+    }
+
+    @Override
+    @Transactional
+    public void release(UUID holdId, Long userId) {
+        if (screeningSeatHoldRepository.deleteByIdAndUserId(holdId, userId) == 0) throw new NotFoundException(String.format(ScreeningValidator.HOLD_NOT_FOUND, holdId));
+
+        // A hold placed on another instance keeps its seats there until that instance sweeps it as expired.
+        TransactionCallbacks.afterCommit(() -> {
+            SeatHold seatHold = holds.get(holdId);
+            if (seatHold != null && seatHold.transition(SeatHoldStatus.HELD, SeatHoldStatus.RELEASED)) releaseSeats(seatHold);
+        });
+    }
+
+    @Override
+    @Transactional
+    public ConfirmedSeats confirm(UUID holdId, Long userId, Long filmId, int quantity) {
+        SeatHold seatHold = holdOf(holdId);
+
+        if (seatHold == null || !seatHold.getUserId().equals(userId) || seatHold.isExpired(LocalDateTime.now()) || !seatHold.transition(SeatHoldStatus.HELD, SeatHoldStatus.CONFIRMING)) {
+            throw new NotFoundException(String.format(ScreeningValidator.HOLD_NOT_FOUND, holdId));
+        }
+
+        if (!seatHold.getFilmId().equals(filmId) || seatHold.getSeats().cardinality() != quantity) {
+            seatHold.transition(SeatHoldStatus.CONFIRMING, SeatHoldStatus.HELD);
+            throw new BadRequestException(String.format(ScreeningValidator.HOLD_NOT_MATCHING, holdId));
+        }
+
+        // The write locks the inventory row, so it runs right before commit instead of for the rest of the purchase.
+        TransactionCallbacks.beforeCommit(() -> writeSoldSeats(seatHold));
+        TransactionCallbacks.afterCompletion(committed -> {
+            if (committed) {
+                holds.remove(holdId);
+                seatHold.getSeatBitmap().markSold(seatHold.getSeats());
+            } else {
+                seatHold.transition(SeatHoldStatus.CONFIRMING, SeatHoldStatus.HELD);
+            }
+        });
+
+        return new ConfirmedSeats(screeningRepository.getReferenceById(seatHold.getScreeningId()), seatHold.getSeats());
+    }
+
+    @Override
+    @Transactional
+    public void releaseSold(Long screeningId, BitSet seats) {
+        TransactionCallbacks.beforeCommit(() -> writeReleasedSeats(screeningId, seats));
+        TransactionCallbacks.afterCompletion(committed -> {
+            ScreeningSeats screeningSeats = screenings.get(screeningId);
+            if (committed && screeningSeats != null) screeningSeats.seatBitmap().unmarkSold(seats);
+        });
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${reservation.sweep-interval}")
+    @Transactional
+    public void releaseExpiredHolds() {
+        LocalDateTime now = LocalDateTime.now();
+        List<SeatHold> expiredHolds = holds.values().stream()
+                .filter(seatHold -> seatHold.isExpired(now) && seatHold.transition(SeatHoldStatus.HELD, SeatHoldStatus.RELEASED))
+                .toList();
+
+        // Holds may have been confirmed on another instance, so the bitmaps catch up on sold seats before handing any seat back.
+        expiredHolds.stream()
+                .collect(Collectors.toMap(SeatHold::getScreeningId, SeatHold::getSeatBitmap, (first, second) -> first))
+                .forEach((screeningId, seatBitmap) -> seatInventoryRepository.findState(screeningId)
+                        .ifPresent(state -> seatBitmap.markSold(BitSet.valueOf(state.soldSeats()))));
+
+        expiredHolds.forEach(this::releaseSeats);
+        screeningSeatHoldRepository.deleteExpired(now);
+
+        screenings.values().removeIf(screeningSeats -> !screeningSeats.startsAt().isAfter(now));
+    }
+
+    private void writeSoldSeats(SeatHold seatHold) {
+        Long screeningId = seatHold.getScreeningId();
+
+        // Deleting the stored hold is what claims it, so two instances confirming the same hold cannot both sell it.
+        if (screeningSeatHoldRepository.deleteByIdAndUserId(seatHold.getId(), seatHold.getUserId()) == 0) {
+            throw new NotFoundException(String.format(ScreeningValidator.HOLD_NOT_FOUND, seatHold.getId()));
+        }
+
+        BitSet soldSeats = BitSet.valueOf(seatInventoryRepository.findSoldSeatsForUpdate(screeningId)
+                .orElseThrow(() -> new NotFoundException(String.format(ScreeningValidator.SCREENING_NOT_FOUND, screeningId))));
+
+        if (soldSeats.intersects(seatHold.getSeats())) {
+            // Another instance sold some of these seats; the bitmap is shared with live holds, so it is caught up in place.
+            seatHold.transition(SeatHoldStatus.CONFIRMING, SeatHoldStatus.RELEASED);
+            seatHold.getSeatBitmap().markSold(soldSeats);
+            if (holds.remove(seatHold.getId(), seatHold)) seatHold.getSeatBitmap().release(seatHold.getSeats());
+
+            throw new ConflictException(String.format(ScreeningValidator.SEATS_ALREADY_SOLD, screeningId));
+        }
+
+        soldSeats.or(seatHold.getSeats());
+        seatInventoryRepository.updateSoldSeats(screeningId, soldSeats.toByteArray(), soldSeats.cardinality());
+    }
+
+    private void writeReleasedSeats(Long screeningId, BitSet seats) {
+        byte[] storedSeats = seatInventoryRepository.findSoldSeatsForUpdate(screeningId).orElse(null);
+        if (storedSeats == null) return;
+
+        BitSet soldSeats = BitSet.valueOf(storedSeats);
+        soldSeats.andNot(seats);
+
+        seatInventoryRepository.updateSoldSeats(screeningId, soldSeats.toByteArray(), soldSeats.cardinality());
+    }
+
+    private void releaseSeats(SeatHold seatHold) {
+        holds.remove(seatHold.getId());
+        seatHold.getSeatBitmap().release(seatHold.getSeats());
+    }
+
+    private SeatHold holdOf(UUID holdId) {
+        SeatHold seatHold = holds.get(holdId);
+        if (seatHold != null) return seatHold;
+
+        // Seats of a hold placed on another instance were never claimed in this bitmap, so the hold is used for this confirm only and never kept.
+        return screeningSeatHoldRepository.findById(holdId)
+                .map(this::toSeatHold)
+                .orElse(null);
+    }
+
+    private SeatHold toSeatHold(ScreeningSeatHold screeningSeatHold) {
+        ScreeningSeats screeningSeats = seatsOf(screeningSeatHold.getScreeningId());
+
+        return new SeatHold(screeningSeatHold.getId(), screeningSeatHold.getScreeningId(), screeningSeatHold.getUserId(), screeningSeats.filmId(), screeningSeats.seatBitmap(), BitSet.valueOf(screeningSeatHold.getSeats()), screeningSeatHold.getExpiresAt());
+    }
+
+    private ScreeningSeats seatsOf(Long screeningId) {
+        return screenings.computeIfAbsent(screeningId, this::loadSeats);
+    }
+
+    private ScreeningSeats loadSeats(Long screeningId) {
+        Screening screening = screeningRepository.findById(screeningId)
+                .orElseThrow(() -> new NotFoundException(String.format(ScreeningValidator.SCREENING_NOT_FOUND, screeningId)));
+        BitSet soldSeats = seatInventoryRepository.findState(screeningId)
+                .map(state -> BitSet.valueOf(state.soldSeats()))
+                .orElseGet(BitSet::new);
+
+        return new ScreeningSeats(screening.getFilm().getId(), screening.getStartsAt(), new SeatBitmap(screening.getCapacity(), soldSeats));
+    }
+
+    private record ScreeningSeats(Long filmId, LocalDateTime startsAt, SeatBitmap seatBitmap) {
+    }
+}
@@ -1,80 +1,79 @@
 package co.com.vortex.films.application.service.implementation;
 
 import co.com.vortex.films.application.service.ITokenService;
+import co.com.vortex.films.domain.dto.authentication.JwksResponse;
+import co.com.vortex.films.domain.mappers.AuthenticationMapper;
 import co.com.vortex.films.domain.models.User;
+import co.com.vortex.films.domain.models.UserRole;
+import co.com.vortex.films.infrastructure.security.IssuedToken;
+import co.com.vortex.films.infrastructure.security.SigningKey;
+import co.com.vortex.films.infrastructure.security.SigningKeyStore;
+import co.com.vortex.films.infrastructure.security.VerifiedToken;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import org.springframework.stereotype.Service;
 
-import java.security.KeyPair;
-import java.security.KeyPairGenerator;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 
 @Service
 public class TokenService implements ITokenService {
-    private final Algorithm algorithm;
+    private final SigningKeyStore signingKeyStore;
+    private final JWTVerifier verifier;
     private final String issuer = "Films API";
+    private final String tokenType = "Bearer";
 
-    public TokenService() throws Exception {
-        var keyPair = generateRSAKeyPair();
-
-        RSAPublicKey rsaPublicKey = (RSAPublicKey) keyPair.getPublic();
-        RSAPrivateKey rsaPrivateKey = (RSAPrivateKey) keyPair.getPrivate();
-
-        this.algorithm = Algorithm.RSA256(rsaPublicKey, rsaPrivateKey);
-    }
-
-    private KeyPair generateRSAKeyPair() throws Exception {
-        KeyPairGenerator kpg = KeyPairGenerator.getInstance("RSA");
-        kpg.initialize(2048);
-
-        return kpg.generateKeyPair();
+    public TokenService(SigningKeyStore signingKeyStore) {
+        this.signingKeyStore = signingKeyStore;
+        this.verifier = JWT.require(Algorithm.RSA256(signingKeyStore))
+                .withIssuer(issuer)
+                .build();
     }
 
     @Override
-    public String generateToken(User user) {
-        return JWT.create()
+    public IssuedToken generateToken(User user) {
+        SigningKey signingKey = signingKeyStore.getActiveKey();
+        Instant expiresAt = generateExpirationTime();
+
+        String token = JWT.create()
+                .withKeyId(signingKey.kid())
                 .withIssuer(issuer)
                 .withSubject(user.getEmail())
                 .withClaim("id", user.getId().toString())
-                .withExpiresAt(generateExpirationTime())
-                .sign(algorithm);
-    }
+                .withClaim("role", user.getRole().name())
+                .withClaim("enabled", user.isEnabled())
+                .withClaim("stamp", user.getSecurityStamp())
+                .withExpiresAt(expiresAt)
+                .sign(Algorithm.RSA256(signingKey.publicKey(), signingKey.privateKey()));
 
-    @Override
-    public String getSubject(String token) {
-        JWTVerifier verifier = JWT.require(algorithm)
-                .withIssuer(issuer)
-                .build();
-
-        DecodedJWT decodedJWT = verifier.verify(token);
-
-        return decodedJWT.getSubject();
+        return new IssuedToken(token, tokenType, expiresAt);
     }
 
     @Override
-    public String getType(String token) {
-        return "Bearer";
+    public JwksResponse getJwks() {
+        return AuthenticationMapper.toJwksResponse(signingKeyStore.getPublishedKeys());
     }
 
     @Override
-    public Long getExpirationTime(String token) {
-        JWTVerifier verifier = JWT.require(algorithm)
-                .withIssuer(issuer)
-                .build();
-
+    public VerifiedToken verify(String token) {
         DecodedJWT decodedJWT = verifier.verify(token);
 
-        return decodedJWT.getExpiresAt().toInstant().toEpochMilli();
+        return new VerifiedToken(
+                Long.valueOf(decodedJWT.getClaim("id").asString()),
+                decodedJWT.getSubject(),
+                UserRole.valueOf(decodedJWT.getClaim("role").asString()),
+                decodedJWT.getClaim("enabled").asBoolean(),
+                decodedJWT.getClaim("stamp").asInt(),
+                decodedJWT.getExpiresAtAsInstant()
+        );
     }
 
     private Instant generateExpirationTime() {
-        return LocalDateTime.now().plusHours(24).toInstant(ZoneOffset.of("-05:00"));
+        // The exp claim keeps whole seconds, so the expiry returned with the token is truncated the same way.
+        return LocalDateTime.now().plusHours(24).toInstant(ZoneOffset.of("-05:00")).truncatedTo(ChronoUnit.SECONDS);
     }
 }
@@ -2,37 +2,62 @@ package co.com.vortex.films.application.service.implementation;
 
 import co.com.vortex.films.application.repository.UserRepository;
 import co.com.vortex.films.application.service.IUserService;
+import co.com.vortex.films.domain.dto.pagination.CursorRequest;
+import co.com.vortex.films.domain.dto.pagination.CursorResponse;
 import co.com.vortex.films.domain.dto.user.CreateUserRequest;
 import co.com.vortex.films.domain.dto.user.UpdateUserRequest;
 import co.com.vortex.films.domain.dto.user.UserResponse;
 import co.com.vortex.films.domain.mappers.UserMapper;
 import co.com.vortex.films.domain.models.User;
+import co.com.vortex.films.domain.projections.EntityVersion;
 import co.com.vortex.films.domain.validators.UserValidator;
 import co.com.vortex.films.infrastructure.exceptions.ConflictException;
 import co.com.vortex.films.infrastructure.exceptions.NotFoundException;
+import co.com.vortex.films.infrastructure.export.DataExporter;
+import co.com.vortex.films.infrastructure.export.ExportFormat;
+import co.com.vortex.films.infrastructure.pagination.KeysetCursor;
+import co.com.vortex.films.infrastructure.security.PasswordHasher;
+import co.com.vortex.films.infrastructure.security.SecurityStampTable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Service
 public class UserService implements IUserService {
+    private static final Map<String, Class<?>> CURSOR_PROPERTIES = Map.of("id", Long.class, "email", String.class, "lastName", String.class);
+
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final DataExporter dataExporter;
+    private final SecurityStampTable securityStampTable;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional(readOnly = true)
     public Slice<UserResponse> findAll(Pageable pageable) {
-        return UserMapper.toUserResponseSlice(userRepository.findAll(pageable));
+        return UserMapper.toUserSummaryResponseSlice(userRepository.findAllSummaries(pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<UserResponse> findAll(CursorRequest cursorRequest) {
+        KeysetCursor cursor = KeysetCursor.of(cursorRequest, CURSOR_PROPERTIES);
+
+        return cursor.toCursorResponse(userRepository.findAllByKeyset(cursor, cursorRequest.getSize() + 1, Map.of()), cursorRequest.getSize(), UserMapper::toUserResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Slice<UserResponse> findAllEnabled(Pageable pageable) {
-        return UserMapper.toUserResponseSlice(userRepository.findAllByEnabledTrue(pageable));
+        return UserMapper.toUserSummaryResponseSlice(userRepository.findAllEnabledSummaries(pageable));
     }
 
     @Override
@@ -52,24 +77,45 @@ public class UserService implements IUserService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
+    public EntityVersion findVersionById(Long id) {
+        return userRepository.findVersionById(id).orElseThrow(() -> new NotFoundException(String.format(UserValidator.USER_NOT_FOUND, id)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EntityVersion findVersionByEmail(String email) {
+        return userRepository.findVersionByEmail(email).orElseThrow(() -> new NotFoundException(String.format(UserValidator.USER_NOT_FOUND_BY_EMAIL, email)));
+    }
+
+    @Override
     public UserResponse save(CreateUserRequest createUserRequest) {
         if (userRepository.existsByPhone(createUserRequest.getPhone())) throw new ConflictException(String.format(UserValidator.PHONE_ALREADY_EXISTS, createUserRequest.getPhone()));
         if (userRepository.existsByEmail(createUserRequest.getEmail())) throw new ConflictException(String.format(UserValidator.EMAIL_ALREADY_EXISTS, createUserRequest.getEmail()));
 
-        return UserMapper.toUserResponse(userRepository.save(UserMapper.toUser(createUserRequest, bCryptPasswordEncoder.encode(createUserRequest.getPassword()))));
+        return UserMapper.toUserResponse(userRepository.save(UserMapper.toUser(createUserRequest, passwordHasher.encode(createUserRequest.getPassword()))));
     }
 
     @Override
-    @Transactional
     public UserResponse update(UpdateUserRequest updateUserRequest) {
-        if (!userRepository.existsById(updateUserRequest.getId())) throw new NotFoundException(String.format(UserValidator.USER_NOT_FOUND, updateUserRequest.getId()));
+        // BCrypt runs outside the transaction; the write is checked against the version read here, so a concurrent change fails it.
+        User savedUser = userRepository.findById(updateUserRequest.getId())
+                .orElseThrow(() -> new NotFoundException(String.format(UserValidator.USER_NOT_FOUND, updateUserRequest.getId())));
 
-        User savedUser = userRepository.getReferenceById(updateUserRequest.getId());
         if (!savedUser.getPhone().equals(updateUserRequest.getPhone()) && userRepository.existsByPhone(updateUserRequest.getPhone())) throw new ConflictException(String.format(UserValidator.PHONE_ALREADY_EXISTS, updateUserRequest.getPhone()));
         if (!savedUser.getEmail().equals(updateUserRequest.getEmail()) && userRepository.existsByEmail(updateUserRequest.getEmail())) throw new ConflictException(String.format(UserValidator.EMAIL_ALREADY_EXISTS, updateUserRequest.getEmail()));
 
-        return UserMapper.toUserResponse(userRepository.save(UserMapper.toUser(updateUserRequest, bCryptPasswordEncoder.encode(updateUserRequest.getPassword()), savedUser.getRole(), savedUser.isEnabled())));
+        // Only new credentials invalidate issued tokens, profile edits keep the user signed in everywhere.
+        boolean passwordChanged = !passwordHasher.matches(updateUserRequest.getPassword(), savedUser.getPassword());
+        String password = passwordChanged ? passwordHasher.encode(updateUserRequest.getPassword()) : savedUser.getPassword();
+        boolean credentialsChanged = passwordChanged || !savedUser.getEmail().equals(updateUserRequest.getEmail());
+        int securityStamp = credentialsChanged ? savedUser.getSecurityStamp() + 1 : savedUser.getSecurityStamp();
+
+        return transactionTemplate.execute(status -> {
+            if (credentialsChanged) securityStampTable.update(savedUser.getId(), securityStamp);
+
+            return UserMapper.toUserResponse(userRepository.saveAndFlush(UserMapper.toUser(updateUserRequest, password, savedUser.getRole(), savedUser.isEnabled(), securityStamp, savedUser.getVersion())));
+        });
     }
 
     @Override
@@ -79,8 +125,10 @@ public class UserService implements IUserService {
 
         User user = userRepository.getReferenceById(id);
         user.setEnabled(!user.isEnabled());
+        user.setSecurityStamp(user.getSecurityStamp() + 1);
+        securityStampTable.update(id, user.getSecurityStamp());
 
-        return UserMapper.toUserResponse(userRepository.save(user));
+        return UserMapper.toUserResponse(userRepository.saveAndFlush(user));
     }
 
     @Override
@@ -88,6 +136,13 @@ public class UserService implements IUserService {
     public void delete(Long id) {
         if (!userRepository.existsById(id)) throw new NotFoundException(String.format(UserValidator.USER_NOT_FOUND, id));
 
+        securityStampTable.revoke(id);
         userRepository.deleteById(id);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void export(ExportFormat format, OutputStream outputStream) throws IOException {
+        dataExporter.export(userRepository.streamAllSummaries(), UserMapper::toUserResponse, UserResponse.class, format, outputStream);
+    }
 }
@@ -0,0 +1,17 @@
+package co.com.vortex.films.domain.dto.authentication;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@AllArgsConstructor
+@Builder
+@Data
+public class JwkResponse {
+    private String kty;
+    private String use;
+    private String alg;
+    private String kid;
+    private String n;
+    private String e;
+}
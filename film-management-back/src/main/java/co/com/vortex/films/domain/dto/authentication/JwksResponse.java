@@ -0,0 +1,14 @@
+package co.com.vortex.films.domain.dto.authentication;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Builder
+@Data
+public class JwksResponse {
+    private List<JwkResponse> keys;
+}
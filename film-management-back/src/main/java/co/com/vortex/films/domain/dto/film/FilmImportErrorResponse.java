@@ -0,0 +1,16 @@
+package co.com.vortex.films.domain.dto.film;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@AllArgsConstructor
+@Builder
+@Data
+public class FilmImportErrorResponse {
+    private int row;
+    private String title;
+    private Map<String, String> details;
+}
@@ -0,0 +1,17 @@
+package co.com.vortex.films.domain.dto.film;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Builder
+@Data
+public class FilmImportResponse {
+    private int totalRows;
+    private int importedRows;
+    private int failedRows;
+    private List<FilmImportErrorResponse> errors;
+}
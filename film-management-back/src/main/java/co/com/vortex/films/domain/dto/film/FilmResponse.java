@@ -3,18 +3,27 @@ package co.com.vortex.films.domain.dto.film;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
 
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Data
+@NoArgsConstructor
 public class FilmResponse {
     private Long id;
     private String title;
     private String description;
     private String imageUrl;
+    private String thumbnailUrl;
+    private String cardUrl;
+    private String fullUrl;
     private String genre;
     private String classification;
     private Integer duration;
     private Integer ticketPrice;
     private boolean enabled;
+    private Long version;
+    private LocalDateTime updatedAt;
 }
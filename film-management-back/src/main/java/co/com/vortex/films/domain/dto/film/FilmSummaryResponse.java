@@ -0,0 +1,21 @@
+package co.com.vortex.films.domain.dto.film;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Data
+public class FilmSummaryResponse {
+    private Long id;
+    private String title;
+    private String imageUrl;
+    private String thumbnailUrl;
+    private String cardUrl;
+    private String genre;
+    private String classification;
+    private Integer duration;
+    private Integer ticketPrice;
+    private boolean enabled;
+}
@@ -0,0 +1,26 @@
+package co.com.vortex.films.domain.dto.mail;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Builder
+@Data
+@NoArgsConstructor
+public class TicketMail {
+    private String referenceCode;
+    private String purchaseDate;
+    private String paymentMethod;
+    private Integer totalAmount;
+    private Double taxAmount;
+    private Double grandTotal;
+    private String name;
+    private String lastName;
+    private String phone;
+    private String email;
+    private List<TicketMailLine> lines;
+}
@@ -0,0 +1,19 @@
+package co.com.vortex.films.domain.dto.mail;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@Builder
+@Data
+@NoArgsConstructor
+public class TicketMailLine {
+    private String title;
+    private String genre;
+    private String classification;
+    private Integer duration;
+    private Integer quantity;
+    private Integer ticketPrice;
+}
@@ -0,0 +1,29 @@
+package co.com.vortex.films.domain.dto.pagination;
+
+import co.com.vortex.films.domain.validators.PaginationValidator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+@AllArgsConstructor
+@Builder
+@Data
+@NoArgsConstructor
+public class CursorRequest {
+    private String cursor;
+
+    @Min(value = 1, message = PaginationValidator.SIZE_MIN)
+    @Max(value = 100, message = PaginationValidator.SIZE_MAX)
+    @Builder.Default
+    private int size = 20;
+
+    @Builder.Default
+    private String sort = "id";
+
+    @Builder.Default
+    private Sort.Direction direction = Sort.Direction.ASC;
+}
@@ -0,0 +1,17 @@
+package co.com.vortex.films.domain.dto.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Builder
+@Data
+public class CursorResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,23 @@
+package co.com.vortex.films.domain.dto.purchase;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@Builder
+@Data
+public class PurchaseExportResponse {
+    private Long purchaseId;
+    private Long userId;
+    private LocalDateTime purchaseDate;
+    private Integer totalAmount;
+    private String paymentStatus;
+    private String paymentMethod;
+    private Long purchaseDetailId;
+    private Long filmId;
+    private String filmTitle;
+    private Integer quantity;
+}
@@ -0,0 +1,18 @@
+package co.com.vortex.films.domain.dto.purchase;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@Builder
+@Data
+public class PurchaseReferenceResponse {
+    private String referenceCode;
+    private Long purchaseId;
+    private Long userId;
+    private LocalDateTime purchaseDate;
+    private String paymentStatus;
+}
@@ -4,6 +4,7 @@ import co.com.vortex.films.domain.dto.purchasedetail.PurchaseDetailResponse;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -11,9 +12,11 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Data
+@NoArgsConstructor
 public class PurchaseResponse {
     private Long id;
     private Long userId;
+    private String referenceCode;
     private LocalDateTime purchaseDate;
     private List<PurchaseDetailResponse> details;
     private Integer totalAmount;
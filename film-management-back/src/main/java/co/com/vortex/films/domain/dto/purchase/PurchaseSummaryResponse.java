@@ -0,0 +1,19 @@
+package co.com.vortex.films.domain.dto.purchase;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@Builder
+@Data
+public class PurchaseSummaryResponse {
+    private Long id;
+    private Long userId;
+    private LocalDateTime purchaseDate;
+    private Integer totalAmount;
+    private String paymentStatus;
+    private String paymentMethod;
+}
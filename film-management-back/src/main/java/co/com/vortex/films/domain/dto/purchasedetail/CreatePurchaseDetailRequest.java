@@ -7,6 +7,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.UUID;
+
 @AllArgsConstructor
 @Builder
 @Data
@@ -18,4 +20,6 @@ public class CreatePurchaseDetailRequest {
     @NotNull(message = PurchaseDetailValidator.QUANTITY_NOT_NULL)
     @Min(value = 1, message = PurchaseDetailValidator.QUANTITY_MIN)
     private Integer quantity;
+
+    private UUID holdId;
 }
@@ -4,12 +4,15 @@ import co.com.vortex.films.domain.dto.film.FilmResponse;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @AllArgsConstructor
 @Builder
 @Data
+@NoArgsConstructor
 public class PurchaseDetailResponse {
     private Long id;
     private FilmResponse film;
     private Integer quantity;
+    private Long screeningId;
 }
@@ -0,0 +1,16 @@
+package co.com.vortex.films.domain.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@Builder
+@Data
+public class DailyRevenueResponse {
+    private LocalDate date;
+    private Long purchases;
+    private Long revenue;
+}
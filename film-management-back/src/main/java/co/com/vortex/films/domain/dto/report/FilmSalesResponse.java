@@ -0,0 +1,15 @@
+package co.com.vortex.films.domain.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@AllArgsConstructor
+@Builder
+@Data
+public class FilmSalesResponse {
+    private Long filmId;
+    private String title;
+    private Long tickets;
+    private Long revenue;
+}
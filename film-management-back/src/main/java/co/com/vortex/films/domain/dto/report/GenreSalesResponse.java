@@ -0,0 +1,14 @@
+package co.com.vortex.films.domain.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@AllArgsConstructor
+@Builder
+@Data
+public class GenreSalesResponse {
+    private String genre;
+    private Long tickets;
+    private Long revenue;
+}
@@ -0,0 +1,15 @@
+package co.com.vortex.films.domain.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@AllArgsConstructor
+@Builder
+@Data
+public class PaymentMethodSalesResponse {
+    private String paymentMethod;
+    private Long purchases;
+    private Long revenue;
+    private Double share;
+}
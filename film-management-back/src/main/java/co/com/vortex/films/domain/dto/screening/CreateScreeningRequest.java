@@ -0,0 +1,30 @@
+package co.com.vortex.films.domain.dto.screening;
+
+import co.com.vortex.films.domain.validators.ScreeningValidator;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@Builder
+@Data
+public class CreateScreeningRequest {
+    @NotNull(message = ScreeningValidator.FILM_ID_NOT_NULL)
+    @Min(value = 1, message = ScreeningValidator.FILM_ID_POSITIVE)
+    private Long filmId;
+
+    @NotNull(message = ScreeningValidator.STARTS_AT_NOT_NULL)
+    @Future(message = ScreeningValidator.STARTS_AT_FUTURE)
+    private LocalDateTime startsAt;
+
+    @NotNull(message = ScreeningValidator.CAPACITY_NOT_NULL)
+    @Min(value = 1, message = ScreeningValidator.CAPACITY_RANGE)
+    @Max(value = 1000, message = ScreeningValidator.CAPACITY_RANGE)
+    private Integer capacity;
+}
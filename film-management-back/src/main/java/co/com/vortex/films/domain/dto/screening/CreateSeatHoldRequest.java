@@ -0,0 +1,21 @@
+package co.com.vortex.films.domain.dto.screening;
+
+import co.com.vortex.films.domain.validators.ScreeningValidator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@Builder
+@Data
+@NoArgsConstructor
+public class CreateSeatHoldRequest {
+    @NotNull(message = ScreeningValidator.QUANTITY_NOT_NULL)
+    @Min(value = 1, message = ScreeningValidator.QUANTITY_RANGE)
+    @Max(value = 10, message = ScreeningValidator.QUANTITY_RANGE)
+    private Integer quantity;
+}
@@ -0,0 +1,18 @@
+package co.com.vortex.films.domain.dto.screening;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@Builder
+@Data
+public class ScreeningResponse {
+    private Long id;
+    private Long filmId;
+    private LocalDateTime startsAt;
+    private Integer capacity;
+    private Integer availableSeats;
+}
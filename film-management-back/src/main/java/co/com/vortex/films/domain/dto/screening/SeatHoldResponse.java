@@ -0,0 +1,19 @@
+package co.com.vortex.films.domain.dto.screening;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@AllArgsConstructor
+@Builder
+@Data
+public class SeatHoldResponse {
+    private UUID id;
+    private Long screeningId;
+    private List<Integer> seats;
+    private LocalDateTime expiresAt;
+}
@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
+import java.time.LocalDateTime;
+
 @AllArgsConstructor
 @Builder
 @Data
@@ -15,4 +17,6 @@ public class UserResponse {
     private String email;
     private String role;
     private boolean enabled;
+    private Long version;
+    private LocalDateTime updatedAt;
 }
@@ -1,15 +1,48 @@
 package co.com.vortex.films.domain.mappers;
 
 import co.com.vortex.films.domain.dto.authentication.AuthenticationResponse;
+import co.com.vortex.films.domain.dto.authentication.JwkResponse;
+import co.com.vortex.films.domain.dto.authentication.JwksResponse;
 import co.com.vortex.films.domain.models.User;
+import co.com.vortex.films.infrastructure.security.IssuedToken;
+import co.com.vortex.films.infrastructure.security.SigningKey;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
 
 public class AuthenticationMapper {
-    public static AuthenticationResponse toAuthenticationResponse(String token, User user, String tokenType, Long expiresIn) throws Exception {
+    public static AuthenticationResponse toAuthenticationResponse(IssuedToken issuedToken, User user) throws Exception {
         return AuthenticationResponse.builder()
-                .accessToken(token)
-                .tokenType(tokenType)
-                .expiresIn(expiresIn)
+                .accessToken(issuedToken.accessToken())
+                .tokenType(issuedToken.tokenType())
+                .expiresIn(issuedToken.expiresAt().toEpochMilli())
                 .user(UserMapper.toUserResponse(user))
                 .build();
     }
+
+    public static JwkResponse toJwkResponse(SigningKey signingKey) {
+        return JwkResponse.builder()
+                .kty("RSA")
+                .use("sig")
+                .alg("RS256")
+                .kid(signingKey.kid())
+                .n(toBase64Url(signingKey.publicKey().getModulus()))
+                .e(toBase64Url(signingKey.publicKey().getPublicExponent()))
+                .build();
+    }
+
+    public static JwksResponse toJwksResponse(List<SigningKey> signingKeys) {
+        return JwksResponse.builder()
+                .keys(signingKeys.stream().map(AuthenticationMapper::toJwkResponse).toList())
+                .build();
+    }
+
+    private static String toBase64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
 }
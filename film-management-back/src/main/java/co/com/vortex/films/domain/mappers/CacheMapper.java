@@ -0,0 +1,21 @@
+package co.com.vortex.films.domain.mappers;
+
+import co.com.vortex.films.domain.dto.cache.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+public class CacheMapper {
+    public static CacheStatsResponse toCacheStatsResponse(String name, Cache<?, ?> cache, long invalidations) {
+        CacheStats stats = cache.stats();
+
+        return CacheStatsResponse.builder()
+                .name(name)
+                .size(cache.estimatedSize())
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictions(stats.evictionCount())
+                .invalidations(invalidations)
+                .build();
+    }
+}
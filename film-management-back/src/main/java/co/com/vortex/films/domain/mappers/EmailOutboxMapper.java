@@ -0,0 +1,35 @@
+package co.com.vortex.films.domain.mappers;
+
+import co.com.vortex.films.domain.dto.mail.MailBody;
+import co.com.vortex.films.domain.models.EmailOutbox;
+import co.com.vortex.films.domain.models.MailTemplate;
+
+public class EmailOutboxMapper {
+    public static EmailOutbox toEmailOutbox(MailBody mailBody) {
+        return EmailOutbox.builder()
+                .recipient(mailBody.getTo())
+                .subject(mailBody.getSubject())
+                .body(mailBody.getBody())
+                .html(mailBody.isHtml())
+                .build();
+    }
+
+    public static EmailOutbox toEmailOutbox(String to, String subject, MailTemplate template, String model) {
+        return EmailOutbox.builder()
+                .recipient(to)
+                .subject(subject)
+                .template(template)
+                .model(model)
+                .html(true)
+                .build();
+    }
+
+    public static MailBody toMailBody(EmailOutbox emailOutbox, String body) {
+        return MailBody.builder()
+                .to(emailOutbox.getRecipient())
+                .subject(emailOutbox.getSubject())
+                .body(body)
+                .isHtml(emailOutbox.isHtml())
+                .build();
+    }
+}
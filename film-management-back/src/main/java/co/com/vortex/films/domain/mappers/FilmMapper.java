@@ -2,30 +2,76 @@ package co.com.vortex.films.domain.mappers;
 
 import co.com.vortex.films.domain.dto.film.CreateFilmRequest;
 import co.com.vortex.films.domain.dto.film.FilmResponse;
+import co.com.vortex.films.domain.dto.film.FilmSummaryResponse;
 import co.com.vortex.films.domain.dto.film.UpdateFilmRequest;
 import co.com.vortex.films.domain.models.Film;
+import co.com.vortex.films.domain.projections.EntityVersion;
+import co.com.vortex.films.domain.projections.FilmSummary;
 import org.springframework.data.domain.Slice;
 
+import java.util.function.UnaryOperator;
+
 public class FilmMapper {
     public static FilmResponse toFilmResponse(Film film) {
         return FilmResponse.builder()
                 .id(film.getId())
                 .title(film.getTitle())
                 .description(film.getDescription())
-                .imageUrl(film.getImageUrl())
+                .imageUrl(film.getImageKey())
+                .thumbnailUrl(film.getThumbnailKey())
+                .cardUrl(film.getCardKey())
+                .fullUrl(film.getFullKey())
                 .genre(film.getGenre().toString())
                 .classification(film.getClassification().toString())
                 .duration(film.getDuration())
                 .ticketPrice(film.getTicketPrice())
                 .enabled(film.isEnabled())
+                .version(film.getVersion())
+                .updatedAt(film.getUpdatedAt())
+                .build();
+    }
+
+    public static FilmSummaryResponse toFilmSummaryResponse(FilmSummary filmSummary) {
+        return FilmSummaryResponse.builder()
+                .id(filmSummary.id())
+                .title(filmSummary.title())
+                .imageUrl(filmSummary.imageKey())
+                .thumbnailUrl(filmSummary.thumbnailKey())
+                .cardUrl(filmSummary.cardKey())
+                .genre(filmSummary.genre().toString())
+                .classification(filmSummary.classification().toString())
+                .duration(filmSummary.duration())
+                .ticketPrice(filmSummary.ticketPrice())
+                .enabled(filmSummary.enabled())
+                .build();
+    }
+
+    public static FilmResponse toSignedFilmResponse(FilmResponse filmResponse, UnaryOperator<String> urlResolver) {
+        return filmResponse.toBuilder()
+                .imageUrl(urlResolver.apply(filmResponse.getImageUrl()))
+                .thumbnailUrl(urlResolver.apply(filmResponse.getThumbnailUrl()))
+                .cardUrl(urlResolver.apply(filmResponse.getCardUrl()))
+                .fullUrl(urlResolver.apply(filmResponse.getFullUrl()))
                 .build();
     }
 
-    public static Film toFilm(CreateFilmRequest createFilmRequest, String imageUrl) {
+    public static FilmSummaryResponse toSignedFilmSummaryResponse(FilmSummaryResponse filmSummaryResponse, UnaryOperator<String> urlResolver) {
+        return filmSummaryResponse.toBuilder()
+                .imageUrl(urlResolver.apply(filmSummaryResponse.getImageUrl()))
+                .thumbnailUrl(urlResolver.apply(filmSummaryResponse.getThumbnailUrl()))
+                .cardUrl(urlResolver.apply(filmSummaryResponse.getCardUrl()))
+                .build();
+    }
+
+    public static EntityVersion toEntityVersion(FilmResponse filmResponse) {
+        return new EntityVersion(filmResponse.getId(), filmResponse.getVersion(), filmResponse.getUpdatedAt());
+    }
+
+    public static Film toFilm(CreateFilmRequest createFilmRequest, String imageKey) {
         return Film.builder()
                 .title(createFilmRequest.getTitle())
                 .description(createFilmRequest.getDescription())
-                .imageUrl(imageUrl)
+                .imageKey(imageKey)
                 .genre(createFilmRequest.getGenre())
                 .classification(createFilmRequest.getClassification())
                 .duration(createFilmRequest.getDuration())
@@ -33,21 +79,29 @@ public class FilmMapper {
                 .build();
     }
 
-    public static Film toFilm(UpdateFilmRequest updateFilmRequest, String imageUrl, boolean enabled) {
+    public static Film toFilm(UpdateFilmRequest updateFilmRequest, Film savedFilm) {
         return Film.builder()
                 .id(updateFilmRequest.getId())
                 .title(updateFilmRequest.getTitle())
                 .description(updateFilmRequest.getDescription())
-                .imageUrl(imageUrl)
+                .imageKey(savedFilm.getImageKey())
+                .thumbnailKey(savedFilm.getThumbnailKey())
+                .cardKey(savedFilm.getCardKey())
+                .fullKey(savedFilm.getFullKey())
                 .genre(updateFilmRequest.getGenre())
                 .classification(updateFilmRequest.getClassification())
                 .duration(updateFilmRequest.getDuration())
                 .ticketPrice(updateFilmRequest.getTicketPrice())
-                .enabled(enabled)
+                .enabled(savedFilm.isEnabled())
+                .version(savedFilm.getVersion())
                 .build();
     }
 
     public static Slice<FilmResponse> toFilmResponseSlice(Slice<Film> films) {
         return films.map(FilmMapper::toFilmResponse);
     }
+
+    public static Slice<FilmSummaryResponse> toFilmSummaryResponseSlice(Slice<FilmSummary> films) {
+        return films.map(FilmMapper::toFilmSummaryResponse);
+    }
 }
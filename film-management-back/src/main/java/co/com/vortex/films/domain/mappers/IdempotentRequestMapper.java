@@ -0,0 +1,18 @@
+package co.com.vortex.films.domain.mappers;
+
+import co.com.vortex.films.domain.models.IdempotentRequest;
+
+import java.time.LocalDateTime;
+
+public class IdempotentRequestMapper {
+    public static IdempotentRequest toIdempotentRequest(Long userId, String idempotencyKey, String requestHash, String response, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        return IdempotentRequest.builder()
+                .userId(userId)
+                .idempotencyKey(idempotencyKey)
+                .requestHash(requestHash)
+                .response(response)
+                .createdAt(createdAt)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
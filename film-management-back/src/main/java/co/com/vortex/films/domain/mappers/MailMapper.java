@@ -0,0 +1,44 @@
+package co.com.vortex.films.domain.mappers;
+
+import co.com.vortex.films.domain.dto.mail.TicketMail;
+import co.com.vortex.films.domain.dto.mail.TicketMailLine;
+import co.com.vortex.films.domain.models.Film;
+import co.com.vortex.films.domain.models.Purchase;
+import co.com.vortex.films.domain.models.PurchaseDetail;
+import co.com.vortex.films.domain.models.User;
+
+public class MailMapper {
+    private static final double TAX_RATE = 0.21;
+
+    public static TicketMail toTicketMail(Purchase purchase) {
+        User user = purchase.getUser();
+        double taxAmount = purchase.getTotalAmount() * TAX_RATE;
+
+        return TicketMail.builder()
+                .referenceCode(purchase.getReferenceCode())
+                .purchaseDate(purchase.getPurchaseDate().toString())
+                .paymentMethod(purchase.getPaymentMethod().toString())
+                .totalAmount(purchase.getTotalAmount())
+                .taxAmount(taxAmount)
+                .grandTotal(purchase.getTotalAmount() + taxAmount)
+                .name(user.getName())
+                .lastName(user.getLastName())
+                .phone(user.getPhone())
+                .email(user.getEmail())
+                .lines(purchase.getDetails().stream().map(MailMapper::toTicketMailLine).toList())
+                .build();
+    }
+
+    public static TicketMailLine toTicketMailLine(PurchaseDetail purchaseDetail) {
+        Film film = purchaseDetail.getFilm();
+
+        return TicketMailLine.builder()
+                .title(film.getTitle())
+                .genre(film.getGenre().toString())
+                .classification(film.getClassification().toString())
+                .duration(film.getDuration())
+                .quantity(purchaseDetail.getQuantity())
+                .ticketPrice(purchaseDetail.getUnitPrice())
+                .build();
+    }
+}
@@ -5,23 +5,30 @@ import co.com.vortex.films.domain.dto.purchasedetail.PurchaseDetailResponse;
 import co.com.vortex.films.domain.dto.purchasedetail.UpdatePurchaseDetailRequest;
 import co.com.vortex.films.domain.models.Film;
 import co.com.vortex.films.domain.models.PurchaseDetail;
+import co.com.vortex.films.infrastructure.reservation.ConfirmedSeats;
 import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 public class PurchaseDetailMapper {
-    public static PurchaseDetailResponse toPurchaseDetailResponse(PurchaseDetail purchaseDetail) {
+    public static PurchaseDetailResponse toPurchaseDetailResponse(PurchaseDetail purchaseDetail, UnaryOperator<String> urlResolver) {
         return PurchaseDetailResponse.builder()
                 .id(purchaseDetail.getId())
-                .film(FilmMapper.toFilmResponse(purchaseDetail.getFilm()))
+                .film(FilmMapper.toSignedFilmResponse(FilmMapper.toFilmResponse(purchaseDetail.getFilm()), urlResolver))
                 .quantity(purchaseDetail.getQuantity())
+                .screeningId(purchaseDetail.getScreening() != null ? purchaseDetail.getScreening().getId() : null)
                 .build();
     }
 
-    public static PurchaseDetail toPurchaseDetail(CreatePurchaseDetailRequest createPurchaseDetailRequest, Film film) {
+    public static PurchaseDetail toPurchaseDetail(CreatePurchaseDetailRequest createPurchaseDetailRequest, Film film, ConfirmedSeats confirmedSeats) {
         return PurchaseDetail.builder()
                 .film(film)
+                .genre(film.getGenre())
+                .screening(confirmedSeats != null ? confirmedSeats.screening() : null)
+                .seats(confirmedSeats != null ? confirmedSeats.seats().toByteArray() : null)
                 .quantity(createPurchaseDetailRequest.getQuantity())
+                .unitPrice(film.getTicketPrice())
                 .build();
     }
 
@@ -30,14 +37,15 @@ public class PurchaseDetailMapper {
                 .id(updatePurchaseDetailRequest.getId())
                 .film(film)
                 .quantity(updatePurchaseDetailRequest.getQuantity())
+                .unitPrice(film.getTicketPrice())
                 .build();
     }
 
-    public static Slice<PurchaseDetailResponse> toPurchaseDetailResponseSlice(Slice<PurchaseDetail> purchaseDetails) {
-        return purchaseDetails.map(PurchaseDetailMapper::toPurchaseDetailResponse);
+    public static Slice<PurchaseDetailResponse> toPurchaseDetailResponseSlice(Slice<PurchaseDetail> purchaseDetails, UnaryOperator<String> urlResolver) {
+        return purchaseDetails.map(purchaseDetail -> toPurchaseDetailResponse(purchaseDetail, urlResolver));
     }
 
-    public static List<PurchaseDetailResponse> toPurchaseDetailResponseList(List<PurchaseDetail> purchaseDetails) {
-        return purchaseDetails.stream().map(PurchaseDetailMapper::toPurchaseDetailResponse).toList();
+    public static List<PurchaseDetailResponse> toPurchaseDetailResponseList(List<PurchaseDetail> purchaseDetails, UnaryOperator<String> urlResolver) {
+        return purchaseDetails.stream().map(purchaseDetail -> toPurchaseDetailResponse(purchaseDetail, urlResolver)).toList();
     }
 }
@@ -1,28 +1,74 @@
 package co.com.vortex.films.domain.mappers;
 
 import co.com.vortex.films.domain.dto.purchase.CreatePurchaseRequest;
+import co.com.vortex.films.domain.dto.purchase.PurchaseExportResponse;
+import co.com.vortex.films.domain.dto.purchase.PurchaseReferenceResponse;
 import co.com.vortex.films.domain.dto.purchase.PurchaseResponse;
+import co.com.vortex.films.domain.dto.purchase.PurchaseSummaryResponse;
 import co.com.vortex.films.domain.dto.purchase.UpdatePurchaseRequest;
 import co.com.vortex.films.domain.models.Purchase;
 import co.com.vortex.films.domain.models.User;
+import co.com.vortex.films.domain.projections.PurchaseExportRow;
+import co.com.vortex.films.domain.projections.PurchaseReference;
+import co.com.vortex.films.domain.projections.PurchaseSummary;
 import org.springframework.data.domain.Slice;
 
+import java.util.function.UnaryOperator;
+
 public class PurchaseMapper {
-    public static PurchaseResponse toPurchaseResponse(Purchase purchase) {
+    public static PurchaseResponse toPurchaseResponse(Purchase purchase, UnaryOperator<String> urlResolver) {
         return PurchaseResponse.builder()
                 .id(purchase.getId())
                 .userId(purchase.getUser().getId())
+                .referenceCode(purchase.getReferenceCode())
                 .purchaseDate(purchase.getPurchaseDate())
                 .totalAmount(purchase.getTotalAmount())
                 .paymentStatus(purchase.getPaymentStatus().toString())
                 .paymentMethod(purchase.getPaymentMethod().toString())
-                .details(PurchaseDetailMapper.toPurchaseDetailResponseList(purchase.getDetails()))
+                .details(PurchaseDetailMapper.toPurchaseDetailResponseList(purchase.getDetails(), urlResolver))
+                .build();
+    }
+
+    public static PurchaseSummaryResponse toPurchaseSummaryResponse(PurchaseSummary purchaseSummary) {
+        return PurchaseSummaryResponse.builder()
+                .id(purchaseSummary.id())
+                .userId(purchaseSummary.userId())
+                .purchaseDate(purchaseSummary.purchaseDate())
+                .totalAmount(purchaseSummary.totalAmount())
+                .paymentStatus(purchaseSummary.paymentStatus().toString())
+                .paymentMethod(purchaseSummary.paymentMethod().toString())
+                .build();
+    }
+
+    public static PurchaseExportResponse toPurchaseExportResponse(PurchaseExportRow purchaseExportRow) {
+        return PurchaseExportResponse.builder()
+                .purchaseId(purchaseExportRow.purchaseId())
+                .userId(purchaseExportRow.userId())
+                .purchaseDate(purchaseExportRow.purchaseDate())
+                .totalAmount(purchaseExportRow.totalAmount())
+                .paymentStatus(purchaseExportRow.paymentStatus().toString())
+                .paymentMethod(purchaseExportRow.paymentMethod().toString())
+                .purchaseDetailId(purchaseExportRow.purchaseDetailId())
+                .filmId(purchaseExportRow.filmId())
+                .filmTitle(purchaseExportRow.filmTitle())
+                .quantity(purchaseExportRow.quantity())
+                .build();
+    }
+
+    public static PurchaseReferenceResponse toPurchaseReferenceResponse(PurchaseReference purchaseReference) {
+        return PurchaseReferenceResponse.builder()
+                .referenceCode(purchaseReference.referenceCode())
+                .purchaseId(purchaseReference.purchaseId())
+                .userId(purchaseReference.userId())
+                .purchaseDate(purchaseReference.purchaseDate())
+                .paymentStatus(purchaseReference.paymentStatus().toString())
                 .build();
     }
 
-    public static Purchase toPurchase(CreatePurchaseRequest createPurchaseRequest, User user) {
+    public static Purchase toPurchase(CreatePurchaseRequest createPurchaseRequest, User user, String referenceCode) {
         return Purchase.builder()
                 .user(user)
+                .referenceCode(referenceCode)
                 .paymentMethod(createPurchaseRequest.getPaymentMethod())
                 .build();
     }
@@ -36,7 +82,7 @@ public class PurchaseMapper {
                 .build();
     }
 
-    public static Slice<PurchaseResponse> toPurchaseResponseSlice(Slice<Purchase> purchases) {
-        return purchases.map(PurchaseMapper::toPurchaseResponse);
+    public static Slice<PurchaseSummaryResponse> toPurchaseSummaryResponseSlice(Slice<PurchaseSummary> purchases) {
+        return purchases.map(PurchaseMapper::toPurchaseSummaryResponse);
     }
 }
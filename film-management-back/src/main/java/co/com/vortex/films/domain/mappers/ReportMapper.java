@@ -0,0 +1,46 @@
+package co.com.vortex.films.domain.mappers;
+
+import co.com.vortex.films.domain.dto.report.DailyRevenueResponse;
+import co.com.vortex.films.domain.dto.report.FilmSalesResponse;
+import co.com.vortex.films.domain.dto.report.GenreSalesResponse;
+import co.com.vortex.films.domain.dto.report.PaymentMethodSalesResponse;
+import co.com.vortex.films.domain.projections.DailyRevenue;
+import co.com.vortex.films.domain.projections.FilmSales;
+import co.com.vortex.films.domain.projections.GenreSales;
+import co.com.vortex.films.domain.projections.PaymentMethodSales;
+
+public class ReportMapper {
+    public static FilmSalesResponse toFilmSalesResponse(FilmSales filmSales) {
+        return FilmSalesResponse.builder()
+                .filmId(filmSales.filmId())
+                .title(filmSales.title())
+                .tickets(filmSales.tickets())
+                .revenue(filmSales.revenue())
+                .build();
+    }
+
+    public static GenreSalesResponse toGenreSalesResponse(GenreSales genreSales) {
+        return GenreSalesResponse.builder()
+                .genre(genreSales.genre().toString())
+                .tickets(genreSales.tickets())
+                .revenue(genreSales.revenue())
+                .build();
+    }
+
+    public static DailyRevenueResponse toDailyRevenueResponse(DailyRevenue dailyRevenue) {
+        return DailyRevenueResponse.builder()
+                .date(dailyRevenue.salesDate())
+                .purchases(dailyRevenue.purchases())
+                .revenue(dailyRevenue.revenue())
+                .build();
+    }
+
+    public static PaymentMethodSalesResponse toPaymentMethodSalesResponse(PaymentMethodSales paymentMethodSales, long totalPurchases) {
+        return PaymentMethodSalesResponse.builder()
+                .paymentMethod(paymentMethodSales.paymentMethod().toString())
+                .purchases(paymentMethodSales.purchases())
+                .revenue(paymentMethodSales.revenue())
+                .share(totalPurchases == 0 ? 0 : (double) paymentMethodSales.purchases() / totalPurchases)
+                .build();
+    }
+}
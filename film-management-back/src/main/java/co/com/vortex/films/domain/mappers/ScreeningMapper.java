@@ -0,0 +1,57 @@
+package co.com.vortex.films.domain.mappers;
+
+import co.com.vortex.films.domain.dto.screening.CreateScreeningRequest;
+import co.com.vortex.films.domain.dto.screening.ScreeningResponse;
+import co.com.vortex.films.domain.dto.screening.SeatHoldResponse;
+import co.com.vortex.films.domain.models.Film;
+import co.com.vortex.films.domain.models.Screening;
+import co.com.vortex.films.domain.models.ScreeningSeatHold;
+import co.com.vortex.films.domain.models.SeatInventory;
+import co.com.vortex.films.infrastructure.reservation.SeatHold;
+
+public class ScreeningMapper {
+    public static ScreeningResponse toScreeningResponse(Screening screening, int availableSeats) {
+        return ScreeningResponse.builder()
+                .id(screening.getId())
+                .filmId(screening.getFilm().getId())
+                .startsAt(screening.getStartsAt())
+                .capacity(screening.getCapacity())
+                .availableSeats(availableSeats)
+                .build();
+    }
+
+    public static Screening toScreening(CreateScreeningRequest createScreeningRequest, Film film) {
+        return Screening.builder()
+                .film(film)
+                .startsAt(createScreeningRequest.getStartsAt())
+                .capacity(createScreeningRequest.getCapacity())
+                .build();
+    }
+
+    public static SeatInventory toSeatInventory(Screening screening) {
+        return SeatInventory.builder()
+                .screeningId(screening.getId())
+                .soldSeats(new byte[0])
+                .soldCount(0)
+                .build();
+    }
+
+    public static SeatHoldResponse toSeatHoldResponse(SeatHold seatHold) {
+        return SeatHoldResponse.builder()
+                .id(seatHold.getId())
+                .screeningId(seatHold.getScreeningId())
+                .seats(seatHold.getSeats().stream().mapToObj(seat -> seat + 1).toList())
+                .expiresAt(seatHold.getExpiresAt())
+                .build();
+    }
+
+    public static ScreeningSeatHold toScreeningSeatHold(SeatHold seatHold) {
+        return ScreeningSeatHold.builder()
+                .id(seatHold.getId())
+                .screeningId(seatHold.getScreeningId())
+                .userId(seatHold.getUserId())
+                .seats(seatHold.getSeats().toByteArray())
+                .expiresAt(seatHold.getExpiresAt())
+                .build();
+    }
+}
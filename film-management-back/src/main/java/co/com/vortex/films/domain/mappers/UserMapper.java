@@ -5,6 +5,8 @@ import co.com.vortex.films.domain.dto.user.UpdateUserRequest;
 import co.com.vortex.films.domain.dto.user.UserResponse;
 import co.com.vortex.films.domain.models.User;
 import co.com.vortex.films.domain.models.UserRole;
+import co.com.vortex.films.domain.projections.EntityVersion;
+import co.com.vortex.films.domain.projections.UserSummary;
 import org.springframework.data.domain.Slice;
 
 public class UserMapper {
@@ -17,9 +19,29 @@ public class UserMapper {
                 .email(user.getEmail())
                 .role(user.getRole().toString())
                 .enabled(user.isEnabled())
+                .version(user.getVersion())
+                .updatedAt(user.getUpdatedAt())
                 .build();
     }
 
+    public static UserResponse toUserResponse(UserSummary userSummary) {
+        return UserResponse.builder()
+                .id(userSummary.id())
+                .name(userSummary.name())
+                .lastName(userSummary.lastName())
+                .phone(userSummary.phone())
+                .email(userSummary.email())
+                .role(userSummary.role().toString())
+                .enabled(userSummary.enabled())
+                .version(userSummary.version())
+                .updatedAt(userSummary.updatedAt())
+                .build();
+    }
+
+    public static EntityVersion toEntityVersion(UserResponse userResponse) {
+        return new EntityVersion(userResponse.getId(), userResponse.getVersion(), userResponse.getUpdatedAt());
+    }
+
     public static User toUser(CreateUserRequest createUserRequest, String password) {
         return User.builder()
                 .name(createUserRequest.getName())
@@ -30,7 +52,7 @@ public class UserMapper {
                 .build();
     }
 
-    public static User toUser(UpdateUserRequest updateUserRequest, String password, UserRole role, boolean enabled) {
+    public static User toUser(UpdateUserRequest updateUserRequest, String password, UserRole role, boolean enabled, int securityStamp, Long version) {
         return User.builder()
                 .id(updateUserRequest.getId())
                 .name(updateUserRequest.getName())
@@ -40,10 +62,16 @@ public class UserMapper {
                 .password(password)
                 .role(role)
                 .enabled(enabled)
+                .securityStamp(securityStamp)
+                .version(version)
                 .build();
     }
 
     public static Slice<UserResponse> toUserResponseSlice(Slice<User> users) {
         return users.map(UserMapper::toUserResponse);
     }
+
+    public static Slice<UserResponse> toUserSummaryResponseSlice(Slice<UserSummary> users) {
+        return users.map(UserMapper::toUserResponse);
+    }
 }
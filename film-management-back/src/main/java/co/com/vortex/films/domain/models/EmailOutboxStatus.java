@@ -0,0 +1,7 @@
+package co.com.vortex.films.domain.models;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENT,
+    DEAD
+}
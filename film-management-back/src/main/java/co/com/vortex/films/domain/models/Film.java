@@ -2,6 +2,9 @@ package co.com.vortex.films.domain.models;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
 
 @AllArgsConstructor
 @Builder
@@ -12,7 +15,8 @@ import lombok.*;
 @Table(name = "films")
 public class Film {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "films_id_seq")
+    @SequenceGenerator(name = "films_id_seq", sequenceName = "films_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -21,8 +25,21 @@ public class Film {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String description;
 
-    @Column(name = "image_url", nullable = false, length = 1000)
-    private String imageUrl;
+    @Column(name = "image_key", nullable = false, length = 1000)
+    private String imageKey;
+
+    @Column(name = "thumbnail_key", length = 1000)
+    private String thumbnailKey;
+
+    @Column(name = "card_key", length = 1000)
+    private String cardKey;
+
+    @Column(name = "full_key", length = 1000)
+    private String fullKey;
+
+    @ColumnDefault("false")
+    @Column(name = "variants_pending", insertable = false, updatable = false)
+    private boolean variantsPending;
 
     @Column(nullable = false)
     private FilmGenre genre;
@@ -39,8 +56,21 @@ public class Film {
     @Column(nullable = false)
     private boolean enabled;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
     @PrePersist
     public void onCreate () {
         this.enabled = true;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    public void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
     }
 }
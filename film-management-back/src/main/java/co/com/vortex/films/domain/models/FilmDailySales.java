@@ -0,0 +1,30 @@
+package co.com.vortex.films.domain.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@Builder
+@Entity
+@Getter
+@IdClass(FilmDailySalesId.class)
+@NoArgsConstructor
+@Setter
+@Table(name = "film_daily_sales")
+public class FilmDailySales {
+    @Id
+    @Column(name = "film_id")
+    private Long filmId;
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Column(nullable = false)
+    private Long tickets;
+
+    @Column(nullable = false)
+    private Long revenue;
+}
@@ -0,0 +1,16 @@
+package co.com.vortex.films.domain.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@Data
+@NoArgsConstructor
+public class FilmDailySalesId implements Serializable {
+    private Long filmId;
+    private LocalDate salesDate;
+}
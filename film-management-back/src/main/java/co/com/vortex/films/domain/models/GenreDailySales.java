@@ -0,0 +1,29 @@
+package co.com.vortex.films.domain.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@Builder
+@Entity
+@Getter
+@IdClass(GenreDailySalesId.class)
+@NoArgsConstructor
+@Setter
+@Table(name = "genre_daily_sales")
+public class GenreDailySales {
+    @Id
+    private FilmGenre genre;
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Column(nullable = false)
+    private Long tickets;
+
+    @Column(nullable = false)
+    private Long revenue;
+}
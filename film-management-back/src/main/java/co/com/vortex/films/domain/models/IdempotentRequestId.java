@@ -0,0 +1,15 @@
+package co.com.vortex.films.domain.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@AllArgsConstructor
+@Data
+@NoArgsConstructor
+public class IdempotentRequestId implements Serializable {
+    private Long userId;
+    private String idempotencyKey;
+}
@@ -0,0 +1,14 @@
+package co.com.vortex.films.domain.models;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    THUMBNAIL(160),
+    CARD(480),
+    FULL(1280);
+
+    private final int width;
+}
@@ -0,0 +1,15 @@
+package co.com.vortex.films.domain.models;
+
+import co.com.vortex.films.domain.dto.mail.TicketMail;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MailTemplate {
+    TICKET("email-ticket-template", "ticket", TicketMail.class);
+
+    private final String templateName;
+    private final String variableName;
+    private final Class<?> modelType;
+}
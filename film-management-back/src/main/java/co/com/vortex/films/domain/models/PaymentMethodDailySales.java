@@ -0,0 +1,30 @@
+package co.com.vortex.films.domain.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@Builder
+@Entity
+@Getter
+@IdClass(PaymentMethodDailySalesId.class)
+@NoArgsConstructor
+@Setter
+@Table(name = "payment_method_daily_sales")
+public class PaymentMethodDailySales {
+    @Id
+    @Column(name = "payment_method")
+    private PaymentMethod paymentMethod;
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Column(nullable = false)
+    private Long purchases;
+
+    @Column(nullable = false)
+    private Long revenue;
+}
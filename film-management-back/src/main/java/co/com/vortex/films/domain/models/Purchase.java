@@ -24,10 +24,13 @@ public class Purchase {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(name = "purchase_date", nullable = false)
+    @Column(name = "purchase_date", nullable = false, updatable = false)
     @JsonFormat(pattern = "dd/MM/yyyy HH:mm")
     private LocalDateTime purchaseDate;
 
+    @Column(name = "reference_code", nullable = false, updatable = false, length = 16)
+    private String referenceCode;
+
     @Column(name = "total_amount", nullable = false)
     private Integer totalAmount;
 
@@ -37,7 +40,12 @@ public class Purchase {
     @Column(name = "payment_method", nullable = false)
     private PaymentMethod paymentMethod;
 
-    @OneToMany(mappedBy = "purchase", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    // Keyed on the partition column too, so loading or fetching the details of a purchase only probes its own partition.
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @JoinColumns({
+            @JoinColumn(name = "purchase_id", referencedColumnName = "id", insertable = false, updatable = false),
+            @JoinColumn(name = "purchase_date", referencedColumnName = "purchase_date", insertable = false, updatable = false)
+    })
     private List<PurchaseDetail> details = new ArrayList<>();
 
     @PrePersist
@@ -3,6 +3,8 @@ package co.com.vortex.films.domain.models;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @AllArgsConstructor
 @Builder
 @Entity
@@ -12,7 +14,8 @@ import lombok.*;
 @Table(name = "purchase_details")
 public class PurchaseDetail {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "purchase_details_id_seq")
+    @SequenceGenerator(name = "purchase_details_id_seq", sequenceName = "purchase_details_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -23,6 +26,27 @@ public class PurchaseDetail {
     @JoinColumn(name = "film_id", nullable = false)
     private Film film;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "screening_id")
+    private Screening screening;
+
+    @Column(nullable = false, updatable = false)
+    private FilmGenre genre;
+
+    @Column
+    private byte[] seats;
+
     @Column(nullable = false)
     private Integer quantity;
+
+    @Column(name = "unit_price", nullable = false)
+    private Integer unitPrice;
+
+    @Column(name = "purchase_date", nullable = false, updatable = false)
+    private LocalDateTime purchaseDate;
+
+    @PrePersist
+    private void onCreate() {
+        this.purchaseDate = purchase.getPurchaseDate();
+    }
 }
@@ -0,0 +1,25 @@
+package co.com.vortex.films.domain.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@Builder
+@Entity
+@Getter
+@NoArgsConstructor
+@Setter
+@Table(name = "purchase_reference_codes")
+public class PurchaseReferenceCode {
+    @Id
+    @Column(name = "reference_code", length = 16)
+    private String referenceCode;
+
+    @Column(name = "purchase_id", nullable = false)
+    private Long purchaseId;
+
+    @Column(name = "purchase_date", nullable = false)
+    private LocalDateTime purchaseDate;
+}
@@ -0,0 +1,31 @@
+package co.com.vortex.films.domain.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@AllArgsConstructor
+@Builder
+@Entity
+@Getter
+@NoArgsConstructor
+@Setter
+@Table(name = "seat_holds")
+public class ScreeningSeatHold {
+    @Id
+    private UUID id;
+
+    @Column(name = "screening_id", nullable = false)
+    private Long screeningId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private byte[] seats;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,27 @@
+package co.com.vortex.films.domain.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@AllArgsConstructor
+@Builder
+@Entity
+@Getter
+@NoArgsConstructor
+@Setter
+@Table(name = "seat_inventories")
+public class SeatInventory {
+    @Id
+    @Column(name = "screening_id")
+    private Long screeningId;
+
+    @Column(name = "sold_seats", nullable = false)
+    private byte[] soldSeats;
+
+    @Column(name = "sold_count", nullable = false)
+    private int soldCount;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+}
@@ -6,6 +6,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
@@ -48,18 +49,30 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private boolean enabled;
 
+    @Column(name = "security_stamp", nullable = false)
+    private int securityStamp;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
     @PrePersist
     public void onCreate () {
         this.email = this.email.toLowerCase().trim();
         this.phone = this.phone.trim();
         this.role = UserRole.USER;
         this.enabled = true;
+        this.updatedAt = LocalDateTime.now();
     }
 
     @PreUpdate
     public void onUpdate() {
         this.email = this.email.toLowerCase().trim();
         this.phone = this.phone.trim();
+        this.updatedAt = LocalDateTime.now();
     }
 
     @Override
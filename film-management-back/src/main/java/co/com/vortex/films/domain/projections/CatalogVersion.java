@@ -0,0 +1,24 @@
+package co.com.vortex.films.domain.projections;
+
+import co.com.vortex.films.infrastructure.storage.SigningEpoch;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+public record CatalogVersion(Long count, Long maxId, Long versionSum, LocalDateTime updatedAt) {
+    public String eTag() {
+        return count + "-" + maxId + "-" + versionSum;
+    }
+
+    public long lastModified() {
+        return updatedAt == null ? 0 : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public String eTag(SigningEpoch signingEpoch) {
+        return eTag() + "-" + signingEpoch.number();
+    }
+
+    public long lastModified(SigningEpoch signingEpoch) {
+        return Math.max(lastModified(), signingEpoch.startedAt());
+    }
+}
@@ -0,0 +1,6 @@
+package co.com.vortex.films.domain.projections;
+
+import java.time.LocalDate;
+
+public record DailyRevenue(LocalDate salesDate, Long purchases, Long revenue) {
+}
@@ -0,0 +1,24 @@
+package co.com.vortex.films.domain.projections;
+
+import co.com.vortex.films.infrastructure.storage.SigningEpoch;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+public record EntityVersion(Long id, Long version, LocalDateTime updatedAt) {
+    public String eTag() {
+        return id + "-" + version;
+    }
+
+    public long lastModified() {
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public String eTag(SigningEpoch signingEpoch) {
+        return eTag() + "-" + signingEpoch.number();
+    }
+
+    public long lastModified(SigningEpoch signingEpoch) {
+        return Math.max(lastModified(), signingEpoch.startedAt());
+    }
+}
@@ -0,0 +1,4 @@
+package co.com.vortex.films.domain.projections;
+
+public record FilmSales(Long filmId, String title, Long tickets, Long revenue) {
+}
@@ -0,0 +1,18 @@
+package co.com.vortex.films.domain.projections;
+
+import co.com.vortex.films.domain.models.FilmClassification;
+import co.com.vortex.films.domain.models.FilmGenre;
+
+public record FilmSummary(
+        Long id,
+        String title,
+        String imageKey,
+        String thumbnailKey,
+        String cardKey,
+        FilmGenre genre,
+        FilmClassification classification,
+        Integer duration,
+        Integer ticketPrice,
+        boolean enabled
+) {
+}
@@ -0,0 +1,6 @@
+package co.com.vortex.films.domain.projections;
+
+import co.com.vortex.films.domain.models.FilmGenre;
+
+public record GenreSales(FilmGenre genre, Long tickets, Long revenue) {
+}
@@ -0,0 +1,6 @@
+package co.com.vortex.films.domain.projections;
+
+import co.com.vortex.films.domain.models.PaymentMethod;
+
+public record PaymentMethodSales(PaymentMethod paymentMethod, Long purchases, Long revenue) {
+}
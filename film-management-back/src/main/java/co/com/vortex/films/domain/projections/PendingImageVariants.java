@@ -0,0 +1,9 @@
+package co.com.vortex.films.domain.projections;
+
+public record PendingImageVariants(Long id, String imageKey) {
+    public String folderName() {
+        int separator = imageKey.lastIndexOf('/');
+
+        return separator < 0 ? null : imageKey.substring(0, separator);
+    }
+}
@@ -0,0 +1,20 @@
+package co.com.vortex.films.domain.projections;
+
+import co.com.vortex.films.domain.models.PaymentMethod;
+import co.com.vortex.films.domain.models.PaymentStatus;
+
+import java.time.LocalDateTime;
+
+public record PurchaseExportRow(
+        Long purchaseId,
+        Long userId,
+        LocalDateTime purchaseDate,
+        Integer totalAmount,
+        PaymentStatus paymentStatus,
+        PaymentMethod paymentMethod,
+        Long purchaseDetailId,
+        Long filmId,
+        String filmTitle,
+        Integer quantity
+) {
+}
@@ -0,0 +1,9 @@
+package co.com.vortex.films.domain.projections;
+
+import java.time.LocalDateTime;
+
+public record PurchaseKey(
+        Long id,
+        LocalDateTime purchaseDate
+) {
+}
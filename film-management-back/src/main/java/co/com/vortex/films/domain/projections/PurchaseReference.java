@@ -0,0 +1,14 @@
+package co.com.vortex.films.domain.projections;
+
+import co.com.vortex.films.domain.models.PaymentStatus;
+
+import java.time.LocalDateTime;
+
+public record PurchaseReference(
+        String referenceCode,
+        Long purchaseId,
+        Long userId,
+        LocalDateTime purchaseDate,
+        PaymentStatus paymentStatus
+) {
+}
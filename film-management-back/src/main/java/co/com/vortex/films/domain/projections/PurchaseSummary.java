@@ -0,0 +1,16 @@
+package co.com.vortex.films.domain.projections;
+
+import co.com.vortex.films.domain.models.PaymentMethod;
+import co.com.vortex.films.domain.models.PaymentStatus;
+
+import java.time.LocalDateTime;
+
+public record PurchaseSummary(
+        Long id,
+        Long userId,
+        LocalDateTime purchaseDate,
+        Integer totalAmount,
+        PaymentStatus paymentStatus,
+        PaymentMethod paymentMethod
+) {
+}
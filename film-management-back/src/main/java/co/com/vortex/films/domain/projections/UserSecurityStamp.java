@@ -0,0 +1,4 @@
+package co.com.vortex.films.domain.projections;
+
+public record UserSecurityStamp(Long id, int securityStamp) {
+}
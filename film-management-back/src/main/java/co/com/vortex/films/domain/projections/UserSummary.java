@@ -0,0 +1,18 @@
+package co.com.vortex.films.domain.projections;
+
+import co.com.vortex.films.domain.models.UserRole;
+
+import java.time.LocalDateTime;
+
+public record UserSummary(
+        Long id,
+        String name,
+        String lastName,
+        String phone,
+        String email,
+        UserRole role,
+        boolean enabled,
+        Long version,
+        LocalDateTime updatedAt
+) {
+}
@@ -6,4 +6,8 @@ public class AuthenticationValidator {
     public static final String INCORRECT_CREDENTIALS = "Email or password incorrect";
 
     public static final String USER_NOT_ENABLED = "User not enabled";
+
+    public static final String TOO_MANY_ATTEMPTS = "Too many authentication attempts, try again later";
+
+    public static final String PASSWORD_HASHING_SATURATED = "Too many authentication requests in progress, try again later";
 }
@@ -23,5 +23,12 @@ public class FilmValidator {
     public static final String TICKET_PRICE_MIN = "The ticket price must be at least 1";
 
     public static final String FILM_NOT_FOUND = "The film with ID: %d was not found";
+    public static final String FILMS_NOT_FOUND = "The films with IDs: %s were not found";
     public static final String FILM_NOT_FOUND_BY_TITLE = "The film with title: %s was not found";
+
+    public static final String MANIFEST_NOT_VALID = "The film manifest must be a CSV file with a header row or a JSON array of films";
+    public static final String ROW_NOT_READABLE = "The film row could not be read, check the genre, classification and numeric values";
+    public static final String IMAGE_NOT_BLANK = "The film image cannot be null or empty";
+    public static final String IMAGE_NOT_FOUND = "The image: %s was not found in the archive";
+    public static final String ROW_NOT_SAVED = "The film could not be saved";
 }
@@ -4,4 +4,5 @@ public class FirebaseValidator {
     public static final String FIREBASE_INITIALIZED_FAILED = "Firebase initialization failed";
 
     public static final String FIREBASE_EMPTY_FILE = "Cannot upload empty file";
+    public static final String FIREBASE_UNSUPPORTED_IMAGE = "The image format is not supported";
 }
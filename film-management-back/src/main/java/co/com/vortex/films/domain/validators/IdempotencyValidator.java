@@ -0,0 +1,10 @@
+package co.com.vortex.films.domain.validators;
+
+public class IdempotencyValidator {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final int IDEMPOTENCY_KEY_MAX_LENGTH = 255;
+
+    public static final String KEY_NOT_VALID = "The Idempotency-Key header must be between 1 and 255 characters";
+    public static final String KEY_REUSED = "The Idempotency-Key: %s was already used with a different request";
+    public static final String RESPONSE_NOT_READABLE = "The stored response for Idempotency-Key: %s could not be processed";
+}
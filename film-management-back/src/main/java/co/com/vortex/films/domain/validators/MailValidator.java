@@ -5,4 +5,5 @@ public class MailValidator {
 
     public static final String EMAIL_ADDRESS_FAILED = "Failed to set email sender address: %s";
     public static final String EMAIL_SEND_FAILED = "Failed to send email";
+    public static final String EMAIL_MODEL_NOT_READABLE = "The email model for: %s could not be processed";
 }
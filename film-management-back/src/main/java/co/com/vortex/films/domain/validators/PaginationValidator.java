@@ -0,0 +1,9 @@
+package co.com.vortex.films.domain.validators;
+
+public class PaginationValidator {
+    public static final String SIZE_MIN = "The page size must be at least 1";
+    public static final String SIZE_MAX = "The page size must be at most 100";
+
+    public static final String CURSOR_NOT_VALID = "The pagination cursor is not valid";
+    public static final String SORT_NOT_SUPPORTED = "Sorting by: %s is not supported, use one of: %s";
+}
@@ -15,4 +15,7 @@ public class PurchaseValidator {
 
     public static final String PURCHASE_NOT_FOUND = "The purchase with ID: %s was not found";
     public static final String PURCHASE_NOT_FOUND_BY_USER = "The purchase with user ID: %s was not found";
+    public static final String PURCHASE_NOT_FOUND_BY_REFERENCE_CODE = "The purchase with reference code: %s was not found";
+
+    public static final String REFERENCE_CODE_NOT_VALID = "The reference code: %s is not valid";
 }
@@ -0,0 +1,9 @@
+package co.com.vortex.films.domain.validators;
+
+public class ReportValidator {
+    public static final int MAX_RANGE_DAYS = 366;
+    public static final int MAX_LIMIT = 100;
+
+    public static final String RANGE_NOT_VALID = "The report range must start before it ends and span at most 366 days";
+    public static final String LIMIT_NOT_VALID = "The report limit must be between 1 and 100";
+}
@@ -0,0 +1,22 @@
+package co.com.vortex.films.domain.validators;
+
+public class ScreeningValidator {
+    public static final String FILM_ID_NOT_NULL = "The film ID cannot be null";
+    public static final String FILM_ID_POSITIVE = "The film ID must be a positive number";
+
+    public static final String STARTS_AT_NOT_NULL = "The screening start cannot be null";
+    public static final String STARTS_AT_FUTURE = "The screening start must be in the future";
+
+    public static final String CAPACITY_NOT_NULL = "The screening capacity cannot be null";
+    public static final String CAPACITY_RANGE = "The screening capacity must be between 1 and 1000 seats";
+
+    public static final String QUANTITY_NOT_NULL = "The seat quantity cannot be null";
+    public static final String QUANTITY_RANGE = "The seat quantity must be between 1 and 10";
+
+    public static final String SCREENING_NOT_FOUND = "The screening with ID: %s was not found";
+    public static final String SCREENING_STARTED = "The screening with ID: %s has already started";
+    public static final String SEATS_NOT_AVAILABLE = "The screening with ID: %s does not have %d seats available";
+    public static final String SEATS_ALREADY_SOLD = "The seats held for the screening with ID: %s were sold by another request";
+    public static final String HOLD_NOT_FOUND = "The seat hold with ID: %s was not found or has expired";
+    public static final String HOLD_NOT_MATCHING = "The seat hold with ID: %s does not match the film and ticket quantity of the purchase line";
+}
@@ -0,0 +1,7 @@
+package co.com.vortex.films.domain.validators;
+
+public class StorageValidator {
+    public static final String OBJECT_KEY_NOT_VALID = "The storage key: %s is not valid";
+    public static final String MEDIA_NOT_FOUND = "Media with key: %s not found";
+    public static final String MEDIA_SIGNATURE_NOT_VALID = "The media link is not valid or has expired";
+}
@@ -1,10 +1,13 @@
 package co.com.vortex.films.infrastructure.advice;
 
 import co.com.vortex.films.domain.dto.error.ErrorResponse;
+import co.com.vortex.films.infrastructure.exceptions.BadRequestException;
 import co.com.vortex.films.infrastructure.exceptions.ConflictException;
 import co.com.vortex.films.infrastructure.exceptions.MailException;
 import co.com.vortex.films.infrastructure.exceptions.NotFoundException;
+import co.com.vortex.films.infrastructure.exceptions.TooManyRequestsException;
 import co.com.vortex.films.infrastructure.exceptions.UnauthorizedException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -28,6 +31,12 @@ public class ApplicationExceptionHandler {
         return buildErrorResponse("Validation failed", HttpStatus.BAD_REQUEST, details);
     }
 
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(BadRequestException.class)
+    public ErrorResponse handleBadRequestException(BadRequestException ex) {
+        return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST, null);
+    }
+
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(MailException.class)
     public ErrorResponse handleMailException(MailException ex) {
@@ -52,6 +61,18 @@ public class ApplicationExceptionHandler {
         return buildErrorResponse(ex.getMessage(), HttpStatus.CONFLICT, null);
     }
 
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ErrorResponse handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        return buildErrorResponse("The resource was modified by another request, reload it and try again", HttpStatus.CONFLICT, null);
+    }
+
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ErrorResponse handleTooManyRequestsException(TooManyRequestsException ex) {
+        return buildErrorResponse(ex.getMessage(), HttpStatus.TOO_MANY_REQUESTS, null);
+    }
+
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     @ExceptionHandler(Exception.class)
     public ErrorResponse handleGenericException(Exception ex) {
@@ -0,0 +1,28 @@
+package co.com.vortex.films.infrastructure.cache;
+
+import co.com.vortex.films.infrastructure.security.Sha256;
+import co.com.vortex.films.infrastructure.security.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+@Component
+public class AuthenticationCache {
+    private final Cache<String, VerifiedToken> tokens;
+
+    public AuthenticationCache(@Value("${cache.authentication.tokens-maximum-size}") long tokensMaximumSize) {
+        // Tokens are kept by hash only, and never past their own expiry, so a cached entry can't outlive the signature check it replaces.
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(tokensMaximumSize)
+                .expireAfter(new DeadlineExpiry<String, VerifiedToken>(VerifiedToken::expiresAt))
+                .build();
+    }
+
+    public VerifiedToken getToken(String token, Function<String, VerifiedToken> verifier) {
+        return tokens.get(Sha256.hex(token.getBytes(StandardCharsets.UTF_8)), key -> verifier.apply(token));
+    }
+}
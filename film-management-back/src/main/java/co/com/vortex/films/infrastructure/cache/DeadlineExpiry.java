@@ -0,0 +1,33 @@
+package co.com.vortex.films.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * Expires every entry at the deadline it carries, whether it was created or replaced, and never extends it on reads.
+ */
+public class DeadlineExpiry<K, V> implements Expiry<K, V> {
+    private final Function<V, Instant> deadline;
+
+    public DeadlineExpiry(Function<V, Instant> deadline) {
+        this.deadline = deadline;
+    }
+
+    @Override
+    public long expireAfterCreate(K key, V value, long currentTime) {
+        return Math.max(0, Duration.between(Instant.now(), deadline.apply(value)).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+        return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
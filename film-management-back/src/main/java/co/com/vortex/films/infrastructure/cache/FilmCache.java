@@ -0,0 +1,150 @@
+package co.com.vortex.films.infrastructure.cache;
+
+import co.com.vortex.films.domain.dto.cache.CacheStatsResponse;
+import co.com.vortex.films.domain.dto.film.FilmResponse;
+import co.com.vortex.films.domain.mappers.CacheMapper;
+import co.com.vortex.films.domain.projections.CatalogVersion;
+import co.com.vortex.films.infrastructure.transaction.TransactionCallbacks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Component
+public class FilmCache {
+    private static final String FILMS_CACHE_NAME = "films";
+    private static final String PAGES_CACHE_NAME = "filmPages";
+    private static final String ID_PROPERTY = "id";
+
+    private final Cache<Long, FilmResponse> films;
+    private final Cache<PageKey, CachedPage> pages;
+    private final Cache<FilmScope, CatalogVersion> catalogVersions;
+    private final AtomicLong pagesGeneration = new AtomicLong();
+    private final LongAdder filmInvalidations = new LongAdder();
+    private final LongAdder pageInvalidations = new LongAdder();
+
+    public FilmCache(
+            @Value("${cache.films.maximum-size}") long filmsMaximumSize,
+            @Value("${cache.films.pages-maximum-size}") long pagesMaximumSize,
+            @Value("${cache.films.ttl}") Duration ttl
+    ) {
+        this.films = Caffeine.newBuilder()
+                .maximumSize(filmsMaximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(pagesMaximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        this.catalogVersions = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public FilmResponse getFilm(Long id, Function<Long, FilmResponse> loader) {
+        return films.get(id, loader);
+    }
+
+    public FilmResponse getFilmIfPresent(Long id) {
+        return films.getIfPresent(id);
+    }
+
+    public Slice<FilmResponse> getPage(FilmScope scope, Pageable pageable, Supplier<Slice<FilmResponse>> loader) {
+        if (pageable.isUnpaged()) return loader.get();
+
+        PageKey key = new PageKey(scope, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        long generation = pagesGeneration.get();
+
+        CachedPage page = pages.get(key, k -> toCachedPage(loader.get()));
+
+        // A write committed while this page was loading, so the loaded rows may predate it.
+        if (generation != pagesGeneration.get()) pages.invalidate(key);
+
+        return page.slice();
+    }
+
+    public CatalogVersion getCatalogVersion(FilmScope scope, Supplier<CatalogVersion> loader) {
+        long generation = pagesGeneration.get();
+
+        CatalogVersion catalogVersion = catalogVersions.get(scope, s -> loader.get());
+
+        if (generation != pagesGeneration.get()) catalogVersions.invalidate(scope);
+
+        return catalogVersion;
+    }
+
+    public void evictFilm(Long id) {
+        TransactionCallbacks.afterCommit(() -> {
+            films.invalidate(id);
+            filmInvalidations.increment();
+
+            invalidatePages(key -> key.isOrderedByMutableProperty() || containsFilm(key, id));
+            catalogVersions.invalidateAll();
+        });
+    }
+
+    public void evictScope(FilmScope scope) {
+        TransactionCallbacks.afterCommit(() -> {
+            invalidatePages(key -> key.scope() == scope);
+            catalogVersions.invalidate(scope);
+        });
+    }
+
+    public List<CacheStatsResponse> getStats() {
+        return List.of(
+                CacheMapper.toCacheStatsResponse(FILMS_CACHE_NAME, films, filmInvalidations.sum()),
+                CacheMapper.toCacheStatsResponse(PAGES_CACHE_NAME, pages, pageInvalidations.sum())
+        );
+    }
+
+    private boolean containsFilm(PageKey key, Long id) {
+        CachedPage page = pages.getIfPresent(key);
+
+        return page != null && page.filmIds().contains(id);
+    }
+
+    private void invalidatePages(Predicate<PageKey> predicate) {
+        pagesGeneration.incrementAndGet();
+
+        Set<PageKey> affectedKeys = pages.asMap().keySet().stream()
+                .filter(predicate)
+                .collect(Collectors.toSet());
+
+        pages.invalidateAll(affectedKeys);
+        pageInvalidations.add(affectedKeys.size());
+    }
+
+    private CachedPage toCachedPage(Slice<FilmResponse> slice) {
+        Set<Long> filmIds = slice.getContent().stream()
+                .map(FilmResponse::getId)
+                .collect(Collectors.toUnmodifiableSet());
+
+        return new CachedPage(slice, filmIds);
+    }
+
+    private record PageKey(FilmScope scope, int pageNumber, int pageSize, Sort sort) {
+        boolean isOrderedByMutableProperty() {
+            return sort.stream().anyMatch(order -> !ID_PROPERTY.equals(order.getProperty()));
+        }
+    }
+
+    private record CachedPage(Slice<FilmResponse> slice, Set<Long> filmIds) {
+    }
+}
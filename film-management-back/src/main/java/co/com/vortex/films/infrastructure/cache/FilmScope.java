@@ -0,0 +1,6 @@
+package co.com.vortex.films.infrastructure.cache;
+
+public enum FilmScope {
+    ALL,
+    ENABLED
+}
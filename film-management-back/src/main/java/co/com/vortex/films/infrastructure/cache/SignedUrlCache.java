@@ -0,0 +1,90 @@
+package co.com.vortex.films.infrastructure.cache;
+
+import co.com.vortex.films.domain.dto.cache.CacheStatsResponse;
+import co.com.vortex.films.domain.mappers.CacheMapper;
+import co.com.vortex.films.infrastructure.storage.SignedUrl;
+import co.com.vortex.films.infrastructure.storage.SigningEpoch;
+import co.com.vortex.films.infrastructure.storage.UrlSigner;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+@Component
+public class SignedUrlCache {
+    private static final String SIGNED_URLS_CACHE_NAME = "signedUrls";
+
+    private final LoadingCache<String, SignedUrl> signedUrls;
+    private final long signingEpochMillis;
+
+    @Autowired
+    public SignedUrlCache(
+            UrlSigner urlSigner,
+            @Value("${cache.signed-urls.maximum-size}") long maximumSize,
+            @Value("${cache.signed-urls.ttl}") Duration ttl,
+            @Value("${cache.signed-urls.refresh-ahead}") Duration refreshAhead,
+            @Value("${cache.signed-urls.min-validity}") Duration minValidity
+    ) {
+        this(urlSigner, maximumSize, ttl, refreshAhead, minValidity, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    SignedUrlCache(
+            UrlSigner urlSigner,
+            long maximumSize,
+            Duration ttl,
+            Duration refreshAhead,
+            Duration minValidity,
+            Ticker ticker,
+            Executor executor
+    ) {
+        if (ttl.compareTo(refreshAhead) <= 0 || refreshAhead.compareTo(minValidity) <= 0) {
+            throw new IllegalArgumentException("Signed URL durations must satisfy ttl > refresh-ahead > min-validity");
+        }
+
+        this.signingEpochMillis = minValidity.toMillis();
+
+        // Reads past the refresh point are served the current URL while it is re-signed in the background;
+        // entries are dropped before a served URL could have less than min-validity left.
+        this.signedUrls = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(ttl.minus(refreshAhead))
+                .expireAfterWrite(ttl.minus(minValidity))
+                .executor(executor)
+                .ticker(ticker)
+                .recordStats()
+                .build(objectKey -> urlSigner.sign(objectKey, ttl));
+    }
+
+    public String resolve(String objectKey) {
+        if (!StringUtils.hasText(objectKey) || isAbsoluteUrl(objectKey)) return objectKey;
+
+        return signedUrls.get(objectKey).url();
+    }
+
+    // Every URL served within an epoch stays valid until the epoch ends, so a response validated against
+    // the epoch it was signed in never hands out expired URLs.
+    public SigningEpoch getSigningEpoch() {
+        return getSigningEpoch(System.currentTimeMillis());
+    }
+
+    SigningEpoch getSigningEpoch(long currentTimeMillis) {
+        long number = currentTimeMillis / signingEpochMillis;
+
+        return new SigningEpoch(number, number * signingEpochMillis);
+    }
+
+    public CacheStatsResponse getStats() {
+        return CacheMapper.toCacheStatsResponse(SIGNED_URLS_CACHE_NAME, signedUrls, 0);
+    }
+
+    private boolean isAbsoluteUrl(String objectKey) {
+        return objectKey.startsWith("https://") || objectKey.startsWith("http://");
+    }
+}
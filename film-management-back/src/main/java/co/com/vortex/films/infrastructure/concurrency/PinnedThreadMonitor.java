@@ -0,0 +1,83 @@
+package co.com.vortex.films.infrastructure.concurrency;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class PinnedThreadMonitor {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "co.com.vortex.films.";
+
+    private final Duration threshold;
+    private final Map<String, LongAdder> pinnedSites = new ConcurrentHashMap<>();
+    private final LongAdder unreported = new LongAdder();
+    private RecordingStream recordingStream;
+
+    public PinnedThreadMonitor(@Value("${threads.pinning.threshold}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        // The events stay in any JFR recording taken of the process; this stream only aggregates them per call site.
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::record);
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) recordingStream.close();
+    }
+
+    public Map<String, Long> getPinnedSites() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        pinnedSites.forEach((site, count) -> snapshot.put(site, count.sum()));
+
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${threads.pinning.report-interval}")
+    public void report() {
+        long pinned = unreported.sumThenReset();
+
+        if (pinned > 0) log.warn("{} virtual threads were pinned to their carrier for more than {} since the last report, by call site: {}", pinned, threshold, getPinnedSites());
+    }
+
+    private void record(RecordedEvent event) {
+        pinnedSites.computeIfAbsent(siteOf(event), site -> new LongAdder()).increment();
+        unreported.increment();
+    }
+
+    private static String siteOf(RecordedEvent event) {
+        if (event.getStackTrace() == null) return "unknown";
+
+        // Pinning usually happens inside a driver, so the innermost frame of our own code is what can be fixed.
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        RecordedFrame site = frames.stream()
+                .filter(frame -> frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .orElse(frames.isEmpty() ? null : frames.get(0));
+
+        return site == null ? "unknown" : site.getMethod().getType().getName() + "." + site.getMethod().getName() + ":" + site.getLineNumber();
+    }
+}
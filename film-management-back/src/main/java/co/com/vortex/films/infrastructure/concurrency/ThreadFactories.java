@@ -0,0 +1,11 @@
+package co.com.vortex.films.infrastructure.concurrency;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ThreadFactory;
+
+public class ThreadFactories {
+    public static ThreadFactory of(String prefix, boolean virtual) {
+        return virtual ? Thread.ofVirtual().name(prefix, 1).factory() : new CustomizableThreadFactory(prefix);
+    }
+}
@@ -0,0 +1,10 @@
+package co.com.vortex.films.infrastructure.config;
+
+import co.com.vortex.films.infrastructure.pagination.KeysetJpaRepository;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@Configuration
+@EnableJpaRepositories(basePackages = "co.com.vortex.films.application.repository", repositoryBaseClass = KeysetJpaRepository.class)
+public class JpaConfig {
+}
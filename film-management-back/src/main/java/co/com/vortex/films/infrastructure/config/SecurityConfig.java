@@ -1,8 +1,11 @@
 package co.com.vortex.films.infrastructure.config;
 
 import co.com.vortex.films.domain.models.UserRole;
+import co.com.vortex.films.infrastructure.security.LoginRateLimitFilter;
 import co.com.vortex.films.infrastructure.security.SecurityFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -25,6 +28,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
     private final SecurityFilter securityFilter;
+    private final LoginRateLimitFilter loginRateLimitFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
@@ -34,19 +38,25 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.
                         sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/v3/api-docs/**",
                                 "/swagger-ui.html",
                                 "/swagger-ui/**",
-                                "/auth/**"
+                                "/auth/**",
+                                "/media/**"
                         ).permitAll()
                         .requestMatchers(
                                 "/film/admin/**",
+                                "/purchase/admin/**",
+                                "/report/admin/**",
+                                "/screening/admin/**",
                                 "/user/admin/**"
                         )
                         .hasAnyAuthority(UserRole.ADMIN.name())
                         .anyRequest()
                         .authenticated())
+                .addFilterBefore(loginRateLimitFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(securityFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
@@ -71,7 +81,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder bCryptPasswordEncoder(@Value("${authentication.password.bcrypt-strength}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
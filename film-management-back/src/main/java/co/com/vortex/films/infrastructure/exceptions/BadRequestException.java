@@ -0,0 +1,7 @@
+package co.com.vortex.films.infrastructure.exceptions;
+
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package co.com.vortex.films.infrastructure.exceptions;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
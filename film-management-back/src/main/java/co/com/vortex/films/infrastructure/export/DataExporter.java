@@ -0,0 +1,55 @@
+package co.com.vortex.films.infrastructure.export;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Component
+@RequiredArgsConstructor
+public class DataExporter {
+    public static final int FETCH_SIZE = 1000;
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public <T, R> void export(Stream<T> rows, Function<T, R> mapper, Class<R> type, ExportFormat format, OutputStream outputStream) throws IOException {
+        try (rows; SequenceWriter sequenceWriter = writerFor(type, format).writeValues(outputStream)) {
+            Iterator<T> iterator = rows.iterator();
+            long writtenRows = 0;
+
+            while (iterator.hasNext()) {
+                sequenceWriter.write(mapper.apply(iterator.next()));
+
+                if (++writtenRows % FETCH_SIZE == 0) entityManager.clear();
+            }
+        }
+    }
+
+    private ObjectWriter writerFor(Class<?> type, ExportFormat format) {
+        ObjectWriter writer = switch (format) {
+            case CSV -> CSV_MAPPER.writer(CSV_MAPPER.schemaFor(type).withHeader());
+            case NDJSON -> objectMapper.writerFor(type).withRootValueSeparator("\n");
+        };
+
+        return writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+}
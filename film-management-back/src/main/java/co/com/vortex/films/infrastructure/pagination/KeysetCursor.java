@@ -0,0 +1,112 @@
+package co.com.vortex.films.infrastructure.pagination;
+
+import co.com.vortex.films.domain.dto.pagination.CursorRequest;
+import co.com.vortex.films.domain.dto.pagination.CursorResponse;
+import co.com.vortex.films.domain.validators.PaginationValidator;
+import co.com.vortex.films.infrastructure.exceptions.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public record KeysetCursor(String property, Sort.Direction direction, Map<String, Object> keys) {
+    private static final String ID_PROPERTY = "id";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public static KeysetCursor of(CursorRequest cursorRequest, Map<String, Class<?>> sortableProperties) {
+        if (StringUtils.hasText(cursorRequest.getCursor())) return decode(cursorRequest.getCursor(), sortableProperties);
+
+        if (!sortableProperties.containsKey(cursorRequest.getSort())) {
+            throw new BadRequestException(String.format(PaginationValidator.SORT_NOT_SUPPORTED, cursorRequest.getSort(), sortableProperties.keySet()));
+        }
+
+        return new KeysetCursor(cursorRequest.getSort(), cursorRequest.getDirection(), Map.of());
+    }
+
+    public List<String> sortedProperties() {
+        return ID_PROPERTY.equals(property) ? List.of(ID_PROPERTY) : List.of(property, ID_PROPERTY);
+    }
+
+    public <T, R> CursorResponse<R> toCursorResponse(List<T> rows, int size, Function<T, R> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+
+        if (hasNext) {
+            BeanWrapper lastRow = new BeanWrapperImpl(content.get(content.size() - 1));
+            Map<String, Object> lastKeys = new LinkedHashMap<>();
+            sortedProperties().forEach(sortedProperty -> lastKeys.put(sortedProperty, lastRow.getPropertyValue(sortedProperty)));
+
+            nextCursor = new KeysetCursor(property, direction, lastKeys).encode();
+        }
+
+        return CursorResponse.<R>builder()
+                .content(content.stream().map(mapper).toList())
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private String encode() {
+        Map<String, String> encodedKeys = new LinkedHashMap<>();
+        keys.forEach((key, value) -> encodedKeys.put(key, value.toString()));
+
+        try {
+            byte[] json = OBJECT_MAPPER.writeValueAsBytes(new Token(property, direction, encodedKeys));
+
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static KeysetCursor decode(String cursor, Map<String, Class<?>> sortableProperties) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.US_ASCII));
+            Token token = OBJECT_MAPPER.readValue(json, Token.class);
+
+            if (!sortableProperties.containsKey(token.property()) || token.direction() == null || token.keys() == null) {
+                throw new BadRequestException(PaginationValidator.CURSOR_NOT_VALID);
+            }
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (Map.Entry<String, String> key : token.keys().entrySet()) {
+                Class<?> type = sortableProperties.get(key.getKey());
+                if (type == null) throw new BadRequestException(PaginationValidator.CURSOR_NOT_VALID);
+
+                keys.put(key.getKey(), parseKey(key.getValue(), type));
+            }
+
+            KeysetCursor keysetCursor = new KeysetCursor(token.property(), token.direction(), keys);
+            if (!List.copyOf(keys.keySet()).equals(keysetCursor.sortedProperties())) throw new BadRequestException(PaginationValidator.CURSOR_NOT_VALID);
+
+            return keysetCursor;
+        } catch (IllegalArgumentException | IOException | DateTimeParseException e) {
+            throw new BadRequestException(PaginationValidator.CURSOR_NOT_VALID);
+        }
+    }
+
+    private static Object parseKey(String value, Class<?> type) {
+        if (type == Long.class) return Long.valueOf(value);
+        if (type == Integer.class) return Integer.valueOf(value);
+        if (type == LocalDateTime.class) return LocalDateTime.parse(value);
+
+        return value;
+    }
+
+    private record Token(String property, Sort.Direction direction, Map<String, String> keys) {
+    }
+}
@@ -0,0 +1,63 @@
+package co.com.vortex.films.infrastructure.pagination;
+
+import co.com.vortex.films.application.repository.KeysetRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class KeysetJpaRepository<T, ID> extends SimpleJpaRepository<T, ID> implements KeysetRepository<T, ID> {
+    private static final String ALIAS = "e";
+
+    private final JpaEntityInformation<T, ?> entityInformation;
+    private final EntityManager entityManager;
+
+    public KeysetJpaRepository(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+
+        this.entityInformation = entityInformation;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<T> findAllByKeyset(KeysetCursor cursor, int limit, Map<String, Object> filters) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> parameters = new ArrayList<>();
+
+        filters.forEach((path, value) -> {
+            conditions.add(ALIAS + "." + path + " = ?" + (parameters.size() + 1));
+            parameters.add(value);
+        });
+
+        if (!cursor.keys().isEmpty()) {
+            List<String> properties = cursor.sortedProperties();
+            String operator = cursor.direction().isAscending() ? " > " : " < ";
+
+            String columns = properties.stream().map(property -> ALIAS + "." + property).collect(Collectors.joining(", "));
+            String values = properties.stream().map(property -> {
+                parameters.add(cursor.keys().get(property));
+                return "?" + parameters.size();
+            }).collect(Collectors.joining(", "));
+
+            conditions.add(properties.size() == 1 ? columns + operator + values : "(" + columns + ")" + operator + "(" + values + ")");
+        }
+
+        String ordering = cursor.sortedProperties().stream()
+                .map(property -> ALIAS + "." + property + " " + cursor.direction().name())
+                .collect(Collectors.joining(", "));
+
+        String jpql = "SELECT " + ALIAS + " FROM " + entityInformation.getEntityName() + " " + ALIAS
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY " + ordering;
+
+        TypedQuery<T> query = entityManager.createQuery(jpql, getDomainClass());
+        for (int i = 0; i < parameters.size(); i++) query.setParameter(i + 1, parameters.get(i));
+
+        return query.setMaxResults(limit).getResultList();
+    }
+}
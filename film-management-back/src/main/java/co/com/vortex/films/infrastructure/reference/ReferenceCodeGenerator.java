@@ -0,0 +1,99 @@
+package co.com.vortex.films.infrastructure.reference;
+
+import co.com.vortex.films.domain.validators.PurchaseValidator;
+import co.com.vortex.films.infrastructure.exceptions.BadRequestException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+@Component
+public class ReferenceCodeGenerator {
+    public static final String PREFIX = "FM-";
+
+    private static final long EPOCH = Instant.parse("2020-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+    private static final int CODE_LENGTH = 13;
+
+    private final LongSupplier nodeId;
+    private final Clock clock;
+    private final AtomicLong state = new AtomicLong();
+
+    @Autowired
+    public ReferenceCodeGenerator(ReferenceCodeNodeLease referenceCodeNodeLease) {
+        this(referenceCodeNodeLease::nodeId, Clock.systemDefaultZone());
+    }
+
+    public ReferenceCodeGenerator(long nodeId) {
+        this(nodeId, Clock.systemDefaultZone());
+    }
+
+    ReferenceCodeGenerator(long nodeId, Clock clock) {
+        this(validate(nodeId), clock);
+    }
+
+    private ReferenceCodeGenerator(LongSupplier nodeId, Clock clock) {
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public String next() {
+        // Read before the sequence moves, so an expired lease fails the request without consuming a code.
+        long node = nodeId.getAsLong();
+        long current;
+        long next;
+
+        // Within one millisecond, or when the clock steps back, the sequence keeps counting and overflows into the timestamp, so codes never repeat or go backwards.
+        do {
+            current = state.get();
+            long timestamp = clock.millis() - EPOCH;
+
+            next = timestamp > current >>> SEQUENCE_BITS ? timestamp << SEQUENCE_BITS : current + 1;
+        } while (!state.compareAndSet(current, next));
+
+        return encode((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS) | node << SEQUENCE_BITS | next & SEQUENCE_MASK);
+    }
+
+    public LocalDateTime issuedAt(String code) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli((decode(code) >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH), clock.getZone());
+    }
+
+    private static LongSupplier validate(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) throw new IllegalArgumentException("The reference code node ID must be between 0 and " + MAX_NODE_ID);
+
+        return () -> nodeId;
+    }
+
+    private static String encode(long value) {
+        char[] code = new char[CODE_LENGTH];
+
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = ALPHABET.charAt((int) (value & 31));
+            value >>>= 5;
+        }
+
+        return PREFIX + new String(code);
+    }
+
+    private static long decode(String code) {
+        if (code == null || code.length() != PREFIX.length() + CODE_LENGTH || !code.startsWith(PREFIX)) throw new BadRequestException(String.format(PurchaseValidator.REFERENCE_CODE_NOT_VALID, code));
+
+        long value = 0;
+        for (int i = PREFIX.length(); i < code.length(); i++) {
+            int digit = ALPHABET.indexOf(Character.toUpperCase(code.charAt(i)));
+            if (digit < 0) throw new BadRequestException(String.format(PurchaseValidator.REFERENCE_CODE_NOT_VALID, code));
+
+            value = value << 5 | digit;
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,119 @@
+package co.com.vortex.films.infrastructure.reference;
+
+import co.com.vortex.films.application.repository.ReferenceCodeNodeRepository;
+import co.com.vortex.films.infrastructure.concurrency.ThreadFactories;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node ID this instance stamps into reference codes, leased from the database so that no two running instances share
+ * one. The lease is renewed on its own thread rather than through the scheduling toggle, and codes are refused once it
+ * can no longer be proven current.
+ */
+@Component
+@Slf4j
+public class ReferenceCodeNodeLease {
+    private static final int CLAIM_ATTEMPTS = 5;
+
+    private final ReferenceCodeNodeRepository referenceCodeNodeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Duration renewInterval;
+    private final String owner = UUID.randomUUID().toString();
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(ThreadFactories.of("reference-code-lease-", false));
+    private volatile Lease lease;
+
+    public ReferenceCodeNodeLease(
+            ReferenceCodeNodeRepository referenceCodeNodeRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${reference-code.node-lease.ttl}") Duration ttl,
+            @Value("${reference-code.node-lease.renew-interval}") Duration renewInterval
+    ) {
+        if (renewInterval.compareTo(ttl) >= 0) throw new IllegalArgumentException("The reference code node lease must be renewed more often than it expires");
+
+        this.referenceCodeNodeRepository = referenceCodeNodeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = ttl;
+        this.renewInterval = renewInterval;
+    }
+
+    @PostConstruct
+    public void start() {
+        // Without a node ID the instance could only issue codes that may collide with another instance's, so it does not start.
+        lease = claim().orElseThrow(() -> new IllegalStateException("Every reference code node ID is leased by another instance"));
+        log.info("Leased reference code node ID {}", lease.nodeId());
+
+        renewer.scheduleWithFixedDelay(this::renew, renewInterval.toMillis(), renewInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        renewer.shutdownNow();
+
+        Lease current = lease;
+        if (current == null) return;
+
+        lease = null;
+        transactionTemplate.executeWithoutResult(status -> referenceCodeNodeRepository.release(current.nodeId(), owner));
+    }
+
+    public long nodeId() {
+        Lease current = lease;
+        if (current == null || System.nanoTime() - current.validUntil() >= 0) throw new IllegalStateException("The reference code node lease has expired");
+
+        return current.nodeId();
+    }
+
+    private void renew() {
+        Lease current = lease;
+
+        try {
+            if (current != null) {
+                long requestedAt = System.nanoTime();
+                Integer renewed = transactionTemplate.execute(status -> referenceCodeNodeRepository.renew(current.nodeId(), owner, ttl.toSeconds()));
+
+                if (renewed != null && renewed > 0) {
+                    lease = new Lease(current.nodeId(), requestedAt + ttl.toNanos());
+                    return;
+                }
+
+                // The lease expired before it was renewed and may already belong to another instance, so a fresh one is claimed.
+                log.warn("Reference code node ID {} was lost, claiming a new one", current.nodeId());
+                lease = null;
+            }
+
+            lease = claim().orElse(null);
+            if (lease == null) log.error("Every reference code node ID is leased by another instance, reference codes cannot be issued");
+        } catch (RuntimeException e) {
+            // The current lease stays usable until it expires, later renewals may still reach the database.
+            log.error("Could not renew reference code node ID {}", current == null ? null : current.nodeId(), e);
+        }
+    }
+
+    private Optional<Lease> claim() {
+        for (int attempt = 0; attempt < CLAIM_ATTEMPTS; attempt++) {
+            // Measured before the request, the local deadline is never later than the one the database recorded.
+            long requestedAt = System.nanoTime();
+            Optional<Integer> nodeId = transactionTemplate.execute(status -> referenceCodeNodeRepository.claim(owner, ttl.toSeconds()));
+
+            // An empty result means another instance took the same free ID concurrently, so the next one is tried.
+            if (nodeId != null && nodeId.isPresent()) return Optional.of(new Lease(nodeId.get(), requestedAt + ttl.toNanos()));
+        }
+
+        return Optional.empty();
+    }
+
+    private record Lease(int nodeId, long validUntil) {
+    }
+}
@@ -0,0 +1,8 @@
+package co.com.vortex.films.infrastructure.reservation;
+
+import co.com.vortex.films.domain.models.Screening;
+
+import java.util.BitSet;
+
+public record ConfirmedSeats(Screening screening, BitSet seats) {
+}
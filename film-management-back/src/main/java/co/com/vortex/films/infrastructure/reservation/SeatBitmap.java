@@ -0,0 +1,131 @@
+package co.com.vortex.films.infrastructure.reservation;
+
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class SeatBitmap {
+    private static final int WORD_BITS = Long.SIZE;
+
+    private final int capacity;
+    private final AtomicLongArray words;
+    private final AtomicLongArray sold;
+    private final AtomicInteger available;
+
+    public SeatBitmap(int capacity, BitSet soldSeats) {
+        this.capacity = capacity;
+        this.words = new AtomicLongArray((capacity + WORD_BITS - 1) / WORD_BITS);
+        this.sold = new AtomicLongArray(words.length());
+
+        long[] soldWords = soldSeats.get(0, capacity).toLongArray();
+        for (int i = 0; i < soldWords.length; i++) {
+            words.set(i, soldWords[i]);
+            sold.set(i, soldWords[i]);
+        }
+
+        this.available = new AtomicInteger(capacity - soldSeats.get(0, capacity).cardinality());
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getAvailable() {
+        return available.get();
+    }
+
+    public BitSet claim(int quantity) {
+        // Seats are counted out before any bit is taken, so every claimer that gets past here is guaranteed to find its bits.
+        int remaining;
+        do {
+            remaining = available.get();
+            if (remaining < quantity) return null;
+        } while (!available.compareAndSet(remaining, remaining - quantity));
+
+        BitSet seats = new BitSet(capacity);
+        int missing = quantity;
+
+        for (int word = 0; missing > 0; word = (word + 1) % words.length()) {
+            long current = words.get(word);
+            long free = ~current & validBits(word);
+
+            while (free != 0 && missing > 0) {
+                long seat = Long.lowestOneBit(free);
+
+                if (words.compareAndSet(word, current, current | seat)) {
+                    seats.set(word * WORD_BITS + Long.numberOfTrailingZeros(seat));
+                    current |= seat;
+                    missing--;
+                } else {
+                    current = words.get(word);
+                }
+
+                free = ~current & validBits(word);
+            }
+        }
+
+        return seats;
+    }
+
+    public void release(BitSet seats) {
+        long[] released = seats.get(0, capacity).toLongArray();
+        int freed = 0;
+
+        // Seats known to be sold stay taken, so a hold that lost them to another instance cannot hand them out again.
+        for (int word = 0; word < released.length; word++) {
+            long mask = released[word] & ~sold.get(word);
+
+            if (mask != 0) {
+                words.getAndUpdate(word, current -> current & ~mask);
+                freed += Long.bitCount(mask);
+            }
+        }
+
+        available.addAndGet(freed);
+    }
+
+    public void markSold(BitSet seats) {
+        for (int seat = seats.nextSetBit(0); seat >= 0 && seat < capacity; seat = seats.nextSetBit(seat + 1)) {
+            int word = seat / WORD_BITS;
+            long bit = 1L << (seat % WORD_BITS);
+
+            sold.getAndUpdate(word, current -> current | bit);
+
+            // A free seat is counted out like a claim first, so claimers already past their count still find their bits.
+            if ((words.get(word) & bit) == 0 && countOut()) {
+                if ((words.getAndUpdate(word, current -> current | bit) & bit) != 0) available.incrementAndGet();
+            }
+        }
+    }
+
+    public void unmarkSold(BitSet seats) {
+        long[] unmarked = seats.get(0, capacity).toLongArray();
+        int freed = 0;
+
+        for (int word = 0; word < unmarked.length; word++) {
+            long mask = unmarked[word];
+            if (mask == 0) continue;
+
+            sold.getAndUpdate(word, current -> current & ~mask);
+            freed += Long.bitCount(mask & words.getAndUpdate(word, current -> current & ~mask));
+        }
+
+        available.addAndGet(freed);
+    }
+
+    private boolean countOut() {
+        int remaining;
+        do {
+            remaining = available.get();
+            if (remaining == 0) return false;
+        } while (!available.compareAndSet(remaining, remaining - 1));
+
+        return true;
+    }
+
+    private long validBits(int word) {
+        int bits = Math.min(WORD_BITS, capacity - word * WORD_BITS);
+
+        return bits == WORD_BITS ? -1L : (1L << bits) - 1;
+    }
+}
@@ -0,0 +1,42 @@
+package co.com.vortex.films.infrastructure.reservation;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Getter
+public class SeatHold {
+    private final UUID id;
+    private final Long screeningId;
+    private final Long userId;
+    private final Long filmId;
+    private final SeatBitmap seatBitmap;
+    private final BitSet seats;
+    private final LocalDateTime expiresAt;
+    private final AtomicReference<SeatHoldStatus> status = new AtomicReference<>(SeatHoldStatus.HELD);
+
+    public SeatHold(Long screeningId, Long userId, Long filmId, SeatBitmap seatBitmap, BitSet seats, LocalDateTime expiresAt) {
+        this(UUID.randomUUID(), screeningId, userId, filmId, seatBitmap, seats, expiresAt);
+    }
+
+    public SeatHold(UUID id, Long screeningId, Long userId, Long filmId, SeatBitmap seatBitmap, BitSet seats, LocalDateTime expiresAt) {
+        this.id = id;
+        this.screeningId = screeningId;
+        this.userId = userId;
+        this.filmId = filmId;
+        this.seatBitmap = seatBitmap;
+        this.seats = seats;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public boolean transition(SeatHoldStatus from, SeatHoldStatus to) {
+        return status.compareAndSet(from, to);
+    }
+}
@@ -0,0 +1,7 @@
+package co.com.vortex.films.infrastructure.reservation;
+
+public enum SeatHoldStatus {
+    HELD,
+    CONFIRMING,
+    RELEASED
+}
@@ -0,0 +1,10 @@
+package co.com.vortex.films.infrastructure.security;
+
+import java.security.Principal;
+
+public record AuthenticatedUser(Long id, String subject) implements Principal {
+    @Override
+    public String getName() {
+        return subject;
+    }
+}
@@ -0,0 +1,6 @@
+package co.com.vortex.films.infrastructure.security;
+
+import java.time.Instant;
+
+public record IssuedToken(String accessToken, String tokenType, Instant expiresAt) {
+}
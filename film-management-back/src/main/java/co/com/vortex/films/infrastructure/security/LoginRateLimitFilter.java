@@ -0,0 +1,37 @@
+package co.com.vortex.films.infrastructure.security;
+
+import co.com.vortex.films.domain.validators.AuthenticationValidator;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@RequiredArgsConstructor
+@Component
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+    private final LoginRateLimiter loginRateLimiter;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        // Only sign-in and sign-up spend password hashing, reading the published keys stays unlimited.
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/auth/") || HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws IOException, ServletException {
+        if (!loginRateLimiter.tryAcquireAddress(request.getRemoteAddr())) {
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), AuthenticationValidator.TOO_MANY_ATTEMPTS);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
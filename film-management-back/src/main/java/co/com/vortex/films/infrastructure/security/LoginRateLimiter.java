@@ -0,0 +1,68 @@
+package co.com.vortex.films.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets in front of sign-in and sign-up: one per client address, which slows a single source of credential
+ * stuffing, and one per account, which slows guessing the password of one user from many addresses.
+ */
+@Component
+public class LoginRateLimiter {
+    private final Cache<String, TokenBucket> addresses;
+    private final Cache<String, TokenBucket> accounts;
+    private final long addressCapacity;
+    private final long addressRefillNanos;
+    private final long accountCapacity;
+    private final long accountRefillNanos;
+    private final LongSupplier nanoTime;
+
+    @Autowired
+    public LoginRateLimiter(
+            @Value("${authentication.rate-limit.maximum-size}") long maximumSize,
+            @Value("${authentication.rate-limit.address.capacity}") long addressCapacity,
+            @Value("${authentication.rate-limit.address.refill-interval}") Duration addressRefillInterval,
+            @Value("${authentication.rate-limit.account.capacity}") long accountCapacity,
+            @Value("${authentication.rate-limit.account.refill-interval}") Duration accountRefillInterval
+    ) {
+        this(maximumSize, addressCapacity, addressRefillInterval, accountCapacity, accountRefillInterval, System::nanoTime);
+    }
+
+    LoginRateLimiter(long maximumSize, long addressCapacity, Duration addressRefillInterval, long accountCapacity, Duration accountRefillInterval, LongSupplier nanoTime) {
+        this.addressCapacity = addressCapacity;
+        this.addressRefillNanos = addressRefillInterval.toNanos();
+        this.accountCapacity = accountCapacity;
+        this.accountRefillNanos = accountRefillInterval.toNanos();
+        this.nanoTime = nanoTime;
+
+        // An idle bucket is full again once it has refilled its capacity, so it can be dropped and recreated.
+        this.addresses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(addressRefillInterval.multipliedBy(addressCapacity))
+                .build();
+
+        this.accounts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(accountRefillInterval.multipliedBy(accountCapacity))
+                .build();
+    }
+
+    public boolean tryAcquireAddress(String address) {
+        long now = nanoTime.getAsLong();
+
+        return addresses.get(address, key -> new TokenBucket(addressCapacity, addressRefillNanos, now)).tryConsume(now);
+    }
+
+    public boolean tryAcquireAccount(String email) {
+        long now = nanoTime.getAsLong();
+
+        return accounts.get(email.toLowerCase(Locale.ROOT).trim(), key -> new TokenBucket(accountCapacity, accountRefillNanos, now)).tryConsume(now);
+    }
+}
@@ -0,0 +1,76 @@
+package co.com.vortex.films.infrastructure.security;
+
+import co.com.vortex.films.domain.validators.AuthenticationValidator;
+import co.com.vortex.films.infrastructure.concurrency.ThreadFactories;
+import co.com.vortex.films.infrastructure.exceptions.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+
+/**
+ * Runs BCrypt on a dedicated pool sized for the CPU it may take, so a burst of sign-ins can't exhaust the request
+ * threads serving everything else. Work beyond the bounded queue is rejected at once instead of piling up.
+ */
+@Component
+public class PasswordHasher {
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHasher(
+            BCryptPasswordEncoder bCryptPasswordEncoder,
+            @Value("${authentication.password.hashing-threads}") int threads,
+            @Value("${authentication.password.hashing-queue-capacity}") int queueCapacity
+    ) {
+        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                ThreadFactories.of("password-hashing-", false),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> bCryptPasswordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> bCryptPasswordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public boolean upgradeEncoding(String encodedPassword) {
+        return bCryptPasswordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new TooManyRequestsException(AuthenticationValidator.PASSWORD_HASHING_SATURATED);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package co.com.vortex.films.infrastructure.security;
 
-import co.com.vortex.films.application.repository.UserRepository;
 import co.com.vortex.films.application.service.ITokenService;
 import co.com.vortex.films.domain.validators.AuthenticationValidator;
+import co.com.vortex.films.infrastructure.cache.AuthenticationCache;
+import co.com.vortex.films.infrastructure.exceptions.UnauthorizedException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,17 +14,19 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @RequiredArgsConstructor
 @Component
 public class SecurityFilter extends OncePerRequestFilter {
     private final ITokenService tokenService;
-    private final UserRepository userRepository;
+    private final AuthenticationCache authenticationCache;
+    private final SecurityStampTable securityStampTable;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws IOException, ServletException {
@@ -47,13 +50,13 @@ public class SecurityFilter extends OncePerRequestFilter {
         return (authHeader != null && authHeader.startsWith("Bearer ")) ? authHeader.replace("Bearer ", "") : null;
     }
 
-    private void authenticateToken(String token) throws Exception {
-        String subject = tokenService.getSubject(token);
+    private void authenticateToken(String token) {
+        VerifiedToken verifiedToken = authenticationCache.getToken(token, tokenService::verify);
 
-        if (subject != null) {
-            UserDetails userDetails = userRepository.findByEmail(subject);
+        if (verifiedToken.subject() != null) {
+            if (!verifiedToken.enabled() || !securityStampTable.isCurrent(verifiedToken.userId(), verifiedToken.securityStamp())) throw new UnauthorizedException(AuthenticationValidator.TOKEN_NOT_VALID);
 
-            Authentication auth = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            Authentication auth = new UsernamePasswordAuthenticationToken(new AuthenticatedUser(verifiedToken.userId(), verifiedToken.subject()), null, List.of(new SimpleGrantedAuthority(verifiedToken.role().name())));
             SecurityContextHolder.getContext().setAuthentication(auth);
         }
     }
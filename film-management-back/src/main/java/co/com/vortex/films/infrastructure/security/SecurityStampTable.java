@@ -0,0 +1,98 @@
+package co.com.vortex.films.infrastructure.security;
+
+import co.com.vortex.films.application.repository.RevokedUserRepository;
+import co.com.vortex.films.application.repository.UserRepository;
+import co.com.vortex.films.domain.models.RevokedUser;
+import co.com.vortex.films.infrastructure.concurrency.ThreadFactories;
+import co.com.vortex.films.infrastructure.transaction.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Current security stamp of every user whose credentials, role or status changed, so tokens issued before the change
+ * are rejected without loading the user. Users that never changed have stamp 0 and take no entry. Deleted users leave a
+ * tombstone in {@code revoked_users}, since their row can no longer carry the stamp to other nodes.
+ * <p>
+ * The table is loaded before the application serves requests and refreshed on its own thread, because a node that
+ * skipped it would accept every revoked token.
+ */
+@Component
+@Slf4j
+public class SecurityStampTable {
+    private static final int REVOKED = Integer.MAX_VALUE;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final UserRepository userRepository;
+    private final RevokedUserRepository revokedUserRepository;
+    private final Duration refreshInterval;
+    private final Map<Long, Integer> stamps = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(ThreadFactories.of("security-stamps-", false));
+    private volatile LocalDateTime lastRefresh;
+
+    public SecurityStampTable(
+            UserRepository userRepository,
+            RevokedUserRepository revokedUserRepository,
+            @Value("${jwt.security-stamps.refresh-interval}") Duration refreshInterval
+    ) {
+        this.userRepository = userRepository;
+        this.revokedUserRepository = revokedUserRepository;
+        this.refreshInterval = refreshInterval;
+    }
+
+    @PostConstruct
+    public void start() {
+        refresh();
+        refresher.scheduleWithFixedDelay(this::refreshQuietly, refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        refresher.shutdownNow();
+    }
+
+    public boolean isCurrent(Long userId, int securityStamp) {
+        // A newer stamp than the table's comes from a change made on another node that the next refresh will pick up.
+        return securityStamp >= stamps.getOrDefault(userId, 0);
+    }
+
+    public void update(Long userId, int securityStamp) {
+        TransactionCallbacks.afterCommit(() -> stamps.merge(userId, securityStamp, Math::max));
+    }
+
+    public void revoke(Long userId) {
+        // Written in the caller's transaction, so the tombstone exists exactly when the deletion does.
+        revokedUserRepository.save(new RevokedUser(userId, LocalDateTime.now()));
+        TransactionCallbacks.afterCommit(() -> stamps.put(userId, REVOKED));
+    }
+
+    public void refresh() {
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        // Overlapping the previous window picks up changes committed after it was read but stamped before it.
+        LocalDateTime since = lastRefresh == null ? EPOCH : lastRefresh.minus(refreshInterval);
+        userRepository.findSecurityStampsUpdatedSince(since).forEach(stamp -> stamps.merge(stamp.id(), stamp.securityStamp(), Math::max));
+        revokedUserRepository.findUserIdsRevokedSince(since).forEach(userId -> stamps.put(userId, REVOKED));
+
+        lastRefresh = startedAt;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // A failed refresh must not cancel the next ones, the window since the last success is read again then.
+            log.error("Could not refresh the security stamps", e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package co.com.vortex.films.infrastructure.security;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public class Sha256 {
+    private static final String ALGORITHM = "SHA-256";
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String hex(byte[] data) {
+        return HexFormat.of().formatHex(newDigest().digest(data));
+    }
+}
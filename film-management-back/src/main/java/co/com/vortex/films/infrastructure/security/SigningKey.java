@@ -0,0 +1,22 @@
+package co.com.vortex.films.infrastructure.security;
+
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+
+public record SigningKey(
+        String kid,
+        RSAPublicKey publicKey,
+        RSAPrivateKey privateKey,
+        Instant notBefore,
+        Instant notAfter
+) {
+    public boolean canSign(Instant now) {
+        return privateKey != null && !notBefore.isAfter(now) && notAfter.isAfter(now);
+    }
+
+    public boolean canVerify(Instant now, Duration gracePeriod) {
+        return notAfter.plus(gracePeriod).isAfter(now);
+    }
+}
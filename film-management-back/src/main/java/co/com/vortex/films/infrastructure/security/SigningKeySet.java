@@ -0,0 +1,37 @@
+package co.com.vortex.films.infrastructure.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class SigningKeySet {
+    private final Map<String, SigningKey> keys;
+
+    public SigningKeySet(List<SigningKey> keys) {
+        this.keys = keys.stream().collect(Collectors.toUnmodifiableMap(SigningKey::kid, Function.identity()));
+    }
+
+    public SigningKey getActiveKey(Instant now) {
+        // The newest key already in force signs, so a key staged with a future start is published everywhere before any token uses it.
+        return keys.values().stream()
+                .filter(key -> key.canSign(now))
+                .max(Comparator.comparing(SigningKey::notBefore))
+                .orElseThrow(() -> new IllegalStateException("No signing key is valid at " + now));
+    }
+
+    public Optional<SigningKey> find(String kid, Instant now, Duration gracePeriod) {
+        return Optional.ofNullable(kid == null ? null : keys.get(kid)).filter(key -> key.canVerify(now, gracePeriod));
+    }
+
+    public List<SigningKey> getPublishedKeys(Instant now, Duration gracePeriod) {
+        return keys.values().stream()
+                .filter(key -> key.canVerify(now, gracePeriod))
+                .sorted(Comparator.comparing(SigningKey::notBefore).reversed())
+                .toList();
+    }
+}
@@ -0,0 +1,162 @@
+package co.com.vortex.films.infrastructure.security;
+
+import com.auth0.jwt.interfaces.RSAKeyProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+@Slf4j
+public class SigningKeyStore implements RSAKeyProvider {
+    private static final String EPHEMERAL_KID_PREFIX = "ephemeral-";
+    private static final int EPHEMERAL_KEY_SIZE = 2048;
+
+    private final String path;
+    private final char[] password;
+    private final String type;
+    private final Duration gracePeriod;
+    private final Duration reloadCooldown;
+    private final AtomicReference<SigningKeySet> keySet = new AtomicReference<>();
+    private final AtomicLong nextReloadAt = new AtomicLong(System.nanoTime());
+
+    public SigningKeyStore(
+            @Value("${jwt.keystore.path}") String path,
+            @Value("${jwt.keystore.password}") String password,
+            @Value("${jwt.keystore.type}") String type,
+            @Value("${jwt.keys.grace-period}") Duration gracePeriod,
+            @Value("${jwt.keys.reload-cooldown}") Duration reloadCooldown
+    ) throws IOException, GeneralSecurityException {
+        this.path = path;
+        this.password = password.toCharArray();
+        this.type = type;
+        this.gracePeriod = gracePeriod;
+        this.reloadCooldown = reloadCooldown;
+
+        if (StringUtils.hasText(path)) {
+            keySet.set(load());
+        } else {
+            log.warn("No JWT keystore configured, signing with an ephemeral key: tokens won't survive a restart or be accepted by other nodes");
+            keySet.set(generateEphemeral());
+        }
+    }
+
+    public SigningKey getActiveKey() {
+        return keySet.get().getActiveKey(Instant.now());
+    }
+
+    public List<SigningKey> getPublishedKeys() {
+        return keySet.get().getPublishedKeys(Instant.now(), gracePeriod);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.keys.reload-interval}")
+    public void reload() {
+        if (!StringUtils.hasText(path)) return;
+
+        try {
+            keySet.set(load());
+        } catch (IOException | GeneralSecurityException | IllegalStateException e) {
+            log.error("JWT keystore {} could not be reloaded, keeping the previous keys", path, e);
+        }
+    }
+
+    @Override
+    public RSAPublicKey getPublicKeyById(String kid) {
+        Optional<SigningKey> key = keySet.get().find(kid, Instant.now(), gracePeriod);
+
+        // A key another node already rotated to triggers an early reload, rate limited so unknown kids can't hammer the keystore.
+        if (key.isEmpty() && reloadAllowed()) {
+            reload();
+            key = keySet.get().find(kid, Instant.now(), gracePeriod);
+        }
+
+        return key.map(SigningKey::publicKey).orElse(null);
+    }
+
+    @Override
+    public RSAPrivateKey getPrivateKey() {
+        return getActiveKey().privateKey();
+    }
+
+    @Override
+    public String getPrivateKeyId() {
+        return getActiveKey().kid();
+    }
+
+    private boolean reloadAllowed() {
+        long now = System.nanoTime();
+        long next = nextReloadAt.get();
+
+        return now - next >= 0 && nextReloadAt.compareAndSet(next, now + reloadCooldown.toNanos());
+    }
+
+    private SigningKeySet load() throws IOException, GeneralSecurityException {
+        KeyStore keyStore = KeyStore.getInstance(type);
+        try (InputStream inputStream = Files.newInputStream(Path.of(path))) {
+            keyStore.load(inputStream, password);
+        }
+
+        List<SigningKey> keys = new ArrayList<>();
+
+        // Key entries can sign; certificate-only entries keep verifying tokens of a retired key until its grace period ends.
+        for (String alias : Collections.list(keyStore.aliases())) {
+            Certificate certificate = keyStore.getCertificate(alias);
+            if (!(certificate instanceof X509Certificate x509Certificate) || !(certificate.getPublicKey() instanceof RSAPublicKey publicKey)) continue;
+
+            Key privateKey = keyStore.isKeyEntry(alias) ? keyStore.getKey(alias, password) : null;
+
+            keys.add(new SigningKey(
+                    alias,
+                    publicKey,
+                    privateKey instanceof RSAPrivateKey rsaPrivateKey ? rsaPrivateKey : null,
+                    x509Certificate.getNotBefore().toInstant(),
+                    x509Certificate.getNotAfter().toInstant()
+            ));
+        }
+
+        SigningKeySet loaded = new SigningKeySet(keys);
+        loaded.getActiveKey(Instant.now());  // Fails fast on a keystore that has nothing to sign with
+
+        return loaded;
+    }
+
+    private static SigningKeySet generateEphemeral() throws GeneralSecurityException {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(EPHEMERAL_KEY_SIZE);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        Instant now = Instant.now();
+
+        return new SigningKeySet(List.of(new SigningKey(
+                EPHEMERAL_KID_PREFIX + UUID.randomUUID(),
+                (RSAPublicKey) keyPair.getPublic(),
+                (RSAPrivateKey) keyPair.getPrivate(),
+                now,
+                now.plus(3650, ChronoUnit.DAYS)
+        )));
+    }
+}
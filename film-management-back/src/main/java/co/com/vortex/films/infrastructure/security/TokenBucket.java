@@ -0,0 +1,30 @@
+package co.com.vortex.films.infrastructure.security;
+
+class TokenBucket {
+    private final long capacity;
+    private final long refillNanos;
+    private long tokens;
+    private long refilledAt;
+
+    TokenBucket(long capacity, long refillNanos, long now) {
+        this.capacity = capacity;
+        this.refillNanos = refillNanos;
+        this.tokens = capacity;
+        this.refilledAt = now;
+    }
+
+    synchronized boolean tryConsume(long now) {
+        long refilled = (now - refilledAt) / refillNanos;
+
+        if (refilled > 0) {
+            tokens = Math.min(capacity, tokens + refilled);
+            // A partly elapsed interval keeps counting towards the next token unless the bucket is already full.
+            refilledAt = tokens == capacity ? now : refilledAt + refilled * refillNanos;
+        }
+
+        if (tokens == 0) return false;
+
+        tokens--;
+        return true;
+    }
+}
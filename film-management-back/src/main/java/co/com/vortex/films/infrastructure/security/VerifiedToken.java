@@ -0,0 +1,8 @@
+package co.com.vortex.films.infrastructure.security;
+
+import co.com.vortex.films.domain.models.UserRole;
+
+import java.time.Instant;
+
+public record VerifiedToken(Long userId, String subject, UserRole role, boolean enabled, int securityStamp, Instant expiresAt) {
+}
@@ -0,0 +1,39 @@
+package co.com.vortex.films.infrastructure.storage;
+
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.firebase.cloud.StorageClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "storage.provider", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseUrlSigner implements UrlSigner {
+    @Value("${firebase.storage.bucket-name}")
+    private String bucketName;
+
+    private volatile Storage storage;
+
+    @Override
+    public SignedUrl sign(String objectKey, Duration ttl) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(bucketName, objectKey)).build();
+
+        URL url = getStorage().signUrl(blobInfo, ttl.toSeconds(), TimeUnit.SECONDS, Storage.SignUrlOption.withV4Signature());
+
+        return new SignedUrl(url.toString(), expiresAt);
+    }
+
+    private Storage getStorage() {
+        if (storage == null) storage = StorageClient.getInstance().bucket(bucketName).getStorage();
+
+        return storage;
+    }
+}
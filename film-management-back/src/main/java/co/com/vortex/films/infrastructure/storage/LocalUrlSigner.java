@@ -0,0 +1,73 @@
+package co.com.vortex.films.infrastructure.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+@Component
+@ConditionalOnProperty(name = "storage.provider", havingValue = "local")
+public class LocalUrlSigner implements UrlSigner {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int GENERATED_SECRET_LENGTH = 32;
+
+    private final String baseUrl;
+    private final SecretKeySpec secretKey;
+
+    public LocalUrlSigner(@Value("${storage.local.base-url}") String baseUrl, @Value("${storage.local.secret}") String secret) {
+        this.baseUrl = baseUrl;
+        this.secretKey = new SecretKeySpec(StringUtils.hasText(secret) ? secret.getBytes(StandardCharsets.UTF_8) : generateSecret(), ALGORITHM);
+    }
+
+    @Override
+    public SignedUrl sign(String objectKey, Duration ttl) {
+        Instant expiresAt = Instant.now().plus(ttl).truncatedTo(ChronoUnit.SECONDS);
+        long expires = expiresAt.getEpochSecond();
+
+        String url = baseUrl + "/" + UriUtils.encodePath(objectKey, StandardCharsets.UTF_8)
+                + "?expires=" + expires
+                + "&signature=" + signature(objectKey, expires);
+
+        return new SignedUrl(url, expiresAt);
+    }
+
+    public boolean verify(String objectKey, long expires, String signature) {
+        if (Instant.now().getEpochSecond() > expires) return false;
+
+        byte[] expected = signature(objectKey, expires).getBytes(StandardCharsets.US_ASCII);
+
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private String signature(String objectKey, long expires) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+
+            byte[] signature = mac.doFinal((objectKey + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] generateSecret() {
+        byte[] secret = new byte[GENERATED_SECRET_LENGTH];
+        new SecureRandom().nextBytes(secret);
+
+        return secret;
+    }
+}
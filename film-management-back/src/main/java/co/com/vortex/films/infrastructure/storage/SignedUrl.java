@@ -0,0 +1,6 @@
+package co.com.vortex.films.infrastructure.storage;
+
+import java.time.Instant;
+
+public record SignedUrl(String url, Instant expiresAt) {
+}
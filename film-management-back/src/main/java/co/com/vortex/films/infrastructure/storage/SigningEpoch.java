@@ -0,0 +1,4 @@
+package co.com.vortex.films.infrastructure.storage;
+
+public record SigningEpoch(long number, long startedAt) {
+}
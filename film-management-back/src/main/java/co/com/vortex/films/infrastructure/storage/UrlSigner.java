@@ -0,0 +1,7 @@
+package co.com.vortex.films.infrastructure.storage;
+
+import java.time.Duration;
+
+public interface UrlSigner {
+    SignedUrl sign(String objectKey, Duration ttl);
+}
@@ -0,0 +1,5 @@
+-- Column: emails can be queued as a template and its view model, rendered by the outbox workers
+ALTER TABLE email_outbox
+    ADD COLUMN IF NOT EXISTS template SMALLINT,
+    ADD COLUMN IF NOT EXISTS model TEXT,
+    ALTER COLUMN body DROP NOT NULL;
@@ -0,0 +1,2 @@
+-- Sequence: allocate purchase detail IDs in blocks of 50 so the lines of an order are inserted as one batch
+ALTER SEQUENCE purchase_details_id_seq INCREMENT BY 50;
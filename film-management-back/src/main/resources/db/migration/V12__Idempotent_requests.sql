@@ -0,0 +1,12 @@
+-- Table: idempotent_requests, responses stored under the client's Idempotency-Key so retries are replayed
+CREATE TABLE IF NOT EXISTS idempotent_requests (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    response TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- Index: expired keys purged by the scheduled cleanup
+CREATE INDEX IF NOT EXISTS idx_idempotent_requests_expires_at
+    ON idempotent_requests (expires_at);
@@ -0,0 +1,40 @@
+-- Table: screenings, scheduled showings of a film with a fixed seat capacity
+CREATE TABLE IF NOT EXISTS screenings (
+    id BIGSERIAL PRIMARY KEY,
+    film_id BIGINT NOT NULL,
+    starts_at TIMESTAMP NOT NULL,
+    capacity INT NOT NULL CHECK (capacity > 0),
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Table: seat_inventories, sold seats of a screening as a bitmap, written back with optimistic locking
+CREATE TABLE IF NOT EXISTS seat_inventories (
+    screening_id BIGINT PRIMARY KEY,
+    sold_seats BYTEA NOT NULL,
+    sold_count INT NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+-- Column: screening a purchase line was seated in
+ALTER TABLE purchase_details
+    ADD COLUMN IF NOT EXISTS screening_id BIGINT;
+
+-- Relationship between films and screenings
+ALTER TABLE screenings
+    ADD CONSTRAINT fk_screenings_film
+        FOREIGN KEY (film_id) REFERENCES films(id);
+
+-- Relationship between screenings and seat_inventories
+ALTER TABLE seat_inventories
+    ADD CONSTRAINT fk_seat_inventories_screening
+        FOREIGN KEY (screening_id) REFERENCES screenings(id);
+
+-- Relationship between screenings and purchase_details
+ALTER TABLE purchase_details
+    ADD CONSTRAINT fk_purchase_details_screening
+        FOREIGN KEY (screening_id) REFERENCES screenings(id);
+
+-- Index: screenings of a film in start order
+CREATE INDEX IF NOT EXISTS idx_screenings_film_starts_at
+    ON screenings (film_id, starts_at);
@@ -0,0 +1,67 @@
+-- Column: ticket price charged for a purchase line, so revenue does not follow later price changes
+ALTER TABLE purchase_details
+    ADD COLUMN IF NOT EXISTS unit_price DECIMAL(10, 2);
+
+UPDATE purchase_details d
+SET unit_price = f.ticket_price
+FROM films f
+WHERE f.id = d.film_id AND d.unit_price IS NULL;
+
+ALTER TABLE purchase_details
+    ALTER COLUMN unit_price SET NOT NULL;
+
+-- Table: film_daily_sales, tickets and revenue per film and purchase day
+CREATE TABLE IF NOT EXISTS film_daily_sales (
+    film_id BIGINT NOT NULL,
+    sales_date DATE NOT NULL,
+    tickets BIGINT NOT NULL DEFAULT 0,
+    revenue BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (film_id, sales_date)
+);
+
+-- Table: genre_daily_sales, tickets and revenue per film genre and purchase day
+CREATE TABLE IF NOT EXISTS genre_daily_sales (
+    genre SMALLINT NOT NULL,
+    sales_date DATE NOT NULL,
+    tickets BIGINT NOT NULL DEFAULT 0,
+    revenue BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (genre, sales_date)
+);
+
+-- Table: payment_method_daily_sales, purchases and revenue per payment method and purchase day
+CREATE TABLE IF NOT EXISTS payment_method_daily_sales (
+    payment_method SMALLINT NOT NULL,
+    sales_date DATE NOT NULL,
+    purchases BIGINT NOT NULL DEFAULT 0,
+    revenue BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (payment_method, sales_date)
+);
+
+-- Index: rollups read by date range across films and genres
+CREATE INDEX IF NOT EXISTS idx_film_daily_sales_sales_date
+    ON film_daily_sales (sales_date);
+
+CREATE INDEX IF NOT EXISTS idx_genre_daily_sales_sales_date
+    ON genre_daily_sales (sales_date);
+
+CREATE INDEX IF NOT EXISTS idx_payment_method_daily_sales_sales_date
+    ON payment_method_daily_sales (sales_date);
+
+-- Backfill: rollups for the purchases made before this migration
+INSERT INTO film_daily_sales (film_id, sales_date, tickets, revenue)
+SELECT d.film_id, CAST(p.purchase_date AS DATE), SUM(d.quantity), SUM(d.quantity * d.unit_price)
+FROM purchases p
+JOIN purchase_details d ON d.purchase_id = p.id
+GROUP BY d.film_id, CAST(p.purchase_date AS DATE);
+
+INSERT INTO genre_daily_sales (genre, sales_date, tickets, revenue)
+SELECT f.genre, CAST(p.purchase_date AS DATE), SUM(d.quantity), SUM(d.quantity * d.unit_price)
+FROM purchases p
+JOIN purchase_details d ON d.purchase_id = p.id
+JOIN films f ON f.id = d.film_id
+GROUP BY f.genre, CAST(p.purchase_date AS DATE);
+
+INSERT INTO payment_method_daily_sales (payment_method, sales_date, purchases, revenue)
+SELECT p.payment_method, CAST(p.purchase_date AS DATE), COUNT(*), SUM(p.total_amount)
+FROM purchases p
+GROUP BY p.payment_method, CAST(p.purchase_date AS DATE);
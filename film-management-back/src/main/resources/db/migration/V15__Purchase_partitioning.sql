@@ -0,0 +1,181 @@
+-- Legacy tables: renamed so their rows can be copied into the partitioned tables
+ALTER TABLE purchase_details
+    DROP CONSTRAINT IF EXISTS fk_purchase_details_purchase,
+    DROP CONSTRAINT IF EXISTS fk_purchase_details_film,
+    DROP CONSTRAINT IF EXISTS fk_purchase_details_screening;
+
+ALTER TABLE purchases
+    DROP CONSTRAINT IF EXISTS fk_purchases_user;
+
+ALTER TABLE purchases RENAME TO purchases_legacy;
+ALTER TABLE purchase_details RENAME TO purchase_details_legacy;
+
+ALTER TABLE purchases_legacy RENAME CONSTRAINT purchases_pkey TO purchases_legacy_pkey;
+ALTER TABLE purchase_details_legacy RENAME CONSTRAINT purchase_details_pkey TO purchase_details_legacy_pkey;
+
+ALTER SEQUENCE purchases_id_seq OWNED BY NONE;
+ALTER SEQUENCE purchase_details_id_seq OWNED BY NONE;
+
+DROP INDEX IF EXISTS idx_purchases_purchase_date_id;
+DROP INDEX IF EXISTS idx_purchases_user_id_id;
+DROP INDEX IF EXISTS idx_purchases_user_id_purchase_date_id;
+
+-- Table: purchases, range partitioned by month of purchase date
+CREATE TABLE IF NOT EXISTS purchases (
+    id BIGINT NOT NULL DEFAULT nextval('purchases_id_seq'),
+    user_id BIGINT NOT NULL,
+    purchase_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    total_amount DECIMAL(10, 2) NOT NULL CHECK (total_amount >= 0),
+    payment_status SMALLINT NOT NULL,
+    payment_method SMALLINT NOT NULL,
+    PRIMARY KEY (id, purchase_date)
+) PARTITION BY RANGE (purchase_date);
+
+-- Table: purchase_details, partitioned like its purchase so both are archived together
+CREATE TABLE IF NOT EXISTS purchase_details (
+    id BIGINT NOT NULL DEFAULT nextval('purchase_details_id_seq'),
+    purchase_id BIGINT NOT NULL,
+    purchase_date TIMESTAMP NOT NULL,
+    film_id BIGINT NOT NULL,
+    screening_id BIGINT,
+    quantity INT NOT NULL CHECK (quantity > 0),
+    unit_price DECIMAL(10, 2) NOT NULL,
+    PRIMARY KEY (id, purchase_date)
+) PARTITION BY RANGE (purchase_date);
+
+-- Partitions: rows outside every monthly range until maintenance catches up
+CREATE TABLE IF NOT EXISTS purchases_default PARTITION OF purchases DEFAULT;
+CREATE TABLE IF NOT EXISTS purchase_details_default PARTITION OF purchase_details DEFAULT;
+
+-- Schema: detached partitions kept read-only for history and audits
+CREATE SCHEMA IF NOT EXISTS purchases_archive;
+
+-- Function: create the monthly partitions of both tables for a number of months from a given month
+CREATE OR REPLACE FUNCTION create_purchase_partitions(from_month DATE, months INT) RETURNS INT AS $$
+DECLARE
+    month_start DATE;
+    suffix TEXT;
+    created INT := 0;
+BEGIN
+    FOR i IN 0..months - 1 LOOP
+        month_start := date_trunc('month', from_month) + make_interval(months => i);
+        suffix := to_char(month_start, 'YYYY_MM');
+
+        IF to_regclass('purchases_' || suffix) IS NULL THEN
+            EXECUTE format('CREATE TABLE purchases_%s PARTITION OF purchases FOR VALUES FROM (%L) TO (%L)',
+                suffix, month_start, month_start + INTERVAL '1 month');
+            created := created + 1;
+        END IF;
+
+        IF to_regclass('purchase_details_' || suffix) IS NULL THEN
+            EXECUTE format('CREATE TABLE purchase_details_%s PARTITION OF purchase_details FOR VALUES FROM (%L) TO (%L)',
+                suffix, month_start, month_start + INTERVAL '1 month');
+            created := created + 1;
+        END IF;
+    END LOOP;
+
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Function: detach the monthly partitions older than a given month into the archive schema
+CREATE OR REPLACE FUNCTION archive_purchase_partitions(before_month DATE, archive_tablespace TEXT) RETURNS INT AS $$
+DECLARE
+    suffix TEXT;
+    fk_name TEXT;
+    archived INT := 0;
+BEGIN
+    FOR suffix IN
+        SELECT right(c.relname, 7)
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'purchases'::regclass
+          AND c.relname ~ '^purchases_\d{4}_\d{2}$'
+          AND to_date(right(c.relname, 7), 'YYYY_MM') < date_trunc('month', before_month)
+        ORDER BY c.relname
+    LOOP
+        -- A detached details partition keeps a copy of its foreign key, which would block detaching its purchases
+        EXECUTE format('ALTER TABLE purchase_details DETACH PARTITION purchase_details_%s', suffix);
+
+        FOR fk_name IN
+            SELECT conname FROM pg_constraint
+            WHERE conrelid = format('purchase_details_%s', suffix)::regclass AND confrelid = 'purchases'::regclass
+        LOOP
+            EXECUTE format('ALTER TABLE purchase_details_%s DROP CONSTRAINT %I', suffix, fk_name);
+        END LOOP;
+
+        EXECUTE format('ALTER TABLE purchases DETACH PARTITION purchases_%s', suffix);
+        EXECUTE format('ALTER TABLE purchases_%s SET SCHEMA purchases_archive', suffix);
+        EXECUTE format('ALTER TABLE purchase_details_%s SET SCHEMA purchases_archive', suffix);
+
+        -- Moving to another tablespace rewrites the tables compactly onto the storage chosen for cold data
+        IF archive_tablespace IS NOT NULL THEN
+            EXECUTE format('ALTER TABLE purchases_archive.purchases_%s SET TABLESPACE %I', suffix, archive_tablespace);
+            EXECUTE format('ALTER TABLE purchases_archive.purchase_details_%s SET TABLESPACE %I', suffix, archive_tablespace);
+        END IF;
+
+        archived := archived + 1;
+    END LOOP;
+
+    RETURN archived;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitions: every month with legacy purchases plus the next three months
+SELECT create_purchase_partitions(CAST(month_start AS DATE), 1)
+FROM generate_series(
+    date_trunc('month', COALESCE((SELECT MIN(purchase_date) FROM purchases_legacy), CURRENT_DATE)),
+    date_trunc('month', CURRENT_DATE) + INTERVAL '3 months',
+    INTERVAL '1 month'
+) AS month_start;
+
+-- Backfill: legacy rows copied into their partitions
+INSERT INTO purchases (id, user_id, purchase_date, total_amount, payment_status, payment_method)
+SELECT id, user_id, purchase_date, total_amount, payment_status, payment_method
+FROM purchases_legacy;
+
+INSERT INTO purchase_details (id, purchase_id, purchase_date, film_id, screening_id, quantity, unit_price)
+SELECT d.id, d.purchase_id, p.purchase_date, d.film_id, d.screening_id, d.quantity, d.unit_price
+FROM purchase_details_legacy d
+JOIN purchases_legacy p ON p.id = d.purchase_id;
+
+DROP TABLE purchase_details_legacy;
+DROP TABLE purchases_legacy;
+
+ALTER SEQUENCE purchases_id_seq OWNED BY purchases.id;
+ALTER SEQUENCE purchase_details_id_seq OWNED BY purchase_details.id;
+
+-- Relationship between users and purchases
+ALTER TABLE purchases
+    ADD CONSTRAINT fk_purchases_user
+        FOREIGN KEY (user_id) REFERENCES users(id);
+
+-- Relationship between purchases and purchase_details
+ALTER TABLE purchase_details
+    ADD CONSTRAINT fk_purchase_details_purchase
+        FOREIGN KEY (purchase_id, purchase_date) REFERENCES purchases(id, purchase_date);
+
+-- Relationship between films and purchase_details
+ALTER TABLE purchase_details
+    ADD CONSTRAINT fk_purchase_details_film
+        FOREIGN KEY (film_id) REFERENCES films(id);
+
+-- Relationship between screenings and purchase_details
+ALTER TABLE purchase_details
+    ADD CONSTRAINT fk_purchase_details_screening
+        FOREIGN KEY (screening_id) REFERENCES screenings(id);
+
+-- Index: keyset pagination over purchases by date
+CREATE INDEX IF NOT EXISTS idx_purchases_purchase_date_id
+    ON purchases (purchase_date, id);
+
+-- Index: keyset pagination over purchases of a user by ID and date
+CREATE INDEX IF NOT EXISTS idx_purchases_user_id_id
+    ON purchases (user_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_purchases_user_id_purchase_date_id
+    ON purchases (user_id, purchase_date, id);
+
+-- Index: details of a purchase
+CREATE INDEX IF NOT EXISTS idx_purchase_details_purchase_id
+    ON purchase_details (purchase_id, purchase_date);
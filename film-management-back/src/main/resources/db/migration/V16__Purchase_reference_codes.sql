@@ -0,0 +1,35 @@
+-- Column: ticket reference code printed on the confirmation email and checked at the box office
+ALTER TABLE purchases
+    ADD COLUMN IF NOT EXISTS reference_code VARCHAR(16);
+
+-- Function: Crockford base32 code with the same layout the application issues, used for the backfill only
+CREATE OR REPLACE FUNCTION encode_reference_code(value BIGINT) RETURNS TEXT AS $$
+DECLARE
+    alphabet CONSTANT TEXT := '0123456789ABCDEFGHJKMNPQRSTVWXYZ';
+    code TEXT := '';
+BEGIN
+    FOR i IN 1..13 LOOP
+        code := substr(alphabet, CAST(value & 31 AS INT) + 1, 1) || code;
+        value := value >> 5;
+    END LOOP;
+
+    RETURN 'FM-' || code;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+-- Backfill: existing purchases keep their purchase time in the code and their ID in the node and sequence bits
+UPDATE purchases
+SET reference_code = encode_reference_code(
+    GREATEST(0, CAST(EXTRACT(EPOCH FROM purchase_date) * 1000 AS BIGINT) - 1577836800000) << 22 | (id & 4194303)
+)
+WHERE reference_code IS NULL;
+
+DROP FUNCTION encode_reference_code(BIGINT);
+
+ALTER TABLE purchases
+    ALTER COLUMN reference_code SET NOT NULL;
+
+-- Index: reference code lookups answered from the index alone
+CREATE UNIQUE INDEX IF NOT EXISTS idx_purchases_reference_code
+    ON purchases (reference_code, purchase_date)
+    INCLUDE (id, user_id, payment_status);
@@ -0,0 +1,8 @@
+-- Column: version of the credentials, role and status embedded in issued tokens
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS security_stamp INT NOT NULL DEFAULT 0;
+
+-- Index: security stamps changed since the last refresh
+CREATE INDEX IF NOT EXISTS idx_users_updated_at_security_stamp
+    ON users (updated_at) INCLUDE (id, security_stamp)
+    WHERE security_stamp > 0;
@@ -0,0 +1,8 @@
+-- Column: films whose variants could not be queued and wait for a retry from the stored original
+ALTER TABLE films
+    ADD COLUMN IF NOT EXISTS variants_pending BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Index: films waiting for their variants
+CREATE INDEX IF NOT EXISTS idx_films_variants_pending
+    ON films (id)
+    WHERE variants_pending;
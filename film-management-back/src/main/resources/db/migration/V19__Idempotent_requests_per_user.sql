@@ -0,0 +1,12 @@
+-- Stored keys cannot be attributed to a user, they expire within a day so they are dropped
+DELETE FROM idempotent_requests;
+
+-- Column: authenticated user that sent the Idempotency-Key, keys are only unique per user
+ALTER TABLE idempotent_requests
+    ADD COLUMN IF NOT EXISTS user_id BIGINT NOT NULL;
+
+ALTER TABLE idempotent_requests
+    DROP CONSTRAINT IF EXISTS idempotent_requests_pkey;
+
+ALTER TABLE idempotent_requests
+    ADD CONSTRAINT idempotent_requests_pkey PRIMARY KEY (user_id, idempotency_key);
@@ -0,0 +1,3 @@
+-- Column: seats sold to a purchase line as a bitmap, released back to the screening when the line is deleted
+ALTER TABLE purchase_details
+    ADD COLUMN IF NOT EXISTS seats BYTEA;
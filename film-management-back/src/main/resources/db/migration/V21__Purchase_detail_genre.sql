@@ -0,0 +1,11 @@
+-- Column: genre of the film when the line was sold, so rollups are reverted from the bucket they were recorded in
+ALTER TABLE purchase_details
+    ADD COLUMN IF NOT EXISTS genre SMALLINT;
+
+UPDATE purchase_details d
+SET genre = f.genre
+FROM films f
+WHERE f.id = d.film_id AND d.genre IS NULL;
+
+ALTER TABLE purchase_details
+    ALTER COLUMN genre SET NOT NULL;
@@ -0,0 +1,6 @@
+-- Table: node IDs leased by running instances, so no two of them stamp the same node ID into reference codes
+CREATE TABLE IF NOT EXISTS reference_code_nodes (
+    node_id      SMALLINT PRIMARY KEY CHECK (node_id BETWEEN 0 AND 1023),
+    owner        VARCHAR(64) NOT NULL,
+    leased_until TIMESTAMP   NOT NULL
+);
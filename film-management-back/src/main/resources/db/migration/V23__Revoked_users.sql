@@ -0,0 +1,9 @@
+-- Table: deleted users whose tokens stay rejected on every node until they expire, the user row itself is gone
+CREATE TABLE IF NOT EXISTS revoked_users (
+    user_id    BIGINT PRIMARY KEY,
+    revoked_at TIMESTAMP NOT NULL
+);
+
+-- Index: users revoked since the last security stamp refresh
+CREATE INDEX IF NOT EXISTS idx_revoked_users_revoked_at
+    ON revoked_users (revoked_at) INCLUDE (user_id);
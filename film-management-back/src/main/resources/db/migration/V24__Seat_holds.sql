@@ -0,0 +1,22 @@
+-- Table: seat_holds, live seat holds and the user who placed them, so any instance can confirm or release a hold
+CREATE TABLE IF NOT EXISTS seat_holds (
+    id UUID PRIMARY KEY,
+    screening_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    seats BYTEA NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- Relationship between screenings and seat_holds
+ALTER TABLE seat_holds
+    ADD CONSTRAINT fk_seat_holds_screening
+        FOREIGN KEY (screening_id) REFERENCES screenings(id);
+
+-- Relationship between users and seat_holds
+ALTER TABLE seat_holds
+    ADD CONSTRAINT fk_seat_holds_user
+        FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE;
+
+-- Index: holds swept once they expire
+CREATE INDEX IF NOT EXISTS idx_seat_holds_expires_at
+    ON seat_holds (expires_at);
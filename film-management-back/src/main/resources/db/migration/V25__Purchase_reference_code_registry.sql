@@ -0,0 +1,13 @@
+-- Table: purchase_reference_codes, every reference code ever issued; unlike the partitioned purchases table its primary key makes codes unique across all months
+-- Codes stay registered after their purchase is deleted or archived, so no code is ever issued twice
+CREATE TABLE IF NOT EXISTS purchase_reference_codes (
+    reference_code VARCHAR(16) PRIMARY KEY,
+    purchase_id BIGINT NOT NULL,
+    purchase_date TIMESTAMP NOT NULL
+);
+
+-- Backfill: codes of the purchases already stored
+INSERT INTO purchase_reference_codes (reference_code, purchase_id, purchase_date)
+SELECT reference_code, id, purchase_date
+FROM purchases
+ON CONFLICT (reference_code) DO NOTHING;
@@ -0,0 +1,59 @@
+-- Function: create the monthly partitions of both tables for a number of months from a given month, moving rows that
+-- already landed in the default partitions for that month, since a partition cannot be created over them
+CREATE OR REPLACE FUNCTION create_purchase_partitions(from_month DATE, months INT) RETURNS INT AS $$
+DECLARE
+    month_start DATE;
+    month_end DATE;
+    suffix TEXT;
+    created INT := 0;
+BEGIN
+    FOR i IN 0..months - 1 LOOP
+        month_start := date_trunc('month', from_month) + make_interval(months => i);
+        month_end := month_start + INTERVAL '1 month';
+        suffix := to_char(month_start, 'YYYY_MM');
+
+        IF EXISTS (SELECT 1 FROM purchases_default WHERE purchase_date >= month_start AND purchase_date < month_end)
+            OR EXISTS (SELECT 1 FROM purchase_details_default WHERE purchase_date >= month_start AND purchase_date < month_end) THEN
+            -- Writes to the default partitions wait until the month is attached, so no new row can land there in between
+            LOCK TABLE purchases_default, purchase_details_default IN EXCLUSIVE MODE;
+
+            -- Details leave first, so deleting their purchases from the default partition breaks no foreign key
+            IF to_regclass('purchase_details_' || suffix) IS NULL THEN
+                EXECUTE format('CREATE TABLE purchase_details_%s (LIKE purchase_details INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', suffix);
+                EXECUTE format('WITH moved AS (DELETE FROM purchase_details_default WHERE purchase_date >= %L AND purchase_date < %L RETURNING *) INSERT INTO purchase_details_%s SELECT * FROM moved',
+                    month_start, month_end, suffix);
+            END IF;
+
+            IF to_regclass('purchases_' || suffix) IS NULL THEN
+                EXECUTE format('CREATE TABLE purchases_%s (LIKE purchases INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', suffix);
+                EXECUTE format('WITH moved AS (DELETE FROM purchases_default WHERE purchase_date >= %L AND purchase_date < %L RETURNING *) INSERT INTO purchases_%s SELECT * FROM moved',
+                    month_start, month_end, suffix);
+                EXECUTE format('ALTER TABLE purchases ATTACH PARTITION purchases_%s FOR VALUES FROM (%L) TO (%L)',
+                    suffix, month_start, month_end);
+                created := created + 1;
+            END IF;
+
+            -- Attaching the details validates their foreign key against the purchases attached above
+            IF NOT EXISTS (SELECT 1 FROM pg_inherits WHERE inhrelid = to_regclass('purchase_details_' || suffix)) THEN
+                EXECUTE format('ALTER TABLE purchase_details ATTACH PARTITION purchase_details_%s FOR VALUES FROM (%L) TO (%L)',
+                    suffix, month_start, month_end);
+                created := created + 1;
+            END IF;
+        END IF;
+
+        IF to_regclass('purchases_' || suffix) IS NULL THEN
+            EXECUTE format('CREATE TABLE purchases_%s PARTITION OF purchases FOR VALUES FROM (%L) TO (%L)',
+                suffix, month_start, month_end);
+            created := created + 1;
+        END IF;
+
+        IF to_regclass('purchase_details_' || suffix) IS NULL THEN
+            EXECUTE format('CREATE TABLE purchase_details_%s PARTITION OF purchase_details FOR VALUES FROM (%L) TO (%L)',
+                suffix, month_start, month_end);
+            created := created + 1;
+        END IF;
+    END LOOP;
+
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,18 @@
+-- Extension: trigram matching for typo tolerant title search
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Column: weighted full-text document over title and description
+ALTER TABLE films
+    ADD COLUMN IF NOT EXISTS search_vector TSVECTOR
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+        ) STORED;
+
+-- Index: full-text search over title and description
+CREATE INDEX IF NOT EXISTS idx_films_search_vector
+    ON films USING GIN (search_vector);
+
+-- Index: trigram similarity over title
+CREATE INDEX IF NOT EXISTS idx_films_title_trgm
+    ON films USING GIN (lower(title) gin_trgm_ops);
@@ -0,0 +1,21 @@
+-- Index: keyset pagination over films by title
+CREATE INDEX IF NOT EXISTS idx_films_title_id
+    ON films (title, id);
+
+-- Index: keyset pagination over users by email and last name
+CREATE INDEX IF NOT EXISTS idx_users_email_id
+    ON users (email, id);
+
+CREATE INDEX IF NOT EXISTS idx_users_last_name_id
+    ON users (last_name, id);
+
+-- Index: keyset pagination over purchases by date
+CREATE INDEX IF NOT EXISTS idx_purchases_purchase_date_id
+    ON purchases (purchase_date, id);
+
+-- Index: keyset pagination over purchases of a user by ID and date
+CREATE INDEX IF NOT EXISTS idx_purchases_user_id_id
+    ON purchases (user_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_purchases_user_id_purchase_date_id
+    ON purchases (user_id, purchase_date, id);
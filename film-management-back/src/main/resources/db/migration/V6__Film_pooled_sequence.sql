@@ -0,0 +1,2 @@
+-- Sequence: allocate film IDs in blocks of 50 so inserts can be batched
+ALTER SEQUENCE films_id_seq INCREMENT BY 50;
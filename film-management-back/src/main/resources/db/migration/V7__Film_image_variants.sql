@@ -0,0 +1,5 @@
+-- Column: resized poster variants generated after upload
+ALTER TABLE films
+    ADD COLUMN IF NOT EXISTS thumbnail_url VARCHAR(1000),
+    ADD COLUMN IF NOT EXISTS card_url VARCHAR(1000),
+    ADD COLUMN IF NOT EXISTS full_url VARCHAR(1000);
@@ -0,0 +1,16 @@
+-- Column: films store storage object keys, signed URLs are minted on read
+ALTER TABLE films RENAME COLUMN image_url TO image_key;
+ALTER TABLE films RENAME COLUMN thumbnail_url TO thumbnail_key;
+ALTER TABLE films RENAME COLUMN card_url TO card_key;
+ALTER TABLE films RENAME COLUMN full_url TO full_key;
+
+-- Data: strip previously stored V4 signed URLs down to their object key
+UPDATE films
+SET image_key = regexp_replace(image_key, '^https://storage\.googleapis\.com/[^/]+/([^?]+)\?.*$', '\1'),
+    thumbnail_key = regexp_replace(thumbnail_key, '^https://storage\.googleapis\.com/[^/]+/([^?]+)\?.*$', '\1'),
+    card_key = regexp_replace(card_key, '^https://storage\.googleapis\.com/[^/]+/([^?]+)\?.*$', '\1'),
+    full_key = regexp_replace(full_key, '^https://storage\.googleapis\.com/[^/]+/([^?]+)\?.*$', '\1')
+WHERE image_key LIKE 'https://storage.googleapis.com/%X-Goog-Signature=%'
+   OR thumbnail_key LIKE 'https://storage.googleapis.com/%X-Goog-Signature=%'
+   OR card_key LIKE 'https://storage.googleapis.com/%X-Goog-Signature=%'
+   OR full_key LIKE 'https://storage.googleapis.com/%X-Goog-Signature=%';
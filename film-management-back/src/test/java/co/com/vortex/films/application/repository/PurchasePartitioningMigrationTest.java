@@ -0,0 +1,181 @@
+package co.com.vortex.films.application.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs the V15 partitioning migration and the partition functions against a real PostgreSQL database, since neither
+ * can be expressed in H2. The database is cleaned before every test, so point it at a scratch database; the test is
+ * skipped when none is reachable.
+ *
+ * <pre>
+ * ./mvnw test -Dtest=PurchasePartitioningMigrationTest \
+ *     -Dmigration.jdbc.url=jdbc:postgresql://localhost:5433/films_migration \
+ *     -Dmigration.jdbc.user=postgres -Dmigration.jdbc.password=postgres
+ * </pre>
+ */
+class PurchasePartitioningMigrationTest {
+    private static final String URL = System.getProperty("migration.jdbc.url", "jdbc:postgresql://localhost:5433/films_migration");
+    private static final String USER = System.getProperty("migration.jdbc.user", "postgres");
+    private static final String PASSWORD = System.getProperty("migration.jdbc.password", "postgres");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final LocalDateTime currentPurchaseDate = LocalDateTime.now().withDayOfMonth(1).withHour(12).withNano(0);
+    private final LocalDateTime oldPurchaseDate = currentPurchaseDate.minusMonths(3);
+
+    @BeforeAll
+    static void requireDatabase() {
+        try (Connection connection = DriverManager.getConnection(URL, USER, PASSWORD)) {
+            assumeTrue(connection.isValid(1), "No PostgreSQL database reachable at " + URL);
+        } catch (SQLException e) {
+            assumeTrue(false, "No PostgreSQL database reachable at " + URL);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        flyway(null).clean();
+    }
+
+    @Test
+    void backfillsLegacyPurchasesIntoTheirMonthlyPartitions() throws SQLException {
+        migrateWithLegacyPurchases();
+
+        try (Connection connection = connect()) {
+            assertEquals("purchases_" + suffix(oldPurchaseDate), queryString(connection, "SELECT tableoid::regclass::text FROM purchases WHERE id = 1"));
+            assertEquals("purchases_" + suffix(currentPurchaseDate), queryString(connection, "SELECT tableoid::regclass::text FROM purchases WHERE id = 2"));
+            assertEquals("purchase_details_" + suffix(oldPurchaseDate), queryString(connection, "SELECT tableoid::regclass::text FROM purchase_details WHERE id = 1"));
+            assertEquals(3, queryLong(connection, """
+                    SELECT COUNT(*) FROM purchases p
+                    JOIN purchase_details d ON d.purchase_id = p.id AND d.purchase_date = p.purchase_date
+                    """));
+            assertTrue(queryLong(connection, "SELECT nextval('purchases_id_seq')") > 2);
+            assertTrue(queryLong(connection, "SELECT nextval('purchase_details_id_seq')") > 3);
+            assertNull(queryString(connection, "SELECT to_regclass('purchases_legacy')::text"));
+        }
+    }
+
+    @Test
+    void archivesPartitionsOlderThanAMonth() throws SQLException {
+        migrateWithLegacyPurchases();
+
+        try (Connection connection = connect()) {
+            long archived = queryLong(connection, "SELECT archive_purchase_partitions(CAST(date_trunc('month', CURRENT_DATE) AS DATE), NULL)");
+
+            assertEquals(3, archived);
+            assertEquals(1, queryLong(connection, "SELECT COUNT(*) FROM purchases"));
+            assertEquals(1, queryLong(connection, "SELECT COUNT(*) FROM purchases_archive.purchases_" + suffix(oldPurchaseDate)));
+            assertEquals(2, queryLong(connection, "SELECT COUNT(*) FROM purchases_archive.purchase_details_" + suffix(oldPurchaseDate)));
+            assertEquals(0, queryLong(connection, """
+                    SELECT COUNT(*) FROM pg_constraint
+                    WHERE conrelid = 'purchases_archive.purchase_details_%s'::regclass AND confrelid = 'purchases'::regclass
+                    """.formatted(suffix(oldPurchaseDate))));
+            assertEquals(0, queryLong(connection, "SELECT archive_purchase_partitions(CAST(date_trunc('month', CURRENT_DATE) AS DATE), NULL)"));
+        }
+    }
+
+    @Test
+    void movesDefaultPartitionRowsIntoNewMonthlyPartitions() throws SQLException {
+        LocalDateTime futurePurchaseDate = currentPurchaseDate.plusMonths(6);
+        migrateWithLegacyPurchases();
+        flyway(null).migrate();
+
+        try (Connection connection = connect()) {
+            execute(connection, """
+                    INSERT INTO purchases (id, user_id, purchase_date, total_amount, payment_status, payment_method, reference_code)
+                    VALUES (10, 100, '%s', 10000, 0, 0, 'FM-0000000000010')
+                    """.formatted(futurePurchaseDate));
+            execute(connection, """
+                    INSERT INTO purchase_details (id, purchase_id, purchase_date, film_id, quantity, unit_price, genre)
+                    VALUES (10, 10, '%s', 100, 1, 10000, 0)
+                    """.formatted(futurePurchaseDate));
+
+            assertEquals("purchases_default", queryString(connection, "SELECT tableoid::regclass::text FROM purchases WHERE id = 10"));
+            assertEquals(2, queryLong(connection, "SELECT create_purchase_partitions(CAST('%s' AS DATE), 1)".formatted(futurePurchaseDate.toLocalDate())));
+            assertEquals("purchases_" + suffix(futurePurchaseDate), queryString(connection, "SELECT tableoid::regclass::text FROM purchases WHERE id = 10"));
+            assertEquals("purchase_details_" + suffix(futurePurchaseDate), queryString(connection, "SELECT tableoid::regclass::text FROM purchase_details WHERE id = 10"));
+            assertEquals(0, queryLong(connection, "SELECT (SELECT COUNT(*) FROM purchases_default) + (SELECT COUNT(*) FROM purchase_details_default)"));
+        }
+    }
+
+    private void migrateWithLegacyPurchases() throws SQLException {
+        flyway("14").migrate();
+
+        try (Connection connection = connect()) {
+            execute(connection, """
+                    INSERT INTO users (id, name, last_name, phone, email, password, role)
+                    VALUES (100, 'Ana', 'Gomez', '3001234567', 'ana.gomez@example.com', 'secret', 0)
+                    """);
+            execute(connection, """
+                    INSERT INTO films (id, title, description, image_key, genre, classification, duration, ticket_price)
+                    VALUES (100, 'Film', 'Description', 'films/100.jpg', 0, 0, 90, 10000)
+                    """);
+
+            insertPurchase(connection, 1, oldPurchaseDate);
+            insertPurchase(connection, 2, currentPurchaseDate);
+            execute(connection, """
+                    INSERT INTO purchase_details (id, purchase_id, film_id, quantity, unit_price)
+                    VALUES (1, 1, 100, 2, 10000), (2, 1, 100, 1, 10000), (3, 2, 100, 1, 10000)
+                    """);
+        }
+
+        flyway("15").migrate();
+    }
+
+    private void insertPurchase(Connection connection, long id, LocalDateTime purchaseDate) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                INSERT INTO purchases (id, user_id, purchase_date, total_amount, payment_status, payment_method)
+                VALUES (?, 100, ?, 30000, 0, 0)
+                """)) {
+            statement.setLong(1, id);
+            statement.setObject(2, purchaseDate);
+            statement.executeUpdate();
+        }
+    }
+
+    private Flyway flyway(String target) {
+        return Flyway.configure()
+                .dataSource(URL, USER, PASSWORD)
+                .schemas("public", "purchases_archive")
+                .cleanDisabled(false)
+                .target(target == null ? "latest" : target)
+                .load();
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(URL, USER, PASSWORD);
+    }
+
+    private String suffix(LocalDateTime purchaseDate) {
+        return purchaseDate.format(PARTITION_SUFFIX);
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String queryString(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static long queryLong(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package co.com.vortex.films.application.service.implementation;
+
+import co.com.vortex.films.application.repository.UserRepository;
+import co.com.vortex.films.application.service.ITokenService;
+import co.com.vortex.films.domain.dto.authentication.AuthenticationRequest;
+import co.com.vortex.films.domain.dto.authentication.AuthenticationResponse;
+import co.com.vortex.films.domain.models.User;
+import co.com.vortex.films.domain.models.UserRole;
+import co.com.vortex.films.domain.validators.AuthenticationValidator;
+import co.com.vortex.films.infrastructure.exceptions.TooManyRequestsException;
+import co.com.vortex.films.infrastructure.exceptions.UnauthorizedException;
+import co.com.vortex.films.infrastructure.security.IssuedToken;
+import co.com.vortex.films.infrastructure.security.LoginRateLimiter;
+import co.com.vortex.films.infrastructure.security.PasswordHasher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class AuthenticationServiceTest {
+    private static final String EMAIL = "ana.gomez@example.com";
+    private static final String PASSWORD = "Secret123*";
+    private static final Instant EXPIRES_AT = Instant.parse("2026-10-19T05:00:00Z");
+    private static final String PASSWORD_HASH = new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final BCryptPasswordEncoder bCryptPasswordEncoder = spy(new BCryptPasswordEncoder(4));
+    private final LoginRateLimiter loginRateLimiter = new LoginRateLimiter(100, 100, Duration.ofSeconds(1), 3, Duration.ofMinutes(1));
+    private final ITokenService tokenService = mock(ITokenService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+    private PasswordHasher passwordHasher;
+    private AuthenticationService authenticationService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        passwordHasher = new PasswordHasher(bCryptPasswordEncoder, 1, 1);
+        authenticationService = new AuthenticationService(userRepository, passwordHasher, loginRateLimiter, tokenService, transactionTemplate);
+        when(tokenService.generateToken(any())).thenReturn(new IssuedToken("token", "Bearer", EXPIRES_AT));
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    void signsInWithOneLookupAndOnePasswordCheck() throws Exception {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(newUser(true));
+
+        AuthenticationResponse authenticationResponse = authenticationService.signIn(new AuthenticationRequest(EMAIL, PASSWORD));
+
+        assertEquals("token", authenticationResponse.getAccessToken());
+        assertEquals(EXPIRES_AT.toEpochMilli(), authenticationResponse.getExpiresIn());
+        verify(userRepository).findByEmail(EMAIL);
+        verify(userRepository, never()).updatePassword(anyLong(), anyString());
+        verifyNoMoreInteractions(userRepository);
+        verify(bCryptPasswordEncoder).matches(anyString(), anyString());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void checksAPasswordEvenForUnknownEmails() {
+        UnauthorizedException exception = assertThrows(UnauthorizedException.class, () -> authenticationService.signIn(new AuthenticationRequest(EMAIL, PASSWORD)));
+
+        assertEquals(AuthenticationValidator.INCORRECT_CREDENTIALS, exception.getMessage());
+        verify(bCryptPasswordEncoder).matches(anyString(), anyString());
+    }
+
+    @Test
+    void rejectsWrongPasswordsBeforeRevealingTheStatus() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(newUser(false));
+
+        UnauthorizedException exception = assertThrows(UnauthorizedException.class, () -> authenticationService.signIn(new AuthenticationRequest(EMAIL, "Wrong123*")));
+
+        assertEquals(AuthenticationValidator.INCORRECT_CREDENTIALS, exception.getMessage());
+    }
+
+    @Test
+    void rejectsDisabledUsers() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(newUser(false));
+
+        UnauthorizedException exception = assertThrows(UnauthorizedException.class, () -> authenticationService.signIn(new AuthenticationRequest(EMAIL, PASSWORD)));
+
+        assertEquals(AuthenticationValidator.USER_NOT_ENABLED, exception.getMessage());
+    }
+
+    @Test
+    void rehashesPasswordsMadeWithALowerCost() throws Exception {
+        BCryptPasswordEncoder strongerEncoder = new BCryptPasswordEncoder(5);
+        passwordHasher.shutdown();
+        passwordHasher = new PasswordHasher(strongerEncoder, 1, 1);
+        authenticationService = new AuthenticationService(userRepository, passwordHasher, loginRateLimiter, tokenService, transactionTemplate);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(newUser(true));
+
+        authenticationService.signIn(new AuthenticationRequest(EMAIL, PASSWORD));
+
+        verify(userRepository).updatePassword(eq(1L), argThat(password -> password.startsWith("$2a$05$") && strongerEncoder.matches(PASSWORD, password)));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void throttlesRepeatedAttemptsOnOneAccount() {
+        for (int i = 0; i < 3; i++) assertThrows(UnauthorizedException.class, () -> authenticationService.signIn(new AuthenticationRequest(EMAIL, PASSWORD)));
+
+        assertThrows(TooManyRequestsException.class, () -> authenticationService.signIn(new AuthenticationRequest(EMAIL.toUpperCase(), PASSWORD)));
+        verify(bCryptPasswordEncoder, times(3)).matches(anyString(), anyString());
+    }
+
+    private User newUser(boolean enabled) {
+        return User.builder()
+                .id(1L)
+                .email(EMAIL)
+                .password(PASSWORD_HASH)
+                .role(UserRole.USER)
+                .enabled(enabled)
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package co.com.vortex.films.application.service.implementation;
+
+import co.com.vortex.films.application.repository.IdempotentRequestRepository;
+import co.com.vortex.films.domain.dto.purchase.PurchaseResponse;
+import co.com.vortex.films.infrastructure.exceptions.ConflictException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IdempotencyServiceTest {
+    private static final String IDEMPOTENCY_KEY = "8f14e45f-ceea-467f-a0e6-1b1b0b6c4c55";
+    private static final Long USER_ID = 1L;
+
+    private final AtomicInteger purchases = new AtomicInteger();
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        idempotencyService = new IdempotencyService(mock(IdempotentRequestRepository.class), transactionTemplate, new ObjectMapper().findAndRegisterModules(), DataSize.ofMegabytes(1), Duration.ofHours(24));
+    }
+
+    @Test
+    void replaysStoredResponseWithoutRunningTheActionAgain() {
+        PurchaseResponse first = idempotencyService.execute(USER_ID, IDEMPOTENCY_KEY, Map.of("userId", 1), PurchaseResponse.class, this::purchase);
+        PurchaseResponse retry = idempotencyService.execute(USER_ID, IDEMPOTENCY_KEY, Map.of("userId", 1), PurchaseResponse.class, this::purchase);
+
+        assertEquals(first, retry);
+        assertEquals(1, purchases.get());
+    }
+
+    @Test
+    void coalescesConcurrentDuplicatesOntoTheInFlightRequest() throws Exception {
+        int retries = 8;
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(retries);
+        try {
+            Future<PurchaseResponse> original = executor.submit(() -> idempotencyService.execute(USER_ID, IDEMPOTENCY_KEY, Map.of("userId", 1), PurchaseResponse.class, () -> {
+                started.countDown();
+                await(release);
+                return purchase();
+            }));
+            started.await();
+
+            List<Future<PurchaseResponse>> duplicates = new ArrayList<>();
+            for (int i = 1; i < retries; i++) {
+                duplicates.add(executor.submit(() -> idempotencyService.execute(USER_ID, IDEMPOTENCY_KEY, Map.of("userId", 1), PurchaseResponse.class, this::purchase)));
+            }
+            release.countDown();
+
+            PurchaseResponse response = original.get(5, TimeUnit.SECONDS);
+            for (Future<PurchaseResponse> duplicate : duplicates) assertEquals(response, duplicate.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, purchases.get());
+    }
+
+    @Test
+    void rejectsKeyReusedWithDifferentRequest() {
+        idempotencyService.execute(USER_ID, IDEMPOTENCY_KEY, Map.of("userId", 1), PurchaseResponse.class, this::purchase);
+
+        assertThrows(ConflictException.class, () -> idempotencyService.execute(USER_ID, IDEMPOTENCY_KEY, Map.of("userId", 2), PurchaseResponse.class, this::purchase));
+        assertEquals(1, purchases.get());
+    }
+
+    @Test
+    void keepsTheSameKeyApartForDifferentUsers() {
+        PurchaseResponse first = idempotencyService.execute(USER_ID, IDEMPOTENCY_KEY, Map.of("userId", 1), PurchaseResponse.class, this::purchase);
+        PurchaseResponse other = idempotencyService.execute(USER_ID + 1, IDEMPOTENCY_KEY, Map.of("userId", 2), PurchaseResponse.class, this::purchase);
+
+        assertNotEquals(first, other);
+        assertEquals(2, purchases.get());
+    }
+
+    @Test
+    void runsAgainAfterAFailedAttempt() {
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute(USER_ID, IDEMPOTENCY_KEY, Map.of("userId", 1), PurchaseResponse.class, () -> {
+            throw new IllegalStateException();
+        }));
+
+        assertNotNull(idempotencyService.execute(USER_ID, IDEMPOTENCY_KEY, Map.of("userId", 1), PurchaseResponse.class, this::purchase));
+        assertEquals(1, purchases.get());
+    }
+
+    private PurchaseResponse purchase() {
+        return PurchaseResponse.builder()
+                .id((long) purchases.incrementAndGet())
+                .userId(1L)
+                .totalAmount(30000)
+                .details(List.of())
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
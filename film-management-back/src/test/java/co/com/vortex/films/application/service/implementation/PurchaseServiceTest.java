@@ -0,0 +1,188 @@
+package co.com.vortex.films.application.service.implementation;
+
+import co.com.vortex.films.application.repository.FilmRepository;
+import co.com.vortex.films.application.repository.PurchaseReferenceCodeRepository;
+import co.com.vortex.films.application.repository.PurchaseRepository;
+import co.com.vortex.films.application.repository.UserRepository;
+import co.com.vortex.films.application.service.IEmailOutboxService;
+import co.com.vortex.films.application.service.ISalesRollupService;
+import co.com.vortex.films.application.service.ISeatReservationService;
+import co.com.vortex.films.domain.dto.purchase.CreatePurchaseRequest;
+import co.com.vortex.films.domain.dto.purchase.PurchaseReferenceResponse;
+import co.com.vortex.films.domain.dto.purchase.PurchaseResponse;
+import co.com.vortex.films.domain.dto.purchasedetail.CreatePurchaseDetailRequest;
+import co.com.vortex.films.domain.models.*;
+import co.com.vortex.films.infrastructure.cache.SignedUrlCache;
+import co.com.vortex.films.infrastructure.config.JpaConfig;
+import co.com.vortex.films.infrastructure.exceptions.NotFoundException;
+import co.com.vortex.films.infrastructure.export.DataExporter;
+import co.com.vortex.films.infrastructure.reference.ReferenceCodeGenerator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@Import(JpaConfig.class)
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PurchaseServiceTest {
+    @Autowired
+    private PurchaseRepository purchaseRepository;
+
+    @Autowired
+    private PurchaseReferenceCodeRepository purchaseReferenceCodeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FilmRepository filmRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private PurchaseService purchaseService;
+    private Statistics statistics;
+    private User user;
+    private List<Film> films;
+
+    @BeforeEach
+    void setUp() {
+        purchaseService = new PurchaseService(purchaseRepository, purchaseReferenceCodeRepository, userRepository, filmRepository, mock(IEmailOutboxService.class), mock(ISeatReservationService.class), mock(ISalesRollupService.class), mock(DataExporter.class), mock(SignedUrlCache.class), new ReferenceCodeGenerator(0));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        user = userRepository.save(User.builder().name("Ana").lastName("Gomez").phone("3001234567").email("ana.gomez@example.com").password("secret").build());
+        films = filmRepository.saveAll(IntStream.range(0, 20)
+                .mapToObj(i -> Film.builder()
+                        .title("Film " + i)
+                        .description("Description " + i)
+                        .imageKey("films/" + i + ".jpg")
+                        .genre(FilmGenre.DRAMA)
+                        .classification(FilmClassification.ALL_AUDIENCES)
+                        .duration(90)
+                        .ticketPrice(10000 + i)
+                        .build())
+                .toList());
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void resolvesOrderWithConstantQueryCount() {
+        long singleLineStatements = countStatements(1);
+        long twentyLineStatements = countStatements(20);
+
+        assertEquals(singleLineStatements, twentyLineStatements);
+    }
+
+    @Test
+    void pagesPurchaseHistoryWithConstantQueryCount() {
+        IntStream.range(0, 20).forEach(i -> purchaseService.save(toRequest(1 + i % 5)));
+        entityManager.flush();
+        entityManager.clear();
+
+        long smallPageStatements = countStatements(() -> purchaseService.findAll(PageRequest.of(0, 5)));
+        long fullPageStatements = countStatements(() -> purchaseService.findAll(PageRequest.of(0, 20)));
+        long userPageStatements = countStatements(() -> purchaseService.findByUserId(user.getId(), PageRequest.of(0, 20)));
+
+        assertEquals(smallPageStatements, fullPageStatements);
+        assertTrue(fullPageStatements <= 3);
+        assertTrue(userPageStatements <= 2);
+    }
+
+    @Test
+    void findsPurchaseByReferenceCode() {
+        PurchaseResponse purchase = purchaseService.save(toRequest(2));
+        entityManager.flush();
+        entityManager.clear();
+
+        PurchaseReferenceResponse reference = purchaseService.findByReferenceCode(purchase.getReferenceCode());
+
+        assertEquals(purchase.getId(), reference.getPurchaseId());
+        assertEquals(user.getId(), reference.getUserId());
+        assertThrows(NotFoundException.class, () -> purchaseService.findByReferenceCode(new ReferenceCodeGenerator(1).next()));
+    }
+
+    @Test
+    void rejectsReferenceCodesThatWereAlreadyIssued() {
+        PurchaseResponse purchase = purchaseService.save(toRequest(1));
+
+        assertEquals(purchase.getId(), purchaseReferenceCodeRepository.findById(purchase.getReferenceCode()).orElseThrow().getPurchaseId());
+        assertThrows(DataIntegrityViolationException.class, () -> purchaseReferenceCodeRepository.register(purchase.getReferenceCode(), purchase.getId() + 1, purchase.getPurchaseDate().plusMonths(1)));
+    }
+
+    @Test
+    void findsPurchaseWithinItsPurchaseDay() {
+        PurchaseResponse purchase = purchaseService.save(toRequest(2));
+        entityManager.flush();
+        entityManager.clear();
+
+        LocalDate purchaseDate = purchase.getPurchaseDate().toLocalDate();
+
+        assertEquals(2, purchaseService.findById(purchase.getId(), purchaseDate).getDetails().size());
+        assertThrows(NotFoundException.class, () -> purchaseService.findById(purchase.getId(), purchaseDate.minusMonths(1)));
+    }
+
+    @Test
+    void calculatesTotalFromResolvedFilms() {
+        PurchaseResponse purchase = purchaseService.save(toRequest(3));
+
+        assertEquals(3 * 10000 + 2 * 10001 + 3 * 10002, purchase.getTotalAmount());
+        assertEquals(3, purchase.getDetails().size());
+    }
+
+    @Test
+    void reportsAllMissingFilmsTogether() {
+        CreatePurchaseRequest request = toRequest(2);
+        request.getDetails().add(new CreatePurchaseDetailRequest(-2L, 1, null));
+        request.getDetails().add(new CreatePurchaseDetailRequest(-1L, 1, null));
+
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> purchaseService.save(request));
+
+        assertTrue(exception.getMessage().contains("[-2, -1]"));
+    }
+
+    private long countStatements(int lines) {
+        return countStatements(() -> purchaseService.save(toRequest(lines)));
+    }
+
+    private long countStatements(Runnable action) {
+        statistics.clear();
+
+        action.run();
+        entityManager.flush();
+        entityManager.clear();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private CreatePurchaseRequest toRequest(int lines) {
+        return new CreatePurchaseRequest(user.getId(), PaymentMethod.CREDIT_CARD, IntStream.range(0, lines)
+                .mapToObj(i -> new CreatePurchaseDetailRequest(films.get(i).getId(), 3 - i % 2, null))
+                .collect(Collectors.toList()));
+    }
+}
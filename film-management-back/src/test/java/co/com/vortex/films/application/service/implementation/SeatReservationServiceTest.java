@@ -0,0 +1,250 @@
+package co.com.vortex.films.application.service.implementation;
+
+import co.com.vortex.films.application.repository.ScreeningRepository;
+import co.com.vortex.films.application.repository.ScreeningSeatHoldRepository;
+import co.com.vortex.films.application.repository.SeatInventoryRepository;
+import co.com.vortex.films.domain.dto.screening.CreateSeatHoldRequest;
+import co.com.vortex.films.domain.dto.screening.SeatHoldResponse;
+import co.com.vortex.films.domain.models.Film;
+import co.com.vortex.films.domain.models.Screening;
+import co.com.vortex.films.domain.models.ScreeningSeatHold;
+import co.com.vortex.films.domain.projections.SeatInventoryState;
+import co.com.vortex.films.infrastructure.exceptions.ConflictException;
+import co.com.vortex.films.infrastructure.exceptions.NotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SeatReservationServiceTest {
+    private static final Long SCREENING_ID = 1L;
+    private static final Long FILM_ID = 7L;
+    private static final Long USER_ID = 3L;
+    private static final Long OTHER_USER_ID = 4L;
+    private static final int THREADS = 32;
+
+    private final AtomicReference<SeatInventoryState> inventory = new AtomicReference<>(new SeatInventoryState(new byte[0], 0L));
+    private final ReentrantLock inventoryRowLock = new ReentrantLock();
+    private final Map<UUID, ScreeningSeatHold> storedHolds = new ConcurrentHashMap<>();
+
+    @Test
+    void sellsEverySeatExactlyOnceUnderContention() throws Exception {
+        int capacity = 1000;
+        SeatReservationService seatReservationService = newService(capacity, Duration.ofMinutes(10));
+        Set<Integer> heldSeats = ConcurrentHashMap.newKeySet();
+        AtomicInteger rejected = new AtomicInteger();
+
+        runConcurrently(5000, () -> {
+            try {
+                SeatHoldResponse hold = seatReservationService.hold(SCREENING_ID, USER_ID, new CreateSeatHoldRequest(1));
+                hold.getSeats().forEach(seat -> assertTrue(heldSeats.add(seat), "Seat " + seat + " was held twice"));
+            } catch (ConflictException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        assertEquals(capacity, heldSeats.size());
+        assertEquals(4000, rejected.get());
+        assertEquals(0, seatReservationService.getAvailableSeats(SCREENING_ID));
+    }
+
+    @Test
+    void neverOversellsWhenHoldsAreConfirmedAndReleasedConcurrently() throws Exception {
+        int capacity = 200;
+        SeatReservationService seatReservationService = newService(capacity, Duration.ofMinutes(10));
+        Set<Integer> soldSeats = ConcurrentHashMap.newKeySet();
+        AtomicInteger outstandingSeats = new AtomicInteger();
+
+        runConcurrently(5000, () -> {
+            int quantity = ThreadLocalRandom.current().nextInt(1, 5);
+            SeatHoldResponse hold;
+
+            try {
+                hold = seatReservationService.hold(SCREENING_ID, USER_ID, new CreateSeatHoldRequest(quantity));
+            } catch (ConflictException e) {
+                return;
+            }
+
+            switch (ThreadLocalRandom.current().nextInt(3)) {
+                case 0 -> seatReservationService.release(hold.getId(), USER_ID);
+                case 1 -> outstandingSeats.addAndGet(quantity);
+                default -> {
+                    try {
+                        seatReservationService.confirm(hold.getId(), USER_ID, FILM_ID, quantity);
+                        hold.getSeats().forEach(seat -> assertTrue(soldSeats.add(seat), "Seat " + seat + " was sold twice"));
+                    } catch (ConflictException e) {
+                        outstandingSeats.addAndGet(quantity);
+                    }
+                }
+            }
+        });
+
+        BitSet persistedSeats = BitSet.valueOf(inventory.get().soldSeats());
+
+        assertEquals(soldSeats.size(), persistedSeats.cardinality());
+        assertTrue(persistedSeats.length() <= capacity);
+        assertTrue(soldSeats.size() + outstandingSeats.get() <= capacity);
+        assertEquals(capacity - soldSeats.size() - outstandingSeats.get(), seatReservationService.getAvailableSeats(SCREENING_ID));
+    }
+
+    @Test
+    void restoresSoldSeatsFromTheInventory() {
+        BitSet sold = new BitSet();
+        sold.set(0, 8);
+        inventory.set(new SeatInventoryState(sold.toByteArray(), 3L));
+
+        SeatReservationService seatReservationService = newService(10, Duration.ofMinutes(10));
+        SeatHoldResponse hold = seatReservationService.hold(SCREENING_ID, USER_ID, new CreateSeatHoldRequest(2));
+
+        assertEquals(List.of(9, 10), hold.getSeats());
+        assertThrows(ConflictException.class, () -> seatReservationService.hold(SCREENING_ID, USER_ID, new CreateSeatHoldRequest(1)));
+    }
+
+    @Test
+    void keepsOtherHoldsWhenSeatsWereSoldElsewhere() {
+        SeatReservationService seatReservationService = newService(6, Duration.ofMinutes(10));
+        SeatHoldResponse lost = seatReservationService.hold(SCREENING_ID, USER_ID, new CreateSeatHoldRequest(2));
+        SeatHoldResponse kept = seatReservationService.hold(SCREENING_ID, USER_ID, new CreateSeatHoldRequest(2));
+
+        BitSet soldElsewhere = new BitSet();
+        soldElsewhere.set(0);
+        inventory.set(new SeatInventoryState(soldElsewhere.toByteArray(), 1L));
+
+        assertThrows(ConflictException.class, () -> seatReservationService.confirm(lost.getId(), USER_ID, FILM_ID, 2));
+        assertEquals(3, seatReservationService.getAvailableSeats(SCREENING_ID));
+
+        SeatHoldResponse next = seatReservationService.hold(SCREENING_ID, USER_ID, new CreateSeatHoldRequest(3));
+        assertEquals(List.of(2, 5, 6), next.getSeats());
+
+        seatReservationService.confirm(kept.getId(), USER_ID, FILM_ID, 2);
+        assertEquals(Set.of(0, 2, 3), BitSet.valueOf(inventory.get().soldSeats()).stream().boxed().collect(Collectors.toSet()));
+    }
+
+    @Test
+    void releasesSoldSeatsOfDeletedPurchaseLines() {
+        SeatReservationService seatReservationService = newService(4, Duration.ofMinutes(10));
+        SeatHoldResponse hold = seatReservationService.hold(SCREENING_ID, USER_ID, new CreateSeatHoldRequest(3));
+        BitSet seats = seatReservationService.confirm(hold.getId(), USER_ID, FILM_ID, 3).seats();
+
+        seatReservationService.releaseSold(SCREENING_ID, seats);
+
+        assertEquals(4, seatReservationService.getAvailableSeats(SCREENING_ID));
+        assertTrue(BitSet.valueOf(inventory.get().soldSeats()).isEmpty());
+    }
+
+    @Test
+    void onlyLetsTheOwnerConfirmOrReleaseAHold() {
+        SeatReservationService seatReservationService = newService(4, Duration.ofMinutes(10));
+        SeatHoldResponse hold = seatReservationService.hold(SCREENING_ID, USER_ID, new CreateSeatHoldRequest(2));
+
+        assertThrows(NotFoundException.class, () -> seatReservationService.confirm(hold.getId(), OTHER_USER_ID, FILM_ID, 2));
+        assertThrows(NotFoundException.class, () -> seatReservationService.release(hold.getId(), OTHER_USER_ID));
+
+        seatReservationService.confirm(hold.getId(), USER_ID, FILM_ID, 2);
+        assertEquals(2, BitSet.valueOf(inventory.get().soldSeats()).cardinality());
+        assertTrue(storedHolds.isEmpty());
+    }
+
+    @Test
+    void confirmsHoldsPlacedOnAnotherInstance() {
+        SeatReservationService holdingInstance = newService(4, Duration.ofMinutes(10));
+        SeatReservationService confirmingInstance = newService(4, Duration.ofMinutes(10));
+        SeatHoldResponse hold = holdingInstance.hold(SCREENING_ID, USER_ID, new CreateSeatHoldRequest(3));
+
+        assertEquals(hold.getSeats().stream().map(seat -> seat - 1).collect(Collectors.toSet()), confirmingInstance.confirm(hold.getId(), USER_ID, FILM_ID, 3).seats().stream().boxed().collect(Collectors.toSet()));
+        assertEquals(1, confirmingInstance.getAvailableSeats(SCREENING_ID));
+        assertThrows(NotFoundException.class, () -> holdingInstance.confirm(hold.getId(), USER_ID, FILM_ID, 3));
+        assertEquals(3, BitSet.valueOf(inventory.get().soldSeats()).cardinality());
+    }
+
+    @Test
+    void releasesExpiredHolds() {
+        SeatReservationService seatReservationService = newService(4, Duration.ZERO);
+
+        seatReservationService.hold(SCREENING_ID, USER_ID, new CreateSeatHoldRequest(4));
+        assertEquals(0, seatReservationService.getAvailableSeats(SCREENING_ID));
+
+        seatReservationService.releaseExpiredHolds();
+
+        assertEquals(4, seatReservationService.getAvailableSeats(SCREENING_ID));
+    }
+
+    private SeatReservationService newService(int capacity, Duration holdTtl) {
+        Screening screening = Screening.builder()
+                .id(SCREENING_ID)
+                .film(Film.builder().id(FILM_ID).build())
+                .startsAt(LocalDateTime.now().plusDays(1))
+                .capacity(capacity)
+                .build();
+
+        ScreeningRepository screeningRepository = mock(ScreeningRepository.class);
+        when(screeningRepository.findById(SCREENING_ID)).thenReturn(Optional.of(screening));
+        when(screeningRepository.getReferenceById(SCREENING_ID)).thenReturn(screening);
+
+        // The row lock is held from the locking read until the write, standing in for the transaction that would release it on commit.
+        SeatInventoryRepository seatInventoryRepository = mock(SeatInventoryRepository.class);
+        when(seatInventoryRepository.findState(SCREENING_ID)).thenAnswer(invocation -> Optional.of(inventory.get()));
+        when(seatInventoryRepository.findSoldSeatsForUpdate(SCREENING_ID)).thenAnswer(invocation -> {
+            inventoryRowLock.lock();
+            return Optional.of(inventory.get().soldSeats());
+        });
+        when(seatInventoryRepository.updateSoldSeats(anyLong(), any(), anyInt())).thenAnswer(invocation -> {
+            SeatInventoryState current = inventory.get();
+            inventory.set(new SeatInventoryState(invocation.getArgument(1), current.version() + 1));
+            inventoryRowLock.unlock();
+
+            return 1;
+        });
+
+        ScreeningSeatHoldRepository screeningSeatHoldRepository = mock(ScreeningSeatHoldRepository.class);
+        when(screeningSeatHoldRepository.save(any())).thenAnswer(invocation -> {
+            ScreeningSeatHold screeningSeatHold = invocation.getArgument(0);
+            storedHolds.put(screeningSeatHold.getId(), screeningSeatHold);
+
+            return screeningSeatHold;
+        });
+        when(screeningSeatHoldRepository.findById(any())).thenAnswer(invocation -> Optional.ofNullable(storedHolds.get(invocation.getArgument(0))));
+        when(screeningSeatHoldRepository.deleteByIdAndUserId(any(), anyLong())).thenAnswer(invocation -> {
+            ScreeningSeatHold screeningSeatHold = storedHolds.get(invocation.<UUID>getArgument(0));
+            boolean owned = screeningSeatHold != null && screeningSeatHold.getUserId().equals(invocation.getArgument(1));
+
+            return owned && storedHolds.remove(screeningSeatHold.getId(), screeningSeatHold) ? 1 : 0;
+        });
+
+        return new SeatReservationService(screeningRepository, seatInventoryRepository, screeningSeatHoldRepository, holdTtl);
+    }
+
+    private void runConcurrently(int attempts, Runnable attempt) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    attempt.run();
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package co.com.vortex.films.application.service.implementation;
+
+import co.com.vortex.films.domain.dto.authentication.JwkResponse;
+import co.com.vortex.films.domain.models.User;
+import co.com.vortex.films.domain.models.UserRole;
+import co.com.vortex.films.infrastructure.security.IssuedToken;
+import co.com.vortex.films.infrastructure.security.SigningKeyStore;
+import co.com.vortex.films.infrastructure.security.VerifiedToken;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceTest {
+    private static final String PASSWORD = "changeit";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void acceptsTokensSignedByAnotherNodeWithTheSameKeystore() throws Exception {
+        Path keystore = directory.resolve("jwt.p12");
+        generateKey(keystore, "2026-10", "-1d");
+
+        TokenService firstNode = new TokenService(newKeyStore(keystore));
+        TokenService secondNode = new TokenService(newKeyStore(keystore));
+
+        String token = firstNode.generateToken(newUser()).accessToken();
+
+        assertEquals("2026-10", JWT.decode(token).getKeyId());
+        assertEquals("ana.gomez@example.com", secondNode.verify(token).subject());
+    }
+
+    @Test
+    void embedsTheAuthorizationClaims() throws Exception {
+        Path keystore = directory.resolve("jwt.p12");
+        generateKey(keystore, "2026-10", "-1d");
+
+        TokenService tokenService = new TokenService(newKeyStore(keystore));
+        User user = newUser();
+        user.setRole(UserRole.ADMIN);
+        user.setSecurityStamp(3);
+
+        VerifiedToken verifiedToken = tokenService.verify(tokenService.generateToken(user).accessToken());
+
+        assertEquals(1L, verifiedToken.userId());
+        assertEquals(UserRole.ADMIN, verifiedToken.role());
+        assertTrue(verifiedToken.enabled());
+        assertEquals(3, verifiedToken.securityStamp());
+    }
+
+    @Test
+    void returnsTheExpiryOfTheIssuedToken() throws Exception {
+        Path keystore = directory.resolve("jwt.p12");
+        generateKey(keystore, "2026-10", "-1d");
+
+        IssuedToken issuedToken = new TokenService(newKeyStore(keystore)).generateToken(newUser());
+
+        assertEquals("Bearer", issuedToken.tokenType());
+        assertEquals(JWT.decode(issuedToken.accessToken()).getExpiresAtAsInstant(), issuedToken.expiresAt());
+    }
+
+    @Test
+    void publishesStagedKeysBeforeSigningWithThem() throws Exception {
+        Path keystore = directory.resolve("jwt.p12");
+        generateKey(keystore, "2026-10", "-1d");
+        generateKey(keystore, "2026-11", "+1d");
+
+        TokenService tokenService = new TokenService(newKeyStore(keystore));
+
+        assertEquals("2026-10", JWT.decode(tokenService.generateToken(newUser()).accessToken()).getKeyId());
+        assertEquals(List.of("2026-11", "2026-10"), tokenService.getJwks().getKeys().stream().map(JwkResponse::getKid).toList());
+    }
+
+    @Test
+    void picksUpKeysRotatedInOnAnotherNode() throws Exception {
+        Path keystore = directory.resolve("jwt.p12");
+        generateKey(keystore, "2026-10", "-1d");
+
+        TokenService verifyingNode = new TokenService(newKeyStore(keystore));
+
+        generateKey(keystore, "2026-11", "-1H");
+        String token = new TokenService(newKeyStore(keystore)).generateToken(newUser()).accessToken();
+
+        assertEquals("2026-11", JWT.decode(token).getKeyId());
+        assertEquals("ana.gomez@example.com", verifyingNode.verify(token).subject());
+    }
+
+    @Test
+    void rejectsTokensOfAnotherKeystore() throws Exception {
+        Path keystore = directory.resolve("jwt.p12");
+        Path otherKeystore = directory.resolve("other.p12");
+        generateKey(keystore, "2026-10", "-1d");
+        generateKey(otherKeystore, "2026-10", "-1d");
+
+        String token = new TokenService(newKeyStore(otherKeystore)).generateToken(newUser()).accessToken();
+
+        assertThrows(SignatureVerificationException.class, () -> new TokenService(newKeyStore(keystore)).verify(token));
+    }
+
+    private SigningKeyStore newKeyStore(Path keystore) throws Exception {
+        return new SigningKeyStore(keystore.toString(), PASSWORD, "PKCS12", Duration.ofHours(24), Duration.ZERO);
+    }
+
+    private User newUser() {
+        return User.builder().id(1L).email("ana.gomez@example.com").role(UserRole.USER).enabled(true).build();
+    }
+
+    private void generateKey(Path keystore, String alias, String startDate) throws Exception {
+        Process process = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "keytool").toString(),
+                "-genkeypair", "-keyalg", "RSA", "-keysize", "2048",
+                "-alias", alias, "-dname", "CN=Films API", "-validity", "90", "-startdate", startDate,
+                "-storetype", "PKCS12", "-keystore", keystore.toString(), "-storepass", PASSWORD, "-keypass", PASSWORD
+        ).inheritIO().start();
+
+        assertEquals(0, process.waitFor());
+    }
+}
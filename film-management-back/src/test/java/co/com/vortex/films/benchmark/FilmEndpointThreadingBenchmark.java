@@ -0,0 +1,159 @@
+package co.com.vortex.films.benchmark;
+
+import co.com.vortex.films.FilmManagementBackApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves a burst of {@code requests} concurrent {@code GET /film/enabled} calls through the whole application: Tomcat,
+ * the security filter chain, the controller's catalog version lookup on PostgreSQL and the cached page, once with
+ * Tomcat on its platform thread pool and once on virtual threads. Unlike {@link ThreadingBenchmark}, the blocking here
+ * is the application's own JDBC round trips, so the Hikari pool and driver are part of what is measured.
+ * It needs a PostgreSQL database the application can migrate; point it at a scratch database, never the application's
+ * own: it defaults to {@code films_benchmark}. The user it signs up is deleted again once the trial ends.
+ * <p>
+ * This comparison has not been run yet, so there are no recorded results for either mode. Until it has been,
+ * {@code spring.threads.virtual.enabled} stays off by default and the virtual-thread mode is opt-in only.
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=co.com.vortex.films.benchmark.FilmEndpointThreadingBenchmark \
+ *     -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5433/films_benchmark \
+ *     -Dbenchmark.jdbc.user=postgres -Dbenchmark.jdbc.password=postgres
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class FilmEndpointThreadingBenchmark {
+    private static final String URL = System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5433/films_benchmark");
+    private static final String USER = System.getProperty("benchmark.jdbc.user", "postgres");
+    private static final String PASSWORD = System.getProperty("benchmark.jdbc.password", "postgres");
+    private static final String USER_PASSWORD = "Secret123*";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"200", "1000"})
+    private int requests;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private String email;
+    private String accessToken;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FilmEndpointThreadingBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(FilmManagementBackApplication.class)
+                .properties(Map.of(
+                        "server.port", "0",
+                        "spring.threads.virtual.enabled", String.valueOf(threads.equals("virtual")),
+                        "spring.datasource.url", URL,
+                        "spring.datasource.username", USER,
+                        "spring.datasource.password", PASSWORD,
+                        "spring.mail.host", "localhost",
+                        "spring.mail.port", "25",
+                        "storage.provider", "local",
+                        "scheduling.enabled", "false"
+                ))
+                .run();
+
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(clientExecutor).build();
+        accessToken = signUp();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, USER, PASSWORD);
+             PreparedStatement statement = connection.prepareStatement("DELETE FROM users WHERE email = ?")) {
+            statement.setString(1, email);
+            statement.executeUpdate();
+        } finally {
+            httpClient.close();
+            clientExecutor.shutdownNow();
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public int serveBurst() {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/film/enabled?size=20"))
+                .header("Authorization", "Bearer " + accessToken)
+                .GET()
+                .build();
+
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+
+        int served = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            int status = response.join().statusCode();
+            if (status != 200) throw new IllegalStateException("GET /film/enabled answered " + status);
+
+            served++;
+        }
+
+        return served;
+    }
+
+    private String signUp() throws Exception {
+        email = "benchmark+" + UUID.randomUUID() + "@example.com";
+        String body = objectMapper.writeValueAsString(Map.of(
+                "name", "Benchmark",
+                "lastName", "User",
+                "phone", String.valueOf(ThreadLocalRandom.current().nextLong(3_000_000_000L, 4_000_000_000L)),
+                "email", email,
+                "password", USER_PASSWORD
+        ));
+
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/auth/signUp"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+        if (response.statusCode() / 100 != 2) throw new IllegalStateException("Sign-up answered " + response.statusCode() + ": " + response.body());
+
+        JsonNode authentication = objectMapper.readTree(response.body());
+        return authentication.get("accessToken").asText();
+    }
+}
@@ -0,0 +1,192 @@
+package co.com.vortex.films.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the legacy {@code lower(title) LIKE '%x%'} lookup with the ranked full-text/trigram search, both ranking
+ * every match and ranking only the best candidates of each branch as {@code FilmRepository.search} does, against a PostgreSQL database already migrated by Flyway. The catalog is topped up to {@code catalogSize}
+ * synthetic films before measuring, and those films are deleted again once the trial ends. Point it at a scratch
+ * database, never the application's own: it defaults to {@code films_benchmark}.
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=co.com.vortex.films.benchmark.FilmSearchBenchmark \
+ *     -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5433/films_benchmark \
+ *     -Dbenchmark.jdbc.user=postgres -Dbenchmark.jdbc.password=postgres
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class FilmSearchBenchmark {
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_CANDIDATES = 1000;
+    private static final String SYNTHETIC_IMAGE_PREFIX = "benchmark/";
+
+    private static final String LIKE_QUERY = """
+            SELECT f.id, f.title FROM films f
+            WHERE lower(f.title) LIKE '%' || lower(?) || '%'
+            LIMIT ?
+            """;
+
+    private static final String RANKED_QUERY = """
+            SELECT f.id, f.title FROM films f
+            WHERE f.search_vector @@ websearch_to_tsquery('simple', ?)
+               OR lower(?) <% lower(f.title)
+            ORDER BY ts_rank_cd(f.search_vector, websearch_to_tsquery('simple', ?))
+                   + word_similarity(lower(?), lower(f.title)) DESC, f.id
+            LIMIT ?
+            """;
+
+    private static final String CAPPED_RANKED_QUERY = """
+            WITH candidates AS (
+                (SELECT f.id FROM films f
+                 WHERE f.search_vector @@ websearch_to_tsquery('simple', ?)
+                 ORDER BY ts_rank_cd(f.search_vector, websearch_to_tsquery('simple', ?)) DESC, f.id
+                 LIMIT ?)
+                UNION
+                (SELECT f.id FROM films f
+                 WHERE lower(?) <% lower(f.title)
+                 ORDER BY word_similarity(lower(?), lower(f.title)) DESC, f.id
+                 LIMIT ?)
+            )
+            SELECT f.id, f.title FROM films f
+            JOIN candidates c ON c.id = f.id
+            ORDER BY ts_rank_cd(f.search_vector, websearch_to_tsquery('simple', ?))
+                   + word_similarity(lower(?), lower(f.title)) DESC, f.id
+            LIMIT ?
+            """;
+
+    private static final String SEED_QUERY = """
+            INSERT INTO films (title, description, image_key, genre, classification, duration, ticket_price, enabled)
+            SELECT
+                (ARRAY['Dark', 'Silent', 'Broken', 'Golden', 'Lost', 'Crimson', 'Frozen', 'Hidden'])[1 + i % 8] || ' ' ||
+                (ARRAY['Knight', 'River', 'Empire', 'Garden', 'Horizon', 'Shadow', 'Voyage', 'Kingdom'])[1 + (i / 8) % 8] || ' ' ||
+                substr(md5(i::text), 1, 8),
+                'A synthetic film about ' || md5((i * 7)::text) || ' and the ' ||
+                (ARRAY['journey', 'betrayal', 'storm', 'heist', 'romance', 'war'])[1 + i % 6] || ' that follows.',
+                ? || i || '.jpg',
+                i % 19,
+                i % 5,
+                80 + i % 100,
+                10000,
+                TRUE
+            FROM generate_series(?, ?) AS i
+            """;
+
+    @Param({"1000000"})
+    private int catalogSize;
+
+    @Param({"knight", "golden horizon", "kingdon", "betrayal"})
+    private String query;
+
+    private Connection connection;
+    private PreparedStatement likeStatement;
+    private PreparedStatement rankedStatement;
+    private PreparedStatement cappedRankedStatement;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FilmSearchBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5433/films_benchmark"),
+                System.getProperty("benchmark.jdbc.user", "postgres"),
+                System.getProperty("benchmark.jdbc.password", "postgres")
+        );
+
+        seedCatalog();
+
+        likeStatement = connection.prepareStatement(LIKE_QUERY);
+        rankedStatement = connection.prepareStatement(RANKED_QUERY);
+        cappedRankedStatement = connection.prepareStatement(CAPPED_RANKED_QUERY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("DELETE FROM films WHERE image_key LIKE ? || '%'")) {
+            statement.setString(1, SYNTHETIC_IMAGE_PREFIX);
+            statement.executeUpdate();
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public void likeSearch(Blackhole blackhole) throws SQLException {
+        likeStatement.setString(1, query);
+        likeStatement.setInt(2, PAGE_SIZE + 1);
+
+        consume(likeStatement, blackhole);
+    }
+
+    @Benchmark
+    public void rankedSearch(Blackhole blackhole) throws SQLException {
+        rankedStatement.setString(1, query);
+        rankedStatement.setString(2, query);
+        rankedStatement.setString(3, query);
+        rankedStatement.setString(4, query);
+        rankedStatement.setInt(5, PAGE_SIZE + 1);
+
+        consume(rankedStatement, blackhole);
+    }
+
+    @Benchmark
+    public void cappedRankedSearch(Blackhole blackhole) throws SQLException {
+        cappedRankedStatement.setString(1, query);
+        cappedRankedStatement.setString(2, query);
+        cappedRankedStatement.setInt(3, MAX_CANDIDATES);
+        cappedRankedStatement.setString(4, query);
+        cappedRankedStatement.setString(5, query);
+        cappedRankedStatement.setInt(6, MAX_CANDIDATES);
+        cappedRankedStatement.setString(7, query);
+        cappedRankedStatement.setString(8, query);
+        cappedRankedStatement.setInt(9, PAGE_SIZE + 1);
+
+        consume(cappedRankedStatement, blackhole);
+    }
+
+    private void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+                blackhole.consume(resultSet.getString(2));
+            }
+        }
+    }
+
+    private void seedCatalog() throws SQLException {
+        long existingFilms;
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM films")) {
+            resultSet.next();
+            existingFilms = resultSet.getLong(1);
+        }
+
+        if (existingFilms >= catalogSize) return;
+
+        try (PreparedStatement statement = connection.prepareStatement(SEED_QUERY)) {
+            statement.setString(1, SYNTHETIC_IMAGE_PREFIX);
+            statement.setLong(2, existingFilms + 1);
+            statement.setLong(3, catalogSize);
+            statement.executeUpdate();
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE films");
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package co.com.vortex.films.benchmark;
+
+import co.com.vortex.films.application.repository.UserRepository;
+import co.com.vortex.films.application.service.implementation.AuthenticationService;
+import co.com.vortex.films.application.service.implementation.TokenService;
+import co.com.vortex.films.domain.dto.authentication.AuthenticationRequest;
+import co.com.vortex.films.domain.dto.authentication.AuthenticationResponse;
+import co.com.vortex.films.domain.mappers.AuthenticationMapper;
+import co.com.vortex.films.domain.models.User;
+import co.com.vortex.films.domain.models.UserRole;
+import co.com.vortex.films.infrastructure.security.IssuedToken;
+import co.com.vortex.films.infrastructure.security.LoginRateLimiter;
+import co.com.vortex.films.infrastructure.security.PasswordHasher;
+import co.com.vortex.films.infrastructure.security.SigningKeyStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures sign-ins per second through the previous pipeline (existsByEmail and findByEmail up front, the
+ * authentication manager loading the user twice more, and the fresh token verified again for its expiry) and through
+ * the single-lookup {@link AuthenticationService}, whose BCrypt check runs on the password hashing pool. Every repository call parks for {@code lookupMicros} to stand in
+ * for a database round trip; BCrypt runs at the production strength of 10.
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=co.com.vortex.films.benchmark.SignInBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class SignInBenchmark {
+    private static final String EMAIL = "ana.gomez@example.com";
+    private static final String PASSWORD = "Secret123*";
+
+    @Param({"0", "500"})
+    private long lookupMicros;
+
+    private UserRepository userRepository;
+    private TokenService tokenService;
+    private AuthenticationManager authenticationManager;
+    private UserDetailsService legacyUserDetailsService;
+    private PasswordHasher passwordHasher;
+    private AuthenticationService authenticationService;
+    private AuthenticationRequest authenticationRequest;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SignInBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
+        User user = User.builder()
+                .id(1L)
+                .email(EMAIL)
+                .password(bCryptPasswordEncoder.encode(PASSWORD))
+                .role(UserRole.USER)
+                .enabled(true)
+                .build();
+
+        userRepository = newUserRepository(user);
+        tokenService = new TokenService(new SigningKeyStore("", "", "PKCS12", Duration.ofHours(24), Duration.ofSeconds(30)));
+
+        legacyUserDetailsService = email -> {
+            if (!userRepository.existsByEmail(email)) throw new UsernameNotFoundException(email);
+
+            return userRepository.findByEmail(email);
+        };
+
+        DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
+        authenticationProvider.setUserDetailsService(legacyUserDetailsService);
+        authenticationProvider.setPasswordEncoder(bCryptPasswordEncoder);
+        authenticationManager = new ProviderManager(authenticationProvider);
+
+        passwordHasher = new PasswordHasher(bCryptPasswordEncoder, 1, 1);
+        LoginRateLimiter loginRateLimiter = new LoginRateLimiter(1, Long.MAX_VALUE, Duration.ofSeconds(1), Long.MAX_VALUE, Duration.ofSeconds(1));
+        authenticationService = new AuthenticationService(userRepository, passwordHasher, loginRateLimiter, tokenService, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        authenticationRequest = new AuthenticationRequest(EMAIL, PASSWORD);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Benchmark
+    public AuthenticationResponse legacySignIn() throws Exception {
+        if (!userRepository.existsByEmail(authenticationRequest.getEmail())) throw new IllegalStateException();
+
+        User user = userRepository.findByEmail(authenticationRequest.getEmail());
+        if (!user.isEnabled()) throw new IllegalStateException();
+
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(authenticationRequest.getEmail(), authenticationRequest.getPassword()));
+        User authenticatedUser = (User) legacyUserDetailsService.loadUserByUsername(authenticationRequest.getEmail());
+
+        IssuedToken issuedToken = tokenService.generateToken(authenticatedUser);
+        tokenService.verify(issuedToken.accessToken());
+
+        return AuthenticationMapper.toAuthenticationResponse(issuedToken, user);
+    }
+
+    @Benchmark
+    public AuthenticationResponse signIn() throws Exception {
+        return authenticationService.signIn(authenticationRequest);
+    }
+
+    private UserRepository newUserRepository(User user) {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(), new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(lookupMicros));
+
+            return switch (method.getName()) {
+                case "existsByEmail" -> user.getEmail().equals(args[0]);
+                case "findByEmail" -> user.getEmail().equals(args[0]) ? user : null;
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        });
+    }
+}
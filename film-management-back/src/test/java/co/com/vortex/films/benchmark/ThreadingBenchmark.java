@@ -0,0 +1,95 @@
+package co.com.vortex.films.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves a burst of {@code requests} concurrent requests, each blocking for {@code ioMillis} like a JDBC or SMTP
+ * round trip, on the 200 platform threads of the default Tomcat pool and on one virtual thread per request.
+ * The pinned variants block while holding a monitor, as a {@code synchronized} driver section does, which keeps
+ * a virtual thread mounted on its carrier for the whole call.
+ * This is an executor microbenchmark: {@code Thread.sleep} stands in for the I/O and no application code runs, so it
+ * isolates how each thread model schedules blocked work. {@link FilmEndpointThreadingBenchmark} measures the same
+ * switch on a real endpoint.
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=co.com.vortex.films.benchmark.ThreadingBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgs = "-Djdk.virtualThreadScheduler.parallelism=8")
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+public class ThreadingBenchmark {
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"false", "true"})
+    private boolean pinned;
+
+    @Param({"2000", "10000"})
+    private int requests;
+
+    @Param({"10"})
+    private int ioMillis;
+
+    private ExecutorService executor;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ThreadingBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = threads.equals("virtual") ? Executors.newVirtualThreadPerTaskExecutor() : Executors.newFixedThreadPool(PLATFORM_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int serveBurst() throws Exception {
+        List<Future<Integer>> responses = new ArrayList<>(requests);
+
+        for (int i = 0; i < requests; i++) {
+            int request = i;
+            responses.add(executor.submit(() -> handle(request)));
+        }
+
+        int served = 0;
+        for (Future<Integer> response : responses) served += response.get();
+
+        return served;
+    }
+
+    private int handle(int request) throws InterruptedException {
+        if (!pinned) return block(request);
+
+        Object connection = new Object();
+        synchronized (connection) {
+            return block(request);
+        }
+    }
+
+    private int block(int request) throws InterruptedException {
+        Thread.sleep(ioMillis);
+
+        return request >= 0 ? 1 : 0;
+    }
+}
@@ -0,0 +1,94 @@
+package co.com.vortex.films.benchmark;
+
+import co.com.vortex.films.application.service.implementation.MailTemplateService;
+import co.com.vortex.films.domain.dto.mail.TicketMail;
+import co.com.vortex.films.domain.dto.mail.TicketMailLine;
+import co.com.vortex.films.domain.models.MailTemplate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.stream.IntStream;
+
+/**
+ * Measures ticket email renders per second for purchases of 1, 10 and 100 lines, with the compiled template
+ * cache enabled (production) and disabled (the previous {@code spring.thymeleaf.cache: false} setting).
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=co.com.vortex.films.benchmark.TicketEmailBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class TicketEmailBenchmark {
+    @Param({"1", "10", "100"})
+    private int lines;
+
+    @Param({"true", "false"})
+    private boolean cacheable;
+
+    private MailTemplateService mailTemplateService;
+    private TicketMail ticketMail;
+    private String serializedTicketMail;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TicketEmailBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateResolver.setCacheable(cacheable);
+
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        mailTemplateService = new MailTemplateService(templateEngine, new ObjectMapper());
+        ticketMail = TicketMail.builder()
+                .referenceCode("FM-12345")
+                .purchaseDate("2025-05-01T20:30")
+                .paymentMethod("CREDIT_CARD")
+                .totalAmount(lines * 12000)
+                .taxAmount(lines * 12000 * 0.21)
+                .grandTotal(lines * 12000 * 1.21)
+                .name("Ana")
+                .lastName("Gomez")
+                .phone("3001234567")
+                .email("ana.gomez@example.com")
+                .lines(IntStream.range(0, lines)
+                        .mapToObj(i -> TicketMailLine.builder()
+                                .title("Synthetic film " + i)
+                                .genre("DRAMA")
+                                .classification("PG_13")
+                                .duration(90 + i)
+                                .quantity(1 + i % 4)
+                                .ticketPrice(12000)
+                                .build())
+                        .toList())
+                .build();
+        serializedTicketMail = mailTemplateService.serialize(ticketMail);
+    }
+
+    @Benchmark
+    public String render() {
+        return mailTemplateService.render(MailTemplate.TICKET, ticketMail);
+    }
+
+    @Benchmark
+    public String renderSerialized() {
+        return mailTemplateService.render(MailTemplate.TICKET, serializedTicketMail);
+    }
+}
@@ -0,0 +1,49 @@
+package co.com.vortex.films.infrastructure.cache;
+
+import co.com.vortex.films.domain.models.UserRole;
+import co.com.vortex.films.infrastructure.security.VerifiedToken;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthenticationCacheTest {
+    private static final String TOKEN = "header.payload.signature";
+    private static final String EMAIL = "ana.gomez@example.com";
+
+    private final AuthenticationCache authenticationCache = new AuthenticationCache(100);
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @Test
+    void verifiesEachTokenOnce() {
+        for (int i = 0; i < 10; i++) assertEquals(EMAIL, authenticationCache.getToken(TOKEN, token -> verify(Instant.now().plusSeconds(3600))).subject());
+
+        assertEquals(1, verifications.get());
+    }
+
+    @Test
+    void verifiesExpiredTokensAgain() {
+        authenticationCache.getToken(TOKEN, token -> verify(Instant.now().minusSeconds(1)));
+        authenticationCache.getToken(TOKEN, token -> verify(Instant.now().minusSeconds(1)));
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void neverCachesRejectedTokens() {
+        assertThrows(IllegalArgumentException.class, () -> authenticationCache.getToken(TOKEN, token -> {
+            throw new IllegalArgumentException("Bad signature");
+        }));
+
+        assertEquals(EMAIL, authenticationCache.getToken(TOKEN, token -> verify(Instant.now().plusSeconds(3600))).subject());
+        assertEquals(1, verifications.get());
+    }
+
+    private VerifiedToken verify(Instant expiresAt) {
+        verifications.incrementAndGet();
+
+        return new VerifiedToken(1L, EMAIL, UserRole.USER, true, 0, expiresAt);
+    }
+}
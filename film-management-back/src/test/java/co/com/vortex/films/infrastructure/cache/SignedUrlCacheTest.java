@@ -0,0 +1,146 @@
+package co.com.vortex.films.infrastructure.cache;
+
+import co.com.vortex.films.infrastructure.storage.LocalUrlSigner;
+import co.com.vortex.films.infrastructure.storage.SignedUrl;
+import co.com.vortex.films.infrastructure.storage.SigningEpoch;
+import co.com.vortex.films.infrastructure.storage.UrlSigner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignedUrlCacheTest {
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final Duration REFRESH_AHEAD = Duration.ofHours(2);
+    private static final Duration MIN_VALIDITY = Duration.ofHours(1);
+    private static final String OBJECT_KEY = "films/poster.jpg";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger signatures = new AtomicInteger();
+    private final LocalUrlSigner localUrlSigner = new LocalUrlSigner("http://localhost/media", "secret");
+
+    private SignedUrlCache signedUrlCache;
+
+    @BeforeEach
+    void setUp() {
+        signedUrlCache = newCache(this::sign);
+    }
+
+    @Test
+    void resolvesFromCacheUntilRefreshIsDue() {
+        String first = signedUrlCache.resolve(OBJECT_KEY);
+
+        advance(TTL.minus(REFRESH_AHEAD).minusMinutes(1));
+
+        assertEquals(first, signedUrlCache.resolve(OBJECT_KEY));
+        assertEquals(1, signatures.get());
+    }
+
+    @Test
+    void resignsInBackgroundOnceRefreshIsDue() {
+        signedUrlCache.resolve(OBJECT_KEY);
+
+        advance(TTL.minus(REFRESH_AHEAD).plusSeconds(1));
+        signedUrlCache.resolve(OBJECT_KEY);
+        String refreshed = signedUrlCache.resolve(OBJECT_KEY);
+
+        assertEquals(2, signatures.get());
+        assertTrue(refreshed.startsWith("http://localhost/media/films/poster.jpg?expires="));
+    }
+
+    @Test
+    void resignsSynchronouslyOnceMinimumValidityIsReached() {
+        signedUrlCache.resolve(OBJECT_KEY);
+
+        advance(TTL.minus(MIN_VALIDITY));
+        signedUrlCache.resolve(OBJECT_KEY);
+
+        assertEquals(2, signatures.get());
+    }
+
+    @Test
+    void signsConcurrentMissesOnce() throws Exception {
+        int readers = 8;
+        CountDownLatch ready = new CountDownLatch(readers);
+        CountDownLatch signing = new CountDownLatch(1);
+        SignedUrlCache blockingCache = newCache((objectKey, ttl) -> {
+            await(signing);
+            return sign(objectKey, ttl);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        try {
+            List<Future<String>> urls = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                urls.add(executor.submit(() -> {
+                    ready.countDown();
+                    return blockingCache.resolve(OBJECT_KEY);
+                }));
+            }
+
+            ready.await();
+            signing.countDown();
+
+            String first = urls.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<String> url : urls) assertEquals(first, url.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, signatures.get());
+    }
+
+    @Test
+    void passesThroughAbsoluteUrlsAndBlankKeys() {
+        assertEquals("https://cdn.example.com/poster.jpg", signedUrlCache.resolve("https://cdn.example.com/poster.jpg"));
+        assertNull(signedUrlCache.resolve(null));
+        assertEquals(0, signatures.get());
+    }
+
+    @Test
+    void rejectsInconsistentDurations() {
+        assertThrows(IllegalArgumentException.class, () -> new SignedUrlCache(localUrlSigner, 10, TTL, MIN_VALIDITY, REFRESH_AHEAD, nanos::get, Runnable::run));
+    }
+
+    @Test
+    void changesSigningEpochOncePerMinimumValidity() {
+        long epochStart = MIN_VALIDITY.toMillis() * 1000;
+
+        SigningEpoch first = signedUrlCache.getSigningEpoch(epochStart);
+        SigningEpoch sameEpoch = signedUrlCache.getSigningEpoch(epochStart + MIN_VALIDITY.toMillis() - 1);
+        SigningEpoch next = signedUrlCache.getSigningEpoch(epochStart + MIN_VALIDITY.toMillis());
+
+        assertEquals(first, sameEpoch);
+        assertEquals(epochStart, first.startedAt());
+        assertEquals(first.number() + 1, next.number());
+    }
+
+    private SignedUrlCache newCache(UrlSigner urlSigner) {
+        return new SignedUrlCache(urlSigner, 10, TTL, REFRESH_AHEAD, MIN_VALIDITY, nanos::get, Runnable::run);
+    }
+
+    private SignedUrl sign(String objectKey, Duration ttl) {
+        signatures.incrementAndGet();
+
+        return localUrlSigner.sign(objectKey, ttl);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package co.com.vortex.films.infrastructure.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PinnedThreadMonitorTest {
+    @Test
+    void reportsTheApplicationFrameThatPinnedAVirtualThread() throws Exception {
+        PinnedThreadMonitor pinnedThreadMonitor = new PinnedThreadMonitor(Duration.ofMillis(10));
+        pinnedThreadMonitor.start();
+
+        try {
+            Thread.ofVirtual().start(this::blockWhileHoldingMonitor).join();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (pinnedThreadMonitor.getPinnedSites().isEmpty() && System.nanoTime() < deadline) Thread.sleep(100);
+
+            assertTrue(pinnedThreadMonitor.getPinnedSites().keySet().stream().anyMatch(site -> site.startsWith(PinnedThreadMonitorTest.class.getName() + ".blockWhileHoldingMonitor")),
+                    () -> "Pinned sites: " + pinnedThreadMonitor.getPinnedSites());
+        } finally {
+            pinnedThreadMonitor.stop();
+        }
+    }
+
+    private synchronized void blockWhileHoldingMonitor() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
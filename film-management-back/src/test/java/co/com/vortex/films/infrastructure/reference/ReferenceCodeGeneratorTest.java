@@ -0,0 +1,104 @@
+package co.com.vortex.films.infrastructure.reference;
+
+import co.com.vortex.films.infrastructure.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenceCodeGeneratorTest {
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+    private static final Clock FIXED_CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    void issuesUniqueCodesConcurrentlyWithinOneMillisecond() throws Exception {
+        ReferenceCodeGenerator referenceCodeGenerator = new ReferenceCodeGenerator(7, FIXED_CLOCK);
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 5000; j++) assertTrue(codes.add(referenceCodeGenerator.next()));
+                }));
+            }
+
+            for (Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(80000, codes.size());
+    }
+
+    @Test
+    void keepsCodesOrderedWhenTheClockStepsBack() {
+        MutableClock clock = new MutableClock(NOW);
+        ReferenceCodeGenerator referenceCodeGenerator = new ReferenceCodeGenerator(1, clock);
+
+        String first = referenceCodeGenerator.next();
+        clock.instant = NOW.minusSeconds(5);
+        String second = referenceCodeGenerator.next();
+        clock.instant = NOW.plusSeconds(1);
+        String third = referenceCodeGenerator.next();
+
+        assertTrue(first.compareTo(second) < 0);
+        assertTrue(second.compareTo(third) < 0);
+    }
+
+    @Test
+    void separatesNodesIssuingInTheSameMillisecond() {
+        assertNotEquals(new ReferenceCodeGenerator(1, FIXED_CLOCK).next(), new ReferenceCodeGenerator(2, FIXED_CLOCK).next());
+    }
+
+    @Test
+    void decodesTheIssueTime() {
+        String code = new ReferenceCodeGenerator(3, FIXED_CLOCK).next();
+
+        assertTrue(code.startsWith(ReferenceCodeGenerator.PREFIX));
+        assertEquals(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC), new ReferenceCodeGenerator(5, FIXED_CLOCK).issuedAt(code));
+        assertEquals(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC), new ReferenceCodeGenerator(5, FIXED_CLOCK).issuedAt(ReferenceCodeGenerator.PREFIX + code.substring(3).toLowerCase()));
+    }
+
+    @Test
+    void rejectsMalformedCodes() {
+        ReferenceCodeGenerator referenceCodeGenerator = new ReferenceCodeGenerator(0, FIXED_CLOCK);
+
+        assertThrows(BadRequestException.class, () -> referenceCodeGenerator.issuedAt("FM-12345"));
+        assertThrows(BadRequestException.class, () -> referenceCodeGenerator.issuedAt("FM-0000000000OIU"));
+        assertThrows(IllegalArgumentException.class, () -> new ReferenceCodeGenerator(1024, FIXED_CLOCK));
+    }
+
+    private static class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package co.com.vortex.films.infrastructure.reference;
+
+import co.com.vortex.films.application.repository.ReferenceCodeNodeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ReferenceCodeNodeLeaseTest {
+    private final ReferenceCodeNodeRepository referenceCodeNodeRepository = mock(ReferenceCodeNodeRepository.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    private ReferenceCodeNodeLease referenceCodeNodeLease;
+
+    @AfterEach
+    void tearDown() {
+        if (referenceCodeNodeLease != null) referenceCodeNodeLease.stop();
+    }
+
+    @Test
+    void stampsTheLeasedNodeIdIntoCodes() {
+        when(referenceCodeNodeRepository.claim(anyString(), anyLong())).thenReturn(Optional.of(7));
+        referenceCodeNodeLease = start(Duration.ofMinutes(1));
+
+        assertEquals(7, referenceCodeNodeLease.nodeId());
+        assertNotEquals(new ReferenceCodeGenerator(referenceCodeNodeLease).next(), new ReferenceCodeGenerator(8).next());
+    }
+
+    @Test
+    void failsToStartWhenEveryNodeIdIsLeased() {
+        when(referenceCodeNodeRepository.claim(anyString(), anyLong())).thenReturn(Optional.empty());
+        ReferenceCodeNodeLease lease = new ReferenceCodeNodeLease(referenceCodeNodeRepository, transactionTemplate, Duration.ofMinutes(5), Duration.ofMinutes(1));
+
+        assertThrows(IllegalStateException.class, lease::start);
+    }
+
+    @Test
+    void refusesCodesOnceTheLeaseIsReleased() {
+        when(referenceCodeNodeRepository.claim(anyString(), anyLong())).thenReturn(Optional.of(3));
+        referenceCodeNodeLease = start(Duration.ofMinutes(1));
+        ReferenceCodeGenerator referenceCodeGenerator = new ReferenceCodeGenerator(referenceCodeNodeLease);
+
+        referenceCodeNodeLease.stop();
+
+        verify(referenceCodeNodeRepository).release(eq(3), anyString());
+        assertThrows(IllegalStateException.class, referenceCodeGenerator::next);
+    }
+
+    @Test
+    void claimsAnotherNodeIdWhenTheLeaseIsLost() {
+        when(referenceCodeNodeRepository.claim(anyString(), anyLong())).thenReturn(Optional.of(3), Optional.of(9));
+        when(referenceCodeNodeRepository.renew(anyInt(), anyString(), anyLong())).thenReturn(0);
+        referenceCodeNodeLease = start(Duration.ofMillis(20));
+
+        verify(referenceCodeNodeRepository, timeout(1000).atLeast(2)).claim(anyString(), anyLong());
+        assertEquals(9, referenceCodeNodeLease.nodeId());
+    }
+
+    private ReferenceCodeNodeLease start(Duration renewInterval) {
+        ReferenceCodeNodeLease lease = new ReferenceCodeNodeLease(referenceCodeNodeRepository, transactionTemplate, Duration.ofMinutes(5), renewInterval);
+        lease.start();
+
+        return lease;
+    }
+}
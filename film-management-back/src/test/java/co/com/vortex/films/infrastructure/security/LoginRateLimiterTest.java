@@ -0,0 +1,46 @@
+package co.com.vortex.films.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginRateLimiterTest {
+    private final AtomicLong now = new AtomicLong();
+    private final LoginRateLimiter loginRateLimiter = new LoginRateLimiter(100, 3, Duration.ofSeconds(1), 2, Duration.ofMinutes(1), now::get);
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        for (int i = 0; i < 3; i++) assertTrue(loginRateLimiter.tryAcquireAddress("10.0.0.1"));
+        assertFalse(loginRateLimiter.tryAcquireAddress("10.0.0.1"));
+
+        now.addAndGet(Duration.ofMillis(1500).toNanos());
+
+        assertTrue(loginRateLimiter.tryAcquireAddress("10.0.0.1"));
+        assertFalse(loginRateLimiter.tryAcquireAddress("10.0.0.1"));
+
+        now.addAndGet(Duration.ofMillis(500).toNanos());
+
+        assertTrue(loginRateLimiter.tryAcquireAddress("10.0.0.1"));
+    }
+
+    @Test
+    void neverRefillsPastTheCapacity() {
+        now.addAndGet(Duration.ofHours(1).toNanos());
+
+        for (int i = 0; i < 3; i++) assertTrue(loginRateLimiter.tryAcquireAddress("10.0.0.1"));
+        assertFalse(loginRateLimiter.tryAcquireAddress("10.0.0.1"));
+    }
+
+    @Test
+    void keepsOneBucketPerAddressAndAccount() {
+        for (int i = 0; i < 3; i++) assertTrue(loginRateLimiter.tryAcquireAddress("10.0.0.1"));
+
+        assertTrue(loginRateLimiter.tryAcquireAddress("10.0.0.2"));
+        assertTrue(loginRateLimiter.tryAcquireAccount("ana.gomez@example.com"));
+        assertTrue(loginRateLimiter.tryAcquireAccount(" Ana.Gomez@example.com"));
+        assertFalse(loginRateLimiter.tryAcquireAccount("ana.gomez@example.com"));
+    }
+}
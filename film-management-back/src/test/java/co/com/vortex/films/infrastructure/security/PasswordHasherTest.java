@@ -0,0 +1,67 @@
+package co.com.vortex.films.infrastructure.security;
+
+import co.com.vortex.films.infrastructure.exceptions.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+    private final CountDownLatch hashing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final PasswordHasher passwordHasher = new PasswordHasher(new BlockingEncoder(), 1, 1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    void rejectsWorkBeyondTheQueueAtOnce() throws Exception {
+        Future<String> running = callers.submit(() -> passwordHasher.encode("first"));
+        assertTrue(hashing.await(5, TimeUnit.SECONDS));
+
+        // With the only thread busy and room for one queued task, one of the next two callers must be turned away.
+        CompletionService<String> waiting = new ExecutorCompletionService<>(callers);
+        waiting.submit(() -> passwordHasher.encode("second"));
+        waiting.submit(() -> passwordHasher.encode("third"));
+
+        ExecutionException rejection = assertThrows(ExecutionException.class, () -> waiting.take().get());
+        assertInstanceOf(TooManyRequestsException.class, rejection.getCause());
+
+        release.countDown();
+        assertTrue(new BCryptPasswordEncoder().matches("first", running.get(5, TimeUnit.SECONDS)));
+        assertNotNull(waiting.take().get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void detectsHashesMadeWithALowerCost() {
+        assertTrue(passwordHasher.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret")));
+        assertFalse(passwordHasher.upgradeEncoding(new BCryptPasswordEncoder(5).encode("secret")));
+    }
+
+    private class BlockingEncoder extends BCryptPasswordEncoder {
+        BlockingEncoder() {
+            super(5);
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            hashing.countDown();
+
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return super.encode(rawPassword);
+        }
+    }
+}
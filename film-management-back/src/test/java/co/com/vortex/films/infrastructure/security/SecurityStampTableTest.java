@@ -0,0 +1,68 @@
+package co.com.vortex.films.infrastructure.security;
+
+import co.com.vortex.films.application.repository.RevokedUserRepository;
+import co.com.vortex.films.application.repository.UserRepository;
+import co.com.vortex.films.domain.models.RevokedUser;
+import co.com.vortex.films.domain.projections.UserSecurityStamp;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SecurityStampTableTest {
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final RevokedUserRepository revokedUserRepository = mock(RevokedUserRepository.class);
+    private final SecurityStampTable securityStampTable = new SecurityStampTable(userRepository, revokedUserRepository, Duration.ofSeconds(30));
+
+    @Test
+    void acceptsTokensOfUsersThatNeverChanged() {
+        assertTrue(securityStampTable.isCurrent(1L, 0));
+    }
+
+    @Test
+    void rejectsTokensIssuedBeforeAChange() {
+        securityStampTable.update(1L, 2);
+
+        assertFalse(securityStampTable.isCurrent(1L, 1));
+        assertTrue(securityStampTable.isCurrent(1L, 2));
+        assertTrue(securityStampTable.isCurrent(2L, 0));
+    }
+
+    @Test
+    void rejectsEveryTokenOfRevokedUsers() {
+        securityStampTable.revoke(1L);
+
+        assertFalse(securityStampTable.isCurrent(1L, 100));
+        verify(revokedUserRepository).save(argThat((RevokedUser revokedUser) -> revokedUser.getUserId() == 1L));
+    }
+
+    @Test
+    void loadsStampsAndRevocationsBeforeServing() {
+        when(userRepository.findSecurityStampsUpdatedSince(any())).thenReturn(List.of(new UserSecurityStamp(1L, 2)));
+        when(revokedUserRepository.findUserIdsRevokedSince(any())).thenReturn(List.of(2L));
+
+        securityStampTable.start();
+
+        try {
+            assertFalse(securityStampTable.isCurrent(1L, 1));
+            assertFalse(securityStampTable.isCurrent(2L, 100));
+        } finally {
+            securityStampTable.stop();
+        }
+    }
+
+    @Test
+    void picksUpChangesMadeOnOtherNodes() {
+        when(userRepository.findSecurityStampsUpdatedSince(any())).thenReturn(List.of(new UserSecurityStamp(1L, 4)));
+
+        securityStampTable.update(1L, 3);
+        securityStampTable.refresh();
+
+        assertFalse(securityStampTable.isCurrent(1L, 3));
+        assertTrue(securityStampTable.isCurrent(1L, 4));
+    }
+}